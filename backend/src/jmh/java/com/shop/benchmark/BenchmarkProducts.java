@@ -0,0 +1,49 @@
+package com.shop.benchmark;
+
+import com.shop.entity.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크에서 사용할 상품 데이터를 만드는 유틸리티 클래스
+ */
+public final class BenchmarkProducts {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private BenchmarkProducts() {
+    }
+
+    /**
+     * 저장된 상품처럼 ID와 생성/수정 시간이 채워진 상품을 만듭니다.
+     *
+     * @param id 상품 ID
+     * @return 상품
+     */
+    public static Product product(long id) {
+        Product product = new Product("상품 " + id, "벤치마크용 상품 설명입니다. 번호: " + id,
+                BigDecimal.valueOf(1000 + id % 100_000, 2));
+        product.setId(id);
+        product.setCreatedAt(BASE_TIME.plusSeconds(id));
+        product.setUpdatedAt(BASE_TIME.plusSeconds(id));
+        product.setVersion(0L);
+        return product;
+    }
+
+    /**
+     * ID가 1부터 size까지인 상품 목록을 만듭니다.
+     *
+     * @param size 상품 수
+     * @return 상품 목록
+     */
+    public static List<Product> products(int size) {
+        List<Product> products = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            products.add(product(id));
+        }
+        return products;
+    }
+}
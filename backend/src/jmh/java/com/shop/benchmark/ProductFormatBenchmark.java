@@ -0,0 +1,88 @@
+package com.shop.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.shop.config.ProductProtobufHttpMessageConverter;
+import com.shop.entity.Product;
+import com.shop.proto.ProductListMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록의 응답 형식별(JSON, Smile, CBOR, Protobuf) 인코딩/디코딩 벤치마크
+ *
+ * Jackson 형식은 BinaryFormatConfig와 같이 날짜를 ISO 문자열로 쓰는 ObjectMapper로,
+ * Protobuf는 ProductProtobufHttpMessageConverter와 같은 변환으로 측정합니다.
+ * 디코딩은 서버가 요청 본문을 읽는 경로와 같게 Product 목록까지 변환합니다.
+ *
+ * 형식별 페이로드 크기는 측정 시작 전에 "[payload]" 줄로 출력됩니다.
+ * (실행: ./gradlew jmh -Pjmh.includes=ProductFormat)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductFormatBenchmark {
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    String format;
+
+    @Param({"10", "1000"})
+    int size;
+
+    private List<Product> products;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        products = BenchmarkProducts.products(size);
+        if (!format.equals("protobuf")) {
+            ObjectMapper objectMapper = switch (format) {
+                case "json" -> Jackson2ObjectMapperBuilder.json()
+                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+                case "smile" -> Jackson2ObjectMapperBuilder.smile()
+                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+                case "cbor" -> Jackson2ObjectMapperBuilder.cbor()
+                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+                default -> throw new IllegalArgumentException("알 수 없는 형식입니다: " + format);
+            };
+            JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, Product.class);
+            writer = objectMapper.writerFor(listType);
+            reader = objectMapper.readerFor(listType);
+        }
+        payload = encode();
+        System.out.printf("%n[payload] format=%s size=%d bytes=%d (%.1f bytes/product)%n",
+                format, size, payload.length, (double) payload.length / size);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (writer == null) {
+            return ProductProtobufHttpMessageConverter.toListMessage(products).toByteArray();
+        }
+        return writer.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public List<Product> decode() throws IOException {
+        if (reader == null) {
+            return ProductProtobufHttpMessageConverter.toProducts(ProductListMessage.parseFrom(payload));
+        }
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,88 @@
+package com.shop.benchmark;
+
+import com.shop.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Product.equals/hashCode를 해시 컬렉션에서 사용할 때의 벤치마크
+ *
+ * Product는 ID로만 같음을 판단하므로, 저장된 상품(ID 있음)과
+ * 아직 저장되지 않은 상품(ID 없음, 해시 값이 모두 0)을 나누어 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductHashingBenchmark {
+
+    @Param({"10", "1000"})
+    int size;
+
+    private List<Product> persistedProducts;
+    private List<Product> transientProducts;
+    private Set<Product> persistedSet;
+    private Map<Product, Integer> persistedMap;
+
+    @Setup
+    public void setUp() {
+        persistedProducts = BenchmarkProducts.products(size);
+        transientProducts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transientProducts.add(new Product("상품 " + i, null, BigDecimal.valueOf(1000 + i)));
+        }
+        persistedSet = new HashSet<>(persistedProducts);
+        persistedMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            persistedMap.put(persistedProducts.get(i), i);
+        }
+    }
+
+    @Benchmark
+    public Set<Product> buildHashSetOfPersisted() {
+        return new HashSet<>(persistedProducts);
+    }
+
+    @Benchmark
+    public Set<Product> buildHashSetOfTransient() {
+        return new HashSet<>(transientProducts);
+    }
+
+    @Benchmark
+    public void containsPersisted(Blackhole blackhole) {
+        for (Product product : persistedProducts) {
+            blackhole.consume(persistedSet.contains(product));
+        }
+    }
+
+    @Benchmark
+    public void mapLookupPersisted(Blackhole blackhole) {
+        for (Product product : persistedProducts) {
+            blackhole.consume(persistedMap.get(product));
+        }
+    }
+
+    @Benchmark
+    public void hashCodeAndEquals(Blackhole blackhole) {
+        Product first = persistedProducts.get(0);
+        for (Product product : persistedProducts) {
+            blackhole.consume(product.hashCode());
+            blackhole.consume(product.equals(first));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.shop.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.shop.cache.ProductJsonCache;
+import com.shop.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Product 및 List&lt;Product&gt;의 Jackson 직렬화/역직렬화 벤치마크
+ *
+ * ObjectMapper는 Spring Boot 자동 설정과 같은 방식(Jackson2ObjectMapperBuilder,
+ * 날짜를 ISO 문자열로 출력)으로 만들고, 요청마다 타입을 찾지 않도록
+ * 컨트롤러처럼 미리 만든 ObjectReader/ObjectWriter를 사용합니다.
+ *
+ * write* 벤치마크는 목록 응답 작성 방식을 비교합니다.
+ * Jackson으로 목록 전체를 직렬화하는 경우와, ProductJsonCache에 미리 직렬화된 조각을
+ * 이어 붙이는 경우(모든 상품이 캐시된 상태)를 같은 출력 스트림에 씁니다.
+ * 바이트 배열 복사 비용이 섞이지 않도록 출력은 버리는 스트림을 사용하며,
+ * 할당량 차이는 gc 프로파일러의 gc.alloc.rate.norm 으로 확인합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductJsonBenchmark {
+
+    /**
+     * 모든 벤치마크가 공유하는 ObjectMapper와 단건 상품 데이터
+     */
+    @State(Scope.Benchmark)
+    public static class SingleProduct {
+        ObjectWriter writer;
+        ObjectReader reader;
+        Product product;
+        byte[] json;
+
+        @Setup
+        public void setUp() throws IOException {
+            ObjectMapper objectMapper = createObjectMapper();
+            writer = objectMapper.writerFor(Product.class);
+            reader = objectMapper.readerFor(Product.class);
+            product = BenchmarkProducts.product(42);
+            json = writer.writeValueAsBytes(product);
+        }
+    }
+
+    /**
+     * 상품 목록 데이터 (목록 크기별로 측정)
+     */
+    @State(Scope.Benchmark)
+    public static class ProductList {
+        @Param({"10", "1000", "100000"})
+        int size;
+
+        ObjectWriter writer;
+        ObjectReader reader;
+        List<Product> products;
+        byte[] json;
+        ProductJsonCache jsonCache;
+        OutputStream out;
+
+        @Setup
+        public void setUp() throws IOException {
+            ObjectMapper objectMapper = createObjectMapper();
+            JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, Product.class);
+            writer = objectMapper.writerFor(listType);
+            reader = objectMapper.readerFor(listType);
+            products = BenchmarkProducts.products(size);
+            json = writer.writeValueAsBytes(products);
+            jsonCache = new ProductJsonCache(objectMapper, DataSize.ofMegabytes(256));
+            jsonCache.toJsonArray(products).getFragments();
+            out = OutputStream.nullOutputStream();
+        }
+    }
+
+    static ObjectMapper createObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    // =====================================================
+    // 단건 상품
+    // =====================================================
+
+    @Benchmark
+    public byte[] serializeProduct(SingleProduct state) throws IOException {
+        return state.writer.writeValueAsBytes(state.product);
+    }
+
+    @Benchmark
+    public Product deserializeProduct(SingleProduct state) throws IOException {
+        return state.reader.readValue(state.json);
+    }
+
+    // =====================================================
+    // 상품 목록
+    // =====================================================
+
+    @Benchmark
+    public byte[] serializeProductList(ProductList state) throws IOException {
+        return state.writer.writeValueAsBytes(state.products);
+    }
+
+    @Benchmark
+    public List<Product> deserializeProductList(ProductList state) throws IOException {
+        return state.reader.readValue(state.json);
+    }
+
+    // =====================================================
+    // 목록 응답 작성 (Jackson vs 미리 직렬화된 조각)
+    // =====================================================
+
+    @Benchmark
+    public void writeProductList(ProductList state) throws IOException {
+        state.writer.writeValue(state.out, state.products);
+    }
+
+    @Benchmark
+    public void writeProductListFromFragments(ProductList state) throws IOException {
+        state.jsonCache.toJsonArray(state.products).writeTo(state.out);
+    }
+}
@@ -0,0 +1,92 @@
+package com.shop.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.shop.benchmark.BenchmarkProducts;
+import com.shop.cache.CatalogVersion;
+import com.shop.cache.ProductJsonCache;
+import com.shop.config.ProductJsonArrayHttpMessageConverter;
+import com.shop.entity.Product;
+import com.shop.service.ProductService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * ProductController의 요청 처리 경로 벤치마크 (MockMvc)
+ *
+ * 서비스는 Mockito로 대체하여 DB 없이 요청 매핑, 인자 바인딩, 검증,
+ * JSON 변환, 응답 작성까지의 웹 계층 비용만 측정합니다.
+ * 벤치마크 중 호출 기록이 쌓이지 않도록 stubOnly 목을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductControllerBenchmark {
+
+    private static final int LIST_SIZE = 100;
+
+    private MockMvc mockMvc;
+    private byte[] createRequestBody;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        ProductService productService = Mockito.mock(ProductService.class, Mockito.withSettings().stubOnly());
+        Product product = BenchmarkProducts.product(42);
+        when(productService.getProductById(42L)).thenReturn(Optional.of(product));
+        when(productService.getAllProducts()).thenReturn(BenchmarkProducts.products(LIST_SIZE));
+        when(productService.createProduct(any(Product.class))).thenReturn(product);
+
+        ProductJsonCache productJsonCache = new ProductJsonCache(objectMapper, DataSize.ofMegabytes(16));
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new ProductController(productService, new CatalogVersion(), productJsonCache, objectMapper))
+                .setMessageConverters(new ProductJsonArrayHttpMessageConverter(),
+                        new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+
+        Product request = new Product(product.getName(), product.getDescription(), product.getPrice());
+        createRequestBody = objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public MvcResult getProductById() throws Exception {
+        return mockMvc.perform(get("/api/products/42")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getAllProducts() throws Exception {
+        return mockMvc.perform(get("/api/products")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult createProduct() throws Exception {
+        return mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(createRequestBody))
+                .andReturn();
+    }
+}
@@ -0,0 +1,52 @@
+package com.shop.service;
+
+import com.shop.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductService.validateProduct 벤치마크
+ *
+ * validateProduct는 의존성을 사용하지 않으므로 리포지토리 등은 null로 두고 서비스를 직접 생성합니다.
+ * 검증 실패 시 예외 생성 비용이 얼마나 큰지 보기 위해 실패 경로도 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidateProductBenchmark {
+
+    private ProductService productService;
+    private Product validProduct;
+    private Product invalidProduct;
+
+    @Setup
+    public void setUp() {
+        productService = new ProductService(null, null, null, null, null, null);
+        validProduct = new Product("노트북", "고성능 노트북입니다.", new BigDecimal("1500000.00"));
+        invalidProduct = new Product("노트북", "고성능 노트북입니다.", new BigDecimal("-1.00"));
+    }
+
+    @Benchmark
+    public Product validProduct() {
+        productService.validateProduct(validProduct);
+        return validProduct;
+    }
+
+    @Benchmark
+    public String invalidProduct() {
+        try {
+            productService.validateProduct(invalidProduct);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.shop.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 내장 데이터베이스
+ *
+ * 기본적으로 내장 PostgreSQL 바이너리(zonky embedded-postgres)를 실행하고,
+ * 현재 플랫폼에서 실행할 수 없으면 PostgreSQL 호환 모드의 H2 메모리 DB로 대체합니다.
+ *
+ * H2에서는 PostgreSQL 전용 SQL(전문 검색, ILIKE, 배열 파라미터, 조건부 UPDATE ... RETURNING)을 사용할 수 없습니다.
+ * 전체 검색은 내장 Lucene 엔진(shop.search.engine=lucene)으로 처리하지만, 키워드 검색 페이지와 상품 수정은
+ * PostgreSQL 전용 SQL을 그대로 사용하므로 LoadTestRunner는 H2에서 이 작업들이 포함된 실행을 시작하지 않습니다.
+ * 측정 결과를 운영 환경과 비교하려면 PostgreSQL로 실행해야 합니다.
+ */
+public final class EmbeddedDatabase implements AutoCloseable {
+
+    private final String name;
+    private final Map<String, Object> properties;
+    private final EmbeddedPostgres postgres;
+
+    private EmbeddedDatabase(String name, Map<String, Object> properties, EmbeddedPostgres postgres) {
+        this.name = name;
+        this.properties = properties;
+        this.postgres = postgres;
+    }
+
+    /**
+     * 설정에 따라 내장 DB를 시작합니다.
+     *
+     * @param db auto, postgres, h2 중 하나
+     * @return 시작된 내장 DB
+     * @throws IOException PostgreSQL을 지정했는데 시작할 수 없는 경우
+     */
+    public static EmbeddedDatabase start(String db) throws IOException {
+        switch (db) {
+            case "postgres":
+                return startPostgres();
+            case "h2":
+                return startH2();
+            case "auto":
+                try {
+                    return startPostgres();
+                } catch (IOException | RuntimeException e) {
+                    System.out.println("내장 PostgreSQL을 시작할 수 없어 H2로 대체합니다: " + e.getMessage());
+                    return startH2();
+                }
+            default:
+                throw new IllegalArgumentException("load.db는 auto, postgres, h2 중 하나여야 합니다: " + db);
+        }
+    }
+
+    private static EmbeddedDatabase startPostgres() throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        // reactive 스택(load.stack=reactive)에서 사용하는 R2DBC 연결
+        properties.put("spring.r2dbc.url", "r2dbc:postgresql://localhost:" + postgres.getPort() + "/postgres");
+        properties.put("spring.r2dbc.username", "postgres");
+        properties.put("spring.r2dbc.password", "postgres");
+        // 내장 바이너리에 pg_trgm 확장이 없을 수 있으므로 스키마 보조 스크립트의 실패는 무시합니다.
+        properties.put("spring.sql.init.continue-on-error", true);
+        return new EmbeddedDatabase("PostgreSQL (embedded)", properties, postgres);
+    }
+
+    private static EmbeddedDatabase startH2() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:simple_shop;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        // schema-postgresql.sql(tsvector, pg_trgm)은 H2에서 실행할 수 없습니다.
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("shop.search.engine", "lucene");
+        return new EmbeddedDatabase("H2 (PostgreSQL mode)", properties, null);
+    }
+
+    /**
+     * @return 애플리케이션에 전달할 데이터소스 관련 속성
+     */
+    public Map<String, Object> getProperties() {
+        return properties;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return PostgreSQL로 실행 중이면 true (H2로 대체되었으면 false)
+     */
+    public boolean isPostgres() {
+        return postgres != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+}
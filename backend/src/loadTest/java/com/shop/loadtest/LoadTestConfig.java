@@ -0,0 +1,165 @@
+package com.shop.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ *
+ * 모든 값은 시스템 속성으로 지정하며 (./gradlew loadTest -Pload.threads=32 처럼 전달),
+ * 지정하지 않은 항목은 기본값을 사용합니다.
+ *
+ * - load.db       : 사용할 내장 DB (auto: PostgreSQL 실패 시 H2, postgres, h2) [auto]
+ *                   H2에서는 write/search 작업을 실행할 수 없으므로 load.mix=read:100으로만 실행됩니다.
+ * - load.products : 미리 넣어 둘 상품 수 [10000]
+ * - load.threads  : 동시에 요청을 보내는 스레드 수 [16]
+ * - load.warmup   : 측정 전 워밍업 시간 [10s]
+ * - load.duration : 측정 시간 [60s]
+ * - load.mix      : 작업 비율 (read: 단건 조회, write: 수정, search: 키워드 검색) [read:80,write:10,search:10]
+ * - load.zipf     : 상품 인기도 Zipf 분포의 기울기 (0이면 균등, 클수록 소수 상품에 집중) [0.99]
+ * - load.virtual  : 요청을 가상 스레드로 처리하고 DB 허가 제한을 켤지 여부 [false]
+ *                   (같은 설정으로 true/false를 각각 실행하여 플랫폼 스레드 모드와 비교)
+ * - load.stack    : 실행할 웹 스택 (servlet: Spring MVC + JPA, reactive: WebFlux + R2DBC) [servlet]
+ *                   reactive는 PostgreSQL에서만 실행할 수 있습니다. (같은 -Xmx로 threads를 늘려 가며 비교)
+ */
+public final class LoadTestConfig {
+
+    /**
+     * 부하 테스트에서 실행하는 작업 종류
+     */
+    public enum Operation {
+        /** GET /api/products/{id} */
+        READ,
+        /** PUT /api/products/{id} */
+        WRITE,
+        /** GET /api/products/search?keyword= */
+        SEARCH
+    }
+
+    final String db;
+    final int products;
+    final int threads;
+    final Duration warmup;
+    final Duration duration;
+    final Map<Operation, Integer> mix;
+    final double zipfTheta;
+    final boolean virtualThreads;
+    final String stack;
+
+    private LoadTestConfig(String db, int products, int threads, Duration warmup, Duration duration,
+                           Map<Operation, Integer> mix, double zipfTheta, boolean virtualThreads, String stack) {
+        this.db = db;
+        this.products = products;
+        this.threads = threads;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.zipfTheta = zipfTheta;
+        this.virtualThreads = virtualThreads;
+        this.stack = stack;
+    }
+
+    /**
+     * 시스템 속성에서 설정을 읽습니다.
+     *
+     * @return 부하 테스트 설정
+     * @throws IllegalArgumentException 값의 형식이 잘못된 경우
+     */
+    public static LoadTestConfig fromSystemProperties() {
+        LoadTestConfig config = new LoadTestConfig(
+                System.getProperty("load.db", "auto"),
+                Integer.parseInt(System.getProperty("load.products", "10000")),
+                Integer.parseInt(System.getProperty("load.threads", "16")),
+                DurationStyle.detectAndParse(System.getProperty("load.warmup", "10s")),
+                DurationStyle.detectAndParse(System.getProperty("load.duration", "60s")),
+                parseMix(System.getProperty("load.mix", "read:80,write:10,search:10")),
+                Double.parseDouble(System.getProperty("load.zipf", "0.99")),
+                Boolean.parseBoolean(System.getProperty("load.virtual", "false")),
+                System.getProperty("load.stack", "servlet"));
+        if (config.products <= 0 || config.threads <= 0) {
+            throw new IllegalArgumentException("load.products와 load.threads는 1 이상이어야 합니다.");
+        }
+        if (!config.stack.equals("servlet") && !config.stack.equals("reactive")) {
+            throw new IllegalArgumentException("load.stack은 servlet, reactive 중 하나여야 합니다: " + config.stack);
+        }
+        if (config.isReactive() && config.db.equals("h2")) {
+            throw new IllegalArgumentException("load.stack=reactive는 H2에서 실행할 수 없습니다 (load.db=postgres 사용).");
+        }
+        return config;
+    }
+
+    /**
+     * "read:80,write:10,search:10" 형식의 작업 비율을 해석합니다.
+     */
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("잘못된 load.mix 형식입니다: " + value);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("load.mix 비율은 0 이상이어야 합니다: " + value);
+            }
+            mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("load.mix 비율의 합이 0입니다: " + value);
+        }
+        return mix;
+    }
+
+    /**
+     * 0 이상 전체 비율 합 미만의 값으로 작업을 고릅니다.
+     *
+     * @param roll 0 이상 totalWeight() 미만의 난수
+     * @return 작업 종류
+     */
+    Operation pick(int roll) {
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("roll이 비율 합보다 큽니다.");
+    }
+
+    /**
+     * H2에서 실행할 수 없는 작업 중 비율이 0보다 큰 작업을 반환합니다.
+     *
+     * 수정(조건부 UPDATE ... RETURNING)과 키워드 검색 페이지(search_vector 전문 검색)는
+     * PostgreSQL 전용 SQL을 사용하므로 H2에서는 모두 오류가 됩니다.
+     *
+     * @return PostgreSQL이 필요한 작업 목록 (없으면 빈 목록)
+     */
+    List<Operation> postgresOnlyOperations() {
+        List<Operation> operations = new ArrayList<>();
+        for (Operation operation : List.of(Operation.WRITE, Operation.SEARCH)) {
+            if (mix.getOrDefault(operation, 0) > 0) {
+                operations.add(operation);
+            }
+        }
+        return operations;
+    }
+
+    boolean isReactive() {
+        return stack.equals("reactive");
+    }
+
+    int totalWeight() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "db=" + db + ", products=" + products + ", threads=" + threads +
+                ", warmup=" + warmup + ", duration=" + duration + ", mix=" + mix + ", zipf=" + zipfTheta + ", virtual=" + virtualThreads + ", stack=" + stack;
+    }
+}
@@ -0,0 +1,324 @@
+package com.shop.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.shop.ShopApplication;
+import com.shop.loadtest.LoadTestConfig.Operation;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 서비스 없이 실행되는 종단 간 부하 테스트
+ *
+ * 1. 내장 DB(EmbeddedDatabase)를 시작하고 ShopApplication을 임의 포트로 실행합니다.
+ * 2. 대량 생성 API로 상품을 load.products개 넣습니다.
+ * 3. load.threads개의 스레드가 load.mix 비율로 조회/수정/검색 요청을 계속 보냅니다.
+ *    대상 상품은 Zipf 분포로 골라 소수의 인기 상품에 요청이 몰리는 상황을 재현합니다.
+ * 4. 워밍업 이후 구간의 작업별 처리량과 p50/p99/p99.9 지연 시간을 HdrHistogram으로 집계해 출력합니다.
+ *
+ * 실행: ./gradlew loadTest (설정 항목은 LoadTestConfig 참고)
+ */
+public final class LoadTestRunner {
+
+    /**
+     * 상품 설명과 검색 키워드에 사용하는 단어 목록
+     */
+    private static final String[] WORDS = {
+            "노트북", "키보드", "마우스", "모니터", "헤드폰", "스피커", "카메라", "태블릿",
+            "wireless", "gaming", "portable", "premium", "compact", "ergonomic", "mechanical", "bluetooth"
+    };
+
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    /**
+     * 지연 시간 히스토그램의 유효 자릿수
+     */
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+    private String baseUrl;
+    private ZipfianGenerator popularity;
+
+    /**
+     * 인기 순위별 상품 (순위 0이 가장 인기 있는 상품, 생성 순서와 무관하게 섞음)
+     */
+    private List<SeededProduct> productsByRank;
+
+    private LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(SIGNIFICANT_DIGITS));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.println("부하 테스트 설정: " + config);
+
+        try (EmbeddedDatabase database = EmbeddedDatabase.start(config.db)) {
+            System.out.println("데이터베이스: " + database.getName());
+            if (config.isReactive() && !database.isPostgres()) {
+                throw new IllegalStateException("load.stack=reactive는 PostgreSQL이 필요하지만 H2로 대체되었습니다.");
+            }
+            if (!database.isPostgres() && !config.postgresOnlyOperations().isEmpty()) {
+                throw new IllegalStateException("H2에서는 " + config.postgresOnlyOperations()
+                        + " 작업이 PostgreSQL 전용 SQL 때문에 모두 실패합니다. "
+                        + "load.db=postgres로 실행하거나 -Pload.mix=read:100으로 조회만 측정하세요.");
+            }
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ShopApplication.class)
+                    .run(toCommandLineArgs(applicationProperties(database, config)));
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                new LoadTestRunner(config).run("http://localhost:" + port);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션에 전달할 속성 (application.yml보다 우선하도록 명령행 인수로 전달)
+     */
+    static Map<String, Object> applicationProperties(EmbeddedDatabase database, LoadTestConfig config) {
+        Map<String, Object> properties = new LinkedHashMap<>(database.getProperties());
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", config.virtualThreads);
+        properties.put("shop.datasource.governor.enabled", config.virtualThreads);
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        if (config.isReactive()) {
+            properties.put("spring.profiles.active", "reactive");
+        }
+        // 요청마다 SQL을 출력하면 측정값이 로그 출력 비용에 묻히므로 끕니다.
+        properties.put("spring.jpa.properties.hibernate.show_sql", false);
+        properties.put("spring.jpa.properties.hibernate.use_sql_comments", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.com.shop", "INFO");
+        return properties;
+    }
+
+    static String[] toCommandLineArgs(Map<String, Object> properties) {
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+
+    // =====================================================
+    // 실행 단계
+    // =====================================================
+
+    private void run(String baseUrl) throws Exception {
+        this.baseUrl = baseUrl;
+
+        long seedStartedAt = System.nanoTime();
+        productsByRank = seed();
+        System.out.printf("상품 %d개 생성: %.1fs%n", productsByRank.size(),
+                (System.nanoTime() - seedStartedAt) / 1e9);
+        popularity = new ZipfianGenerator(productsByRank.size(), config.zipfTheta);
+
+        long warmupEnd = System.nanoTime() + config.warmup.toNanos();
+        long end = warmupEnd + config.duration.toNanos();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < config.threads; i++) {
+            Thread worker = new Thread(() -> work(end), "load-worker-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        System.out.println("워밍업 " + config.warmup + "...");
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        // 워밍업 구간의 기록을 버립니다.
+        for (Operation operation : Operation.values()) {
+            recorders.get(operation).getIntervalHistogram();
+            errors.get(operation).set(0);
+        }
+        long measureStartedAt = System.nanoTime();
+        System.out.println("측정 " + config.duration + "...");
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        report((System.nanoTime() - measureStartedAt) / 1e9);
+
+        if (config.virtualThreads) {
+            HttpResponse<String> governor = send(HttpRequest.newBuilder(URI.create(baseUrl + "/health/db-governor")).GET().build());
+            System.out.println("DB 허가 대기 통계: " + governor.body());
+        }
+    }
+
+    /**
+     * 대량 생성 API로 상품을 넣고, 인기 순위를 무작위로 섞어 반환합니다.
+     */
+    private List<SeededProduct> seed() throws IOException, InterruptedException {
+        Random random = new Random(42);
+        List<SeededProduct> seeded = new ArrayList<>(config.products);
+        for (int from = 0; from < config.products; from += SEED_CHUNK_SIZE) {
+            int to = Math.min(from + SEED_CHUNK_SIZE, config.products);
+            ArrayNode body = objectMapper.createArrayNode();
+            List<String> names = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                String name = "load-product-" + i;
+                names.add(name);
+                ObjectNode product = body.addObject();
+                product.put("name", name);
+                product.put("description", WORDS[random.nextInt(WORDS.length)] + " " +
+                        WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]);
+                product.put("price", randomPrice(random));
+            }
+
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("상품 생성 실패: HTTP " + response.statusCode() + " " + response.body());
+            }
+            for (JsonNode result : objectMapper.readTree(response.body()).get("results")) {
+                if ("CREATED".equals(result.get("status").asText())) {
+                    seeded.add(new SeededProduct(result.get("id").asLong(), names.get(result.get("index").asInt())));
+                }
+            }
+        }
+        Collections.shuffle(seeded, random);
+        return seeded;
+    }
+
+    /**
+     * 종료 시각까지 작업을 골라 실행하고 지연 시간을 기록합니다.
+     */
+    private void work(long end) {
+        int totalWeight = config.totalWeight();
+        while (System.nanoTime() < end) {
+            Operation operation = config.pick(ThreadLocalRandom.current().nextInt(totalWeight));
+            HttpRequest request = buildRequest(operation);
+            long startedAt = System.nanoTime();
+            boolean ok;
+            try {
+                ok = send(request).statusCode() / 100 == 2;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+            recorders.get(operation).recordValue(elapsedMicros);
+            if (!ok) {
+                errors.get(operation).incrementAndGet();
+            }
+        }
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case READ: {
+                SeededProduct product = productsByRank.get(popularity.next());
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/" + product.id)).GET().build();
+            }
+            case WRITE: {
+                SeededProduct product = productsByRank.get(popularity.next());
+                ObjectNode body = objectMapper.createObjectNode();
+                body.put("name", product.name);
+                body.put("description", WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]);
+                body.put("price", randomPrice(random));
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/" + product.id))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(body.toString()))
+                        .build();
+            }
+            case SEARCH: {
+                String keyword = WORDS[random.nextInt(WORDS.length)];
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/products/search?limit=20&keyword="
+                        + URLEncoder.encode(keyword, StandardCharsets.UTF_8))).GET().build();
+            }
+            default:
+                throw new IllegalStateException("알 수 없는 작업: " + operation);
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static BigDecimal randomPrice(Random random) {
+        return BigDecimal.valueOf(1_000 + random.nextInt(2_000_000), 2);
+    }
+
+    // =====================================================
+    // 결과 출력
+    // =====================================================
+
+    private void report(double seconds) {
+        System.out.println();
+        System.out.printf("%-8s %10s %12s %10s %10s %10s %10s %8s%n",
+                "작업", "요청 수", "처리량(/s)", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "오류");
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long errorCount = errors.get(operation).get();
+            total.add(histogram);
+            totalErrors += errorCount;
+            printRow(operation.name(), histogram, seconds, errorCount);
+        }
+        printRow("TOTAL", total, seconds, totalErrors);
+    }
+
+    private static void printRow(String label, Histogram histogram, double seconds, long errorCount) {
+        System.out.printf("%-8s %10d %12.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                label,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                errorCount);
+    }
+
+    /**
+     * 부하 테스트용으로 생성한 상품의 ID와 이름
+     */
+    private static final class SeededProduct {
+        final long id;
+        final String name;
+
+        SeededProduct(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
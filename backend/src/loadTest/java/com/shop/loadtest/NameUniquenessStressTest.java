@@ -0,0 +1,249 @@
+package com.shop.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.shop.ShopApplication;
+import com.shop.sql.SqlStatsRecorder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품명 유일 제약(uk_products_name)의 동시성 스트레스 테스트
+ *
+ * LoadTestRunner와 같이 내장 DB로 ShopApplication을 띄운 뒤 두 단계를 실행합니다.
+ * 1. 경쟁: load.threads개의 스레드가 같은 상품명으로 동시에 POST /api/products를 보냅니다.
+ *    상품명마다 정확히 한 요청만 201이고 나머지는 400(상품명 중복)이어야 하며,
+ *    끝난 뒤 DB에 같은 상품명이 두 번 이상 저장된 행이 없는지 확인합니다.
+ * 2. 처리량: 서로 다른 상품명으로 생성 요청을 보내 초당 생성 수와 지연 시간,
+ *    생성 한 건당 실행된 SQL 수(서블릿 스택, /actuator/sqlstats와 같은 집계)를 출력합니다.
+ *    이전 버전(상품명 사전 조회)과 같은 설정으로 실행하여 비교합니다.
+ *
+ * 중복이 하나라도 저장되거나 예상하지 못한 응답이 오면 예외로 종료합니다.
+ *
+ * 설정 (LoadTestConfig의 load.db, load.threads, load.virtual, load.stack도 그대로 사용)
+ * - load.stress.names   : 경쟁 단계에서 동시에 생성을 시도할 상품명 수 [200]
+ * - load.stress.creates : 처리량 단계에서 생성할 상품 수 [20000]
+ *
+ * 실행: ./gradlew nameStressTest -Pload.threads=32
+ */
+public final class NameUniquenessStressTest {
+
+    private static final String DUPLICATE_NAMES_SQL =
+            "SELECT name, COUNT(*) AS copies FROM products GROUP BY name HAVING COUNT(*) > 1";
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final LoadTestConfig config;
+    private final int names;
+    private final int creates;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private String baseUrl;
+
+    private NameUniquenessStressTest(LoadTestConfig config, int names, int creates) {
+        this.config = config;
+        this.names = names;
+        this.creates = creates;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        int names = Integer.parseInt(System.getProperty("load.stress.names", "200"));
+        int creates = Integer.parseInt(System.getProperty("load.stress.creates", "20000"));
+        if (names <= 0 || creates <= 0) {
+            throw new IllegalArgumentException("load.stress.names와 load.stress.creates는 1 이상이어야 합니다.");
+        }
+        System.out.println("상품명 유일성 스트레스 테스트 설정: " + config + ", names=" + names + ", creates=" + creates);
+
+        try (EmbeddedDatabase database = EmbeddedDatabase.start(config.db)) {
+            System.out.println("데이터베이스: " + database.getName());
+            if (config.isReactive() && !database.isPostgres()) {
+                throw new IllegalStateException("load.stack=reactive는 PostgreSQL이 필요하지만 H2로 대체되었습니다.");
+            }
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ShopApplication.class)
+                    .run(LoadTestRunner.toCommandLineArgs(LoadTestRunner.applicationProperties(database, config)));
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                new NameUniquenessStressTest(config, names, creates).run("http://localhost:" + port, context);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    // =====================================================
+    // 실행 단계
+    // =====================================================
+
+    private void run(String baseUrl, ConfigurableApplicationContext context) throws Exception {
+        this.baseUrl = baseUrl;
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        SqlStatsRecorder sqlStats = context.getBeanProvider(SqlStatsRecorder.class).getIfAvailable();
+
+        race();
+        List<Map<String, Object>> duplicates = jdbcTemplate.queryForList(DUPLICATE_NAMES_SQL);
+        if (!duplicates.isEmpty()) {
+            throw new IllegalStateException("같은 상품명이 여러 번 저장되었습니다: " + duplicates);
+        }
+        System.out.println("DB 확인: 중복 저장된 상품명 없음");
+
+        if (sqlStats != null) {
+            sqlStats.reset();
+        }
+        throughput();
+        if (sqlStats != null && !config.isReactive()) {
+            reportStatements(sqlStats);
+        }
+    }
+
+    /**
+     * 상품명마다 모든 스레드가 장벽에서 만나 동시에 같은 상품명으로 생성을 요청합니다.
+     */
+    private void race() throws InterruptedException {
+        AtomicIntegerArray created = new AtomicIntegerArray(names);
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong unexpected = new AtomicLong();
+        CyclicBarrier barrier = new CyclicBarrier(config.threads);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < config.threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    for (int i = 0; i < names; i++) {
+                        barrier.await();
+                        HttpResponse<String> response = create("race-product-" + i);
+                        if (response.statusCode() == 201) {
+                            created.incrementAndGet(i);
+                        } else if (response.statusCode() == 400) {
+                            rejected.incrementAndGet();
+                        } else {
+                            unexpected.incrementAndGet();
+                            System.out.println("예상하지 못한 응답: HTTP " + response.statusCode() + " " + response.body());
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException | BrokenBarrierException e) {
+                    unexpected.incrementAndGet();
+                    barrier.reset();
+                }
+            }, "race-worker-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        int wrongCount = 0;
+        for (int i = 0; i < names; i++) {
+            if (created.get(i) != 1) {
+                wrongCount++;
+                System.out.println("race-product-" + i + ": 생성 성공 " + created.get(i) + "회");
+            }
+        }
+        System.out.printf("경쟁 단계: 상품명 %d개 x 스레드 %d개, 생성 %d, 중복 거부 %d, 기타 %d%n",
+                names, config.threads, names - wrongCount, rejected.get(), unexpected.get());
+        if (wrongCount > 0 || unexpected.get() > 0) {
+            throw new IllegalStateException("상품명마다 정확히 한 번만 생성되어야 합니다 (위반 " + wrongCount
+                    + "개, 예상하지 못한 응답 " + unexpected.get() + "개).");
+        }
+    }
+
+    /**
+     * 서로 다른 상품명으로 creates개를 생성하며 처리량과 지연 시간을 측정합니다.
+     */
+    private void throughput() throws InterruptedException {
+        Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+
+        long startedAt = System.nanoTime();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < config.threads; t++) {
+            Thread worker = new Thread(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < creates) {
+                    long requestStartedAt = System.nanoTime();
+                    try {
+                        if (create("stress-product-" + i).statusCode() != 201) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    recorder.recordValue((System.nanoTime() - requestStartedAt) / 1_000);
+                }
+            }, "create-worker-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        Histogram histogram = recorder.getIntervalHistogram();
+        System.out.printf("처리량 단계: 생성 %d건, %.1f/s, p50 %.2fms, p99 %.2fms, max %.2fms, 오류 %d%n",
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                errors.get());
+    }
+
+    /**
+     * 처리량 단계에서 실행된 SQL을 종류별로 출력합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void reportStatements(SqlStatsRecorder sqlStats) {
+        List<Map<String, Object>> queries = (List<Map<String, Object>>) sqlStats.top(20, "count").get("queries");
+        long total = 0;
+        for (Map<String, Object> query : queries) {
+            total += ((Number) query.get("count")).longValue();
+        }
+        System.out.printf("생성 한 건당 SQL 실행 수: %.2f%n", (double) total / creates);
+        for (Map<String, Object> query : queries) {
+            System.out.printf("  %8d  %s%n", ((Number) query.get("count")).longValue(), query.get("sql"));
+        }
+    }
+
+    private HttpResponse<String> create(String name) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("name", name);
+        body.put("description", "name uniqueness stress");
+        body.put("price", BigDecimal.valueOf(1_000 + ThreadLocalRandom.current().nextInt(2_000_000), 2));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/products"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,581 @@
+package com.shop.loadtest;
+
+import com.shop.ShopApplication;
+import com.shop.entity.Product;
+import com.shop.repository.ProductRepository;
+import com.shop.sql.SqlStatsRecorder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.HdrHistogram.Histogram;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 대량 데이터에서 조회 경로별 지연 시간과 SQL 실행 수를 비교하는 벤치마크
+ *
+ * LoadTestRunner와 같이 내장 PostgreSQL로 ShopApplication을 띄우고, 상품 load.bench.rows개를
+ * SQL(generate_series)로 한 번에 넣은 뒤 시나리오마다 두 경로를 같은 입력으로 번갈아 측정합니다.
+ * 응답 방식을 비교하는 streaming 외에는 HTTP를 거치지 않고 리포지토리를 직접 호출하여 DB 접근 비용만 비교하며,
+ * 프로세스 내 캐시(ProductCache)도 거치지 않습니다.
+ *
+ * 시나리오
+ * - l2cache : ID/상품명(natural id) 조회에서 2차 캐시 적중과 미스의 지연 시간과 SQL 실행 수
+ * - fts     : 키워드 검색에서 전문 검색(tsvector + GIN)과 이전 경로(LIKE '%키워드%' OR LIKE '%키워드%') 비교
+ * - trigram : 상품명/설명 부분 문자열 검색(ILIKE)에서 pg_trgm GIN 인덱스 사용과 미사용(순차 스캔) 비교
+ * - paging  : 목록의 깊은 페이지 조회에서 커서(keyset)와 OFFSET 비교
+ * - streaming : 전체 목록 API(GET /api/products)의 스트리밍 응답과 일반(버퍼링) 응답의 첫 바이트 시간, 전체 시간, 힙 사용량 비교
+ *
+ * 측정 대상 SQL이 PostgreSQL 전용이므로 H2로 대체되면 바로 종료합니다.
+ *
+ * 설정 (LoadTestConfig의 load.db도 그대로 사용)
+ * - load.bench.rows       : 미리 넣을 상품 수 [1000000]
+ * - load.bench.iterations : 경로마다 측정할 호출 수 (같은 수만큼 먼저 워밍업) [1000]
+ * - load.bench.scenarios  : 실행할 시나리오 (쉼표 구분) [전체]
+ * - load.bench.keyword    : 검색 시나리오의 검색어 [limited] (상품 1000개 중 1개의 설명에 들어 있는 단어)
+ * - load.bench.name-keyword : 상품명 부분 문자열 검색어 [product-12345]
+ * - load.bench.page-depths : 페이지 시나리오에서 건너뛸 행 수 목록 (rows 이상은 제외) [0,1000,10000,100000,900000]
+ * - load.bench.page-iterations : 페이지 깊이마다 측정할 호출 수 (OFFSET은 깊을수록 느리므로 따로 지정) [100]
+ * - load.bench.stream-iterations : 전체 목록 응답 방식마다 측정할 호출 수 [3]
+ *
+ * 실행: ./gradlew queryBenchmark -Pload.bench.rows=1000000
+ */
+public final class QueryBenchmark {
+
+    /**
+     * 상품명과 설명에 사용하는 단어 목록 (LoadTestRunner와 같은 단어)
+     */
+    private static final String WORDS_ARRAY = "ARRAY['노트북','키보드','마우스','모니터','헤드폰','스피커','카메라','태블릿',"
+            + "'wireless','gaming','portable','premium','compact','ergonomic','mechanical','bluetooth']";
+
+    /**
+     * ID가 g인 상품을 만드는 SQL
+     * 상품명은 'bench-product-{g} {단어}'로 유일하고, 생성 시각은 ID 순서와 같도록 1초씩 늘립니다.
+     * 설명에는 1000개 중 1개꼴로 드문 단어 'limited'를 붙여 선택도가 낮은 검색어로 사용합니다.
+     */
+    private static final String SEED_SQL =
+            "INSERT INTO products (id, name, description, price, created_at, updated_at, version) " +
+            "SELECT g, " +
+            "       'bench-product-' || g || ' ' || (" + WORDS_ARRAY + ")[1 + g % 16], " +
+            "       (" + WORDS_ARRAY + ")[1 + (g / 16) % 16] || ' ' || (" + WORDS_ARRAY + ")[1 + (g / 256) % 16] " +
+            "       || CASE WHEN g % 1000 = 0 THEN ' limited' ELSE '' END, " +
+            "       round((10 + (g * 7919) % 2000000) / 100.0, 2), " +
+            "       TIMESTAMP '2024-01-01 00:00:00' + g * INTERVAL '1 second', " +
+            "       TIMESTAMP '2024-01-01 00:00:00' + g * INTERVAL '1 second', " +
+            "       0 " +
+            "FROM generate_series(?, ?) AS g";
+
+    private static final int SEED_CHUNK_SIZE = 100_000;
+
+    /**
+     * ProductRepository.searchByFullText와 같은 SQL (실행 계획 출력용)
+     */
+    private static final String FULL_TEXT_SQL =
+            "SELECT p.id FROM products p, websearch_to_tsquery('simple', ?) query " +
+            "WHERE p.search_vector @@ query " +
+            "ORDER BY ts_rank(p.search_vector, query) DESC, p.id ASC LIMIT ?";
+
+    /**
+     * 이전 키워드 검색(findByNameContainingOrDescriptionContaining)이 만들던 SQL (실행 계획 출력용)
+     */
+    private static final String LIKE_SQL =
+            "SELECT p.id FROM products p WHERE p.name LIKE ? OR p.description LIKE ?";
+
+    /**
+     * ProductRepository.searchByNameLike와 같은 SQL (실행 계획 출력용)
+     */
+    private static final String NAME_ILIKE_SQL =
+            "SELECT p.id FROM products p WHERE p.name ILIKE ? ORDER BY p.created_at ASC, p.id ASC LIMIT ?";
+
+    /**
+     * 시나리오 이름 (실행 순서)
+     */
+    private static final List<String> SCENARIOS = List.of("l2cache", "fts", "trigram", "paging", "streaming");
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * 페이지 시나리오의 페이지 크기 (목록 API의 기본 페이지 크기와 같은 규모)
+     */
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * 첫 페이지 커서 (ProductService와 같이 모든 행보다 앞선 값)
+     */
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final int rows;
+    private final int iterations;
+    private final String keyword;
+    private final String nameKeyword;
+    private final int maxSearchResults;
+    private final int maxSubstringResults;
+    private final List<Integer> pageDepths;
+    private final int pageIterations;
+    private final int streamIterations;
+    private final String baseUrl;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EntityManager entityManager;
+    private final Cache secondLevelCache;
+    private final SqlStatsRecorder sqlStats;
+    private final Random random = new Random(42);
+
+    private QueryBenchmark(int rows, int iterations, String keyword, String nameKeyword,
+                           ConfigurableApplicationContext context) {
+        this.rows = rows;
+        this.iterations = iterations;
+        this.keyword = keyword;
+        this.nameKeyword = nameKeyword;
+        this.maxSearchResults = context.getEnvironment().getProperty("shop.search.max-results", Integer.class, 1000);
+        this.maxSubstringResults = context.getEnvironment()
+                .getProperty("shop.search.max-substring-results", Integer.class, 10000);
+        this.pageDepths = Arrays.stream(System.getProperty("load.bench.page-depths", "0,1000,10000,100000,900000")
+                        .split("\\s*,\\s*"))
+                .map(Integer::valueOf)
+                .filter(depth -> depth >= 0 && depth < rows)
+                .toList();
+        this.pageIterations = Integer.parseInt(System.getProperty("load.bench.page-iterations", "100"));
+        if (pageIterations <= 0) {
+            throw new IllegalArgumentException("load.bench.page-iterations는 1 이상이어야 합니다.");
+        }
+        this.streamIterations = Integer.parseInt(System.getProperty("load.bench.stream-iterations", "3"));
+        if (streamIterations <= 0) {
+            throw new IllegalArgumentException("load.bench.stream-iterations는 1 이상이어야 합니다.");
+        }
+        this.baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.productRepository = context.getBean(ProductRepository.class);
+        this.readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.readOnlyTransaction.setReadOnly(true);
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.sqlStats = context.getBeanProvider(SqlStatsRecorder.class).getIfAvailable();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        int rows = Integer.parseInt(System.getProperty("load.bench.rows", "1000000"));
+        int iterations = Integer.parseInt(System.getProperty("load.bench.iterations", "1000"));
+        String keyword = System.getProperty("load.bench.keyword", "limited");
+        String nameKeyword = System.getProperty("load.bench.name-keyword", "product-12345");
+        if (rows <= 0 || iterations <= 0) {
+            throw new IllegalArgumentException("load.bench.rows와 load.bench.iterations는 1 이상이어야 합니다.");
+        }
+        List<String> scenarios = Arrays.asList(System.getProperty("load.bench.scenarios", String.join(",", SCENARIOS))
+                .split("\\s*,\\s*"));
+        for (String scenario : scenarios) {
+            if (!SCENARIOS.contains(scenario)) {
+                throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + scenario + " (가능한 값: " + SCENARIOS + ")");
+            }
+        }
+        System.out.println("조회 벤치마크 설정: db=" + config.db + ", rows=" + rows
+                + ", iterations=" + iterations + ", keyword=" + keyword
+                + ", nameKeyword=" + nameKeyword + ", scenarios=" + scenarios);
+
+        try (EmbeddedDatabase database = EmbeddedDatabase.start(config.db)) {
+            System.out.println("데이터베이스: " + database.getName());
+            if (!database.isPostgres()) {
+                throw new IllegalStateException("조회 벤치마크는 PostgreSQL 전용 SQL을 측정하므로 H2로는 실행할 수 없습니다. "
+                        + "내장 PostgreSQL을 실행할 수 있는 환경에서 실행하세요.");
+            }
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ShopApplication.class)
+                    .run(LoadTestRunner.toCommandLineArgs(LoadTestRunner.applicationProperties(database, config)));
+            try {
+                new QueryBenchmark(rows, iterations, keyword, nameKeyword, context).run(scenarios);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    // =====================================================
+    // 실행 단계
+    // =====================================================
+
+    private void run(List<String> scenarios) throws IOException, InterruptedException {
+        long seedStartedAt = System.nanoTime();
+        seed();
+        System.out.printf("상품 %d개 생성: %.1fs%n", rows, (System.nanoTime() - seedStartedAt) / 1e9);
+
+        for (String scenario : scenarios) {
+            System.out.println();
+            System.out.println("== " + scenario);
+            switch (scenario) {
+                case "l2cache" -> secondLevelCache();
+                case "fts" -> fullTextSearch();
+                case "trigram" -> trigramSearch();
+                case "paging" -> paging();
+                case "streaming" -> streaming();
+                default -> throw new IllegalStateException("시나리오가 구현되지 않았습니다: " + scenario);
+            }
+        }
+    }
+
+    /**
+     * 상품을 SEED_CHUNK_SIZE개씩 SQL로 넣고, 시퀀스와 통계를 맞춥니다.
+     * (API로 넣으면 100만 건에 수십 분이 걸리므로 DB 안에서 생성합니다.)
+     */
+    private void seed() {
+        for (int from = 1; from <= rows; from += SEED_CHUNK_SIZE) {
+            jdbcTemplate.update(SEED_SQL, from, Math.min(rows, from + SEED_CHUNK_SIZE - 1));
+        }
+        jdbcTemplate.queryForObject("SELECT setval('products_id_seq', ?)", Long.class, (long) rows);
+        jdbcTemplate.execute("ANALYZE products");
+    }
+
+    // =====================================================
+    // 시나리오: 2차 캐시 적중 / 미스
+    // =====================================================
+
+    /**
+     * 같은 ID/상품명 목록을 2차 캐시를 비운 상태(미스)와 채운 상태(적중)로 조회합니다.
+     * 미스는 호출마다 캐시 영역을 비운 뒤 조회하므로 매번 DB를 읽고, 적중은 한 번 읽어 둔 뒤 측정합니다.
+     */
+    private void secondLevelCache() {
+        long[] ids = randomIds(iterations);
+
+        measure("ID 조회 - 2차 캐시 미스",
+                () -> secondLevelCache.evictEntityData(Product.class),
+                i -> readOnlyTransaction.executeWithoutResult(status -> productRepository.findById(ids[i])));
+        measure("ID 조회 - 2차 캐시 적중",
+                () -> { },
+                i -> readOnlyTransaction.executeWithoutResult(status -> productRepository.findById(ids[i])));
+
+        String[] names = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            names[i] = jdbcTemplate.queryForObject("SELECT name FROM products WHERE id = ?", String.class, ids[i]);
+        }
+        measure("상품명 조회 - 2차 캐시 미스",
+                () -> {
+                    secondLevelCache.evictNaturalIdData(Product.class);
+                    secondLevelCache.evictEntityData(Product.class);
+                },
+                i -> readOnlyTransaction.executeWithoutResult(status -> productRepository.findByNaturalName(names[i])));
+        measure("상품명 조회 - 2차 캐시 적중",
+                () -> { },
+                i -> readOnlyTransaction.executeWithoutResult(status -> productRepository.findByNaturalName(names[i])));
+    }
+
+    // =====================================================
+    // 시나리오: 전문 검색 / LIKE
+    // =====================================================
+
+    /**
+     * 같은 검색어로 전문 검색과 이전 LIKE OR 경로를 비교합니다.
+     * 이전 경로는 trigram 인덱스가 생긴 뒤로는 인덱스를 탈 수 있으므로,
+     * 인덱스가 없던 변경 전 상태는 같은 쿼리를 인덱스 스캔을 끈 트랜잭션에서 실행하여 재현합니다.
+     * 이전 경로는 쿼리 캐시를 사용하므로 호출마다 쿼리 캐시 영역을 비웁니다.
+     */
+    private void fullTextSearch() {
+        String pattern = "%" + keyword + "%";
+        Runnable evictQueries = () -> secondLevelCache.evictQueryRegion(ProductRepository.PRODUCT_QUERY_CACHE_REGION);
+        System.out.println("검색어 '" + keyword + "' 일치 상품 수: " + jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM products WHERE name LIKE ? OR description LIKE ?", Long.class, pattern, pattern));
+
+        measure("전문 검색 (GIN)",
+                () -> { },
+                i -> readOnlyTransaction.executeWithoutResult(status ->
+                        productRepository.searchByFullText(keyword, maxSearchResults)));
+        measure("LIKE OR (trigram 인덱스)",
+                evictQueries,
+                i -> readOnlyTransaction.executeWithoutResult(status ->
+                        productRepository.findByNameContainingOrDescriptionContaining(keyword, keyword)));
+        measure("LIKE OR (인덱스 없음, 변경 전)",
+                evictQueries,
+                i -> readOnlyTransaction.executeWithoutResult(status -> {
+                    disableIndexScans();
+                    productRepository.findByNameContainingOrDescriptionContaining(keyword, keyword);
+                }));
+
+        explain("전문 검색", FULL_TEXT_SQL, false, keyword, maxSearchResults);
+        explain("LIKE OR (인덱스 없음)", LIKE_SQL, true, pattern, pattern);
+    }
+
+    // =====================================================
+    // 시나리오: trigram 인덱스 / 순차 스캔
+    // =====================================================
+
+    /**
+     * 상품명/설명 부분 문자열 검색을 trigram 인덱스를 쓸 수 있는 상태와 인덱스 스캔을 끈 상태(인덱스가 없던 때)로 비교합니다.
+     */
+    private void trigramSearch() {
+        List<String> trigramIndexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'products' AND indexdef LIKE '%gin_trgm_ops%'",
+                String.class);
+        System.out.println("trigram 인덱스: " + (trigramIndexes.isEmpty() ? "없음" : trigramIndexes));
+        String namePattern = ProductRepository.toContainsPattern(nameKeyword);
+        String descriptionPattern = ProductRepository.toContainsPattern(keyword);
+
+        measure("상품명 ILIKE (trigram 인덱스)",
+                () -> { },
+                i -> readOnlyTransaction.executeWithoutResult(status ->
+                        productRepository.searchByNameLike(namePattern, maxSubstringResults)));
+        measure("상품명 ILIKE (인덱스 없음)",
+                () -> { },
+                i -> readOnlyTransaction.executeWithoutResult(status -> {
+                    disableIndexScans();
+                    productRepository.searchByNameLike(namePattern, maxSubstringResults);
+                }));
+        measure("설명 ILIKE (trigram 인덱스)",
+                () -> { },
+                i -> readOnlyTransaction.executeWithoutResult(status ->
+                        productRepository.searchByDescriptionLike(descriptionPattern, maxSubstringResults)));
+        measure("설명 ILIKE (인덱스 없음)",
+                () -> { },
+                i -> readOnlyTransaction.executeWithoutResult(status -> {
+                    disableIndexScans();
+                    productRepository.searchByDescriptionLike(descriptionPattern, maxSubstringResults);
+                }));
+
+        explain("상품명 ILIKE (trigram 인덱스)", NAME_ILIKE_SQL, false, namePattern, maxSubstringResults);
+        explain("상품명 ILIKE (인덱스 없음)", NAME_ILIKE_SQL, true, namePattern, maxSubstringResults);
+    }
+
+    // =====================================================
+    // 시나리오: 커서(keyset) / OFFSET 페이지
+    // =====================================================
+
+    /**
+     * 앞에서 depth개를 건너뛴 페이지를 커서 조회(findPageAfter)와 같은 정렬의 OFFSET 조회로 비교합니다.
+     * 커서는 (created_at, id) 인덱스에서 바로 시작하므로 깊이와 관계없이 일정하고,
+     * OFFSET은 건너뛸 행을 모두 읽어야 하므로 깊이에 비례해 느려집니다.
+     * 두 경로가 같은 행을 반환하는지 먼저 확인합니다.
+     */
+    private void paging() {
+        for (int depth : pageDepths) {
+            Object[] cursor = depth == 0
+                    ? new Object[] { FIRST_PAGE_CREATED_AT, 0L }
+                    : jdbcTemplate.queryForObject(
+                            "SELECT created_at, id FROM products ORDER BY created_at ASC, id ASC OFFSET ? LIMIT 1",
+                            (rs, rowNum) -> new Object[] { rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2) },
+                            depth - 1);
+            LocalDateTime createdAt = (LocalDateTime) cursor[0];
+            Long id = (Long) cursor[1];
+
+            List<Long> keysetIds = readOnlyTransaction.execute(status -> idsOf(keysetPage(createdAt, id)));
+            List<Long> offsetIds = readOnlyTransaction.execute(status -> idsOf(offsetPage(depth)));
+            if (!keysetIds.equals(offsetIds)) {
+                throw new IllegalStateException("깊이 " + depth + "에서 커서와 OFFSET 결과가 다릅니다: "
+                        + keysetIds + " / " + offsetIds);
+            }
+
+            measure("커서 페이지 (건너뛴 행 " + depth + ")", pageIterations,
+                    () -> { },
+                    i -> readOnlyTransaction.executeWithoutResult(status -> keysetPage(createdAt, id)));
+            measure("OFFSET 페이지 (건너뛴 행 " + depth + ")", pageIterations,
+                    () -> { },
+                    i -> readOnlyTransaction.executeWithoutResult(status -> offsetPage(depth)));
+        }
+    }
+
+    private List<Product> keysetPage(LocalDateTime createdAt, Long id) {
+        return productRepository.findPageAfter(createdAt, id, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    private List<Product> offsetPage(int depth) {
+        return entityManager.createQuery("SELECT p FROM Product p ORDER BY p.createdAt ASC, p.id ASC", Product.class)
+                .setFirstResult(depth)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+    }
+
+    private static List<Long> idsOf(List<Product> products) {
+        return products.stream().map(Product::getId).toList();
+    }
+
+    // =====================================================
+    // 시나리오: 스트리밍 / 버퍼링 응답
+    // =====================================================
+
+    /**
+     * 전체 상품 목록을 일반 응답과 스트리밍 응답(?stream=true)으로 받아 첫 바이트 시간과 전체 시간을 비교합니다.
+     * 서버가 같은 JVM에서 실행되므로, 호출 동안의 힙 메모리 풀 최대 사용량 합계를 서버 힙 사용량의 근사치로 함께 출력합니다.
+     * 호출마다 2차 캐시를 비워 두 방식 모두 DB에서 읽도록 합니다.
+     * (일반 응답은 상품별 JSON 조각 캐시(ProductJsonCache)를 사용하므로 두 번째 호출부터 직렬화 비용이 줄어듭니다.)
+     * 일반 응답은 rows가 크면 힙이 부족해 실패할 수 있으므로 (HTTP 500이면 그 방식의 측정만 중단)
+     * 스트리밍 응답을 먼저 측정합니다.
+     */
+    private void streaming() throws IOException, InterruptedException {
+        streamingMode("스트리밍 응답", "/api/products?stream=true");
+        streamingMode("일반 응답", "/api/products");
+    }
+
+    private void streamingMode(String label, String path) throws IOException, InterruptedException {
+        Histogram firstByte = new Histogram(SIGNIFICANT_DIGITS);
+        Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        long bytes = 0;
+        long peakHeap = 0;
+        for (int i = 0; i < streamIterations; i++) {
+            secondLevelCache.evictAllRegions();
+            System.gc();
+            resetHeapPeaks();
+
+            long startedAt = System.nanoTime();
+            HttpResponse<InputStream> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            long firstByteAt = 0;
+            bytes = 0;
+            try (InputStream body = response.body()) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    if (bytes == 0 && read > 0) {
+                        firstByteAt = System.nanoTime();
+                    }
+                    bytes += read;
+                }
+            }
+            long finishedAt = System.nanoTime();
+            if (response.statusCode() != 200) {
+                System.out.println(label + ": HTTP " + response.statusCode() + " (측정 중단)");
+                return;
+            }
+            firstByte.recordValue((firstByteAt - startedAt) / 1_000);
+            total.recordValue((finishedAt - startedAt) / 1_000);
+            peakHeap = Math.max(peakHeap, heapPeak());
+        }
+        System.out.printf("%-32s 첫 바이트 p50 %9.1fms  전체 p50 %9.1fms  전체 최대 %9.1fms  응답 %,dB  힙 최대 약 %,dMB%n",
+                label,
+                firstByte.getValueAtPercentile(50) / 1000.0,
+                total.getValueAtPercentile(50) / 1000.0,
+                total.getMaxValue() / 1000.0,
+                bytes,
+                peakHeap / (1024 * 1024));
+    }
+
+    private static void resetHeapPeaks() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long heapPeak() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    // =====================================================
+    // 측정 도구
+    // =====================================================
+
+    /**
+     * 호출 하나 (인덱스 i의 입력 사용)
+     */
+    @FunctionalInterface
+    private interface Call {
+        void run(int i);
+    }
+
+    /**
+     * 입력 iterations개로 워밍업한 뒤 같은 입력으로 다시 호출하며 지연 시간과 호출당 SQL 실행 수를 출력합니다.
+     * before는 호출마다 측정 구간 밖에서 실행됩니다 (캐시 비우기 등).
+     */
+    private void measure(String label, Runnable before, Call call) {
+        measure(label, iterations, before, call);
+    }
+
+    private void measure(String label, int iterations, Runnable before, Call call) {
+        for (int i = 0; i < iterations; i++) {
+            before.run();
+            call.run(i);
+        }
+        if (sqlStats != null) {
+            sqlStats.reset();
+        }
+        Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+        for (int i = 0; i < iterations; i++) {
+            before.run();
+            long startedAt = System.nanoTime();
+            call.run(i);
+            histogram.recordValue((System.nanoTime() - startedAt) / 1_000);
+        }
+        System.out.printf("%-32s p50 %8.3fms  p99 %8.3fms  평균 %8.3fms  SQL/호출 %s%n",
+                label,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMean() / 1000.0,
+                sqlStats != null ? String.format("%.2f", (double) statementCount() / iterations) : "-");
+    }
+
+    /**
+     * 현재 트랜잭션에서만 인덱스/비트맵 인덱스 스캔을 끕니다 (SQL 한 문장, 호출당 SQL 수에 포함됨).
+     */
+    private void disableIndexScans() {
+        jdbcTemplate.queryForList("SELECT set_config('enable_indexscan', 'off', true), "
+                + "set_config('enable_bitmapscan', 'off', true)");
+    }
+
+    /**
+     * 실제 실행 계획(EXPLAIN ANALYZE)을 출력합니다.
+     */
+    private void explain(String label, String sql, boolean withoutIndexes, Object... args) {
+        List<String> plan = readOnlyTransaction.execute(status -> {
+            if (withoutIndexes) {
+                disableIndexScans();
+            }
+            return jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class, args);
+        });
+        System.out.println("실행 계획 - " + label);
+        for (String line : plan) {
+            System.out.println("  " + line);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private long statementCount() {
+        Map<String, Object> stats = sqlStats.top(Integer.MAX_VALUE, "count");
+        long total = ((Number) stats.get("untrackedExecutions")).longValue();
+        List<Map<String, Object>> queries = (List<Map<String, Object>>) stats.get("queries");
+        for (Map<String, Object> query : queries) {
+            total += ((Number) query.get("count")).longValue();
+        }
+        return total;
+    }
+
+    /**
+     * 1..rows 범위에서 고른 ID (같은 시드로 실행마다 같은 목록)
+     */
+    private long[] randomIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = 1 + random.nextInt(rows);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,65 @@
+package com.shop.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 0 이상 n 미만의 순위를 Zipf 분포로 생성하는 클래스
+ *
+ * 순위 0이 가장 자주 나오며, theta가 클수록 소수의 순위에 요청이 집중됩니다.
+ * YCSB의 ZipfianGenerator와 같은 방식(Gray et al., "Quickly Generating Billion-Record
+ * Synthetic Databases")으로, 초기화에 O(n), 값 생성에 O(1)이 걸립니다.
+ * 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class ZipfianGenerator {
+
+    private final int n;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+
+    /**
+     * @param n 순위의 개수
+     * @param theta 분포의 기울기 (0 이상 1 미만, 0이면 균등 분포)
+     */
+    public ZipfianGenerator(int n, double theta) {
+        if (theta < 0 || theta >= 1) {
+            throw new IllegalArgumentException("load.zipf는 0 이상 1 미만이어야 합니다: " + theta);
+        }
+        this.n = n;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetaN = zeta(n, theta);
+        double zeta2 = zeta(2, theta);
+        this.eta = (1 - Math.pow(2.0 / n, 1 - theta)) / (1 - zeta2 / zetaN);
+    }
+
+    private static double zeta(int n, double theta) {
+        double sum = 0;
+        for (int i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+
+    /**
+     * 다음 순위를 생성합니다.
+     *
+     * @return 0 이상 n 미만의 순위
+     */
+    public int next() {
+        if (theta == 0) {
+            return ThreadLocalRandom.current().nextInt(n);
+        }
+        double u = ThreadLocalRandom.current().nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return Math.min(1, n - 1);
+        }
+        int rank = (int) (n * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(rank, n - 1);
+    }
+}
@@ -36,6 +36,7 @@ public class ShopApplication {
         System.out.println("📍 Application URL: http://localhost:8080");
         System.out.println("📚 API Documentation: http://localhost:8080/api");
         System.out.println("🔍 Health Check: http://localhost:8080/actuator/health");
+        System.out.println("📈 Metrics: http://localhost:8080/actuator/prometheus");
         System.out.println("==========================================");
     }
 }
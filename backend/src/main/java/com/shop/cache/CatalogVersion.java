@@ -0,0 +1,125 @@
+package com.shop.cache;
+
+import com.shop.entity.Product;
+import com.shop.event.ProductChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 카탈로그의 버전을 관리하여 HTTP 조건부 요청(ETag / If-None-Match)에 사용하는 클래스
+ *
+ * - 목록/검색 응답: 상품이 생성/수정/삭제될 때마다 증가하는 카탈로그 버전으로 ETag를 만듭니다.
+ *   버전이 같으면 목록을 조회하지 않고 304 Not Modified로 응답할 수 있습니다.
+ * - 단건 응답: 상품 ID와 낙관적 잠금 버전(version)으로 ETag를 만듭니다 (productETag).
+ *   PUT 요청의 If-Match도 같은 ETag로 받아 버전 조건부 수정에 사용합니다 (versionFromProductETag).
+ *
+ * 같은 버전의 응답이 JSON / Smile / CBOR / Protobuf로 나갈 수 있고 형식마다 바이트가 다르므로,
+ * 모든 ETag는 약한(weak, W/) ETag입니다. (형식이 달라도 내용은 같다는 의미)
+ *
+ * 버전은 ProductChangedEvent를 트랜잭션 커밋 이후에 받아 증가시키며,
+ * 재시작 후 이전 프로세스의 ETag와 겹치지 않도록 시작 시각을 함께 넣습니다.
+ * ProductCache와 같이 이 프로세스에서 발행된 변경 이벤트만 반영하므로,
+ * 여러 인스턴스로 실행하거나 DB를 직접 수정하는 경우에는 공유 저장소 기반의 버전이 필요합니다.
+ */
+@Component
+public class CatalogVersion {
+
+    /**
+     * 약한 ETag 접두사
+     */
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * 프로세스 시작 시각 (ETag 접두사)
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    /**
+     * 카탈로그 버전 (상품이 변경될 때마다 1씩 증가)
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 현재 카탈로그 버전으로 만든 목록 응답용 약한(weak) ETag를 반환합니다.
+     *
+     * 응답 데이터를 조회하기 전에 호출해야 합니다.
+     * 조회 도중 변경이 커밋되면 응답에는 이전 버전이 붙으므로, 다음 요청은 304가 아닌 새 응답을 받습니다.
+     *
+     * @return 약한 ETag (예: W/"lx3k9a2b-42")
+     */
+    public String etag() {
+        return WEAK_PREFIX + "\"" + epoch + "-" + version.get() + "\"";
+    }
+
+    /**
+     * 상품 변경 이벤트를 받아 카탈로그 버전을 증가시킵니다.
+     *
+     * 트랜잭션이 커밋된 후에만 실행되므로 롤백된 변경은 버전을 바꾸지 않습니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 단건 상품 응답용 약한(weak) ETag를 만듭니다.
+     *
+     * @param product 상품
+     * @return 약한 ETag
+     */
+    public static String productETag(Product product) {
+        return productETag(product.getId(), product.getVersion());
+    }
+
+    /**
+     * 상품 ID와 버전으로 단건 상품 응답용 약한(weak) ETag를 만듭니다.
+     *
+     * 엔티티를 읽지 않고 버전만 조회하여 If-None-Match를 확인할 때 사용합니다.
+     *
+     * @param id 상품 ID
+     * @param version 상품 버전
+     * @return 약한 ETag (예: W/"42-3")
+     */
+    public static String productETag(Long id, Long version) {
+        return WEAK_PREFIX + "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더의 단건 상품 ETag에서 버전을 꺼냅니다.
+     *
+     * 단건 ETag는 응답 형식과 관계없이 상품 버전을 나타내므로 W/ 접두사가 있든 없든 버전을 꺼냅니다.
+     * 다른 상품의 ETag와 여러 개의 ETag는 인식하지 않습니다.
+     *
+     * @param id 수정할 상품 ID
+     * @param ifMatch If-Match 헤더 값 (* 는 호출 전에 따로 처리)
+     * @return 버전 (인식할 수 없는 값이면 Optional.empty)
+     */
+    public static Optional<Long> versionFromProductETag(Long id, String ifMatch) {
+        String tag = withoutWeakPrefix(ifMatch.trim());
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(tag.substring(prefix.length(), tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * ETag에서 약한(W/) 접두사를 떼어냅니다. (약한 비교에 사용)
+     *
+     * @param etag ETag (따옴표 포함)
+     * @return 접두사를 뗀 ETag
+     */
+    public static String withoutWeakPrefix(String etag) {
+        return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+}
@@ -0,0 +1,136 @@
+package com.shop.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.shop.entity.Product;
+import com.shop.event.ProductChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 단건 상품 조회(getProductById) 결과를 보관하는 프로세스 내 캐시
+ *
+ * Caffeine 캐시를 사용하며, 최대 항목 수와 TTL은 application.yml의
+ * shop.cache.product 항목으로 설정합니다.
+ * 상품이 생성/수정/삭제되면 ProductChangedEvent를 받아 트랜잭션 커밋 이후 해당 항목을 무효화합니다.
+ * 적중/미스/제거 통계는 cache.* 메트릭(cache=product 태그)으로도 내보냅니다.
+ */
+@Component
+public class ProductCache implements MeterBinder {
+
+    /**
+     * 상품 ID를 키로 하는 Caffeine 캐시
+     */
+    private final Cache<Long, Product> cache;
+
+    /**
+     * 캐시를 생성합니다.
+     *
+     * @param maximumSize 최대 항목 수 (초과 시 사용 빈도가 낮은 항목부터 제거)
+     * @param ttl 항목이 저장된 후 유지되는 시간
+     */
+    public ProductCache(@Value("${shop.cache.product.maximum-size:10000}") long maximumSize,
+                        @Value("${shop.cache.product.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // =====================================================
+    // 조회 및 무효화
+    // =====================================================
+
+    /**
+     * 캐시에서 상품을 조회하고, 없으면 loader로 읽어와 캐시에 저장합니다.
+     *
+     * 같은 ID를 동시에 요청해도 loader는 한 번만 실행됩니다.
+     * 존재하지 않는 상품(Optional.empty)은 캐시에 저장하지 않습니다.
+     *
+     * @param id 상품 ID
+     * @param loader 캐시 미스 시 상품을 읽어오는 함수
+     * @return 상품 정보 (Optional로 래핑됨)
+     */
+    public Optional<Product> get(Long id, Function<Long, Optional<Product>> loader) {
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * 캐시에 있는 상품만 반환합니다. (없어도 DB를 조회하지 않음)
+     *
+     * @param id 상품 ID
+     * @return 캐시된 상품 (없으면 Optional.empty)
+     */
+    public Optional<Product> getIfPresent(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * 특정 상품을 캐시에서 제거합니다.
+     *
+     * @param id 상품 ID
+     */
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * 상품 변경 이벤트를 받아 캐시 항목을 무효화합니다.
+     *
+     * 트랜잭션이 커밋된 후에만 실행되므로, 롤백된 변경 때문에 캐시가 비워지지 않으며
+     * 커밋 이전의 값이 다시 캐시에 들어가는 것도 막습니다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 처리합니다 (fallbackExecution).
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getType() != ProductChangedEvent.Type.CREATED) {
+            evict(event.getProductId());
+        }
+    }
+
+    // =====================================================
+    // 통계
+    // =====================================================
+
+    /**
+     * 캐시 통계를 메트릭으로 등록합니다 (cache.gets, cache.evictions, cache.size 등).
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "product");
+    }
+
+    /**
+     * 캐시 적중/미스/제거 통계를 반환합니다.
+     *
+     * @return 통계 정보 (요청 수, 적중 수, 미스 수, 적중률, 제거 수, 현재 크기)
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requestCount", stats.requestCount());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("size", cache.estimatedSize());
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package com.shop.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shop.dto.ProductJsonArray;
+import com.shop.entity.Product;
+import com.shop.event.ProductChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 상품별로 직렬화된 JSON(UTF-8 바이트)을 보관하는 프로세스 내 캐시
+ *
+ * 목록 응답은 상품마다 Jackson으로 다시 직렬화하지 않고 이 캐시의 조각을 이어 붙여 만듭니다 (ProductJsonArray).
+ * 직렬화에는 스프링이 구성한 ObjectMapper를 사용하므로 Jackson으로 쓴 응답과 내용이 같습니다.
+ *
+ * 조각은 직렬화할 때의 버전(version)과 함께 저장하고, 꺼낼 때 응답할 상품의 버전과 비교합니다.
+ * 따라서 무효화 이벤트보다 먼저 읽은 이전 값이 캐시에 남더라도 다른 내용이 응답되지 않습니다.
+ * 수정/삭제된 상품은 ProductChangedEvent를 받아 트랜잭션 커밋 이후에 제거합니다.
+ *
+ * 캐시 크기는 조각의 바이트 수 합계로 제한합니다 (shop.cache.product-json.maximum-bytes).
+ */
+@Component
+public class ProductJsonCache implements MeterBinder {
+
+    /**
+     * 직렬화된 JSON과 그때의 상품 버전
+     */
+    private record Fragment(Long version, byte[] json) {
+    }
+
+    /**
+     * 상품 ID를 키로 하는 Caffeine 캐시
+     */
+    private final Cache<Long, Fragment> cache;
+
+    /**
+     * Product 직렬화용 Writer
+     */
+    private final ObjectWriter writer;
+
+    /**
+     * 캐시를 생성합니다.
+     *
+     * @param objectMapper 스프링이 구성한 JSON ObjectMapper
+     * @param maximumBytes 보관할 JSON 조각의 최대 바이트 수 합계
+     */
+    @Autowired
+    public ProductJsonCache(ObjectMapper objectMapper,
+                            @Value("${shop.cache.product-json.maximum-bytes:64MB}") DataSize maximumBytes) {
+        this.writer = objectMapper.writerFor(Product.class);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes.toBytes())
+                .weigher((Long id, Fragment fragment) -> fragment.json().length)
+                .recordStats()
+                .build();
+    }
+
+    // =====================================================
+    // 조회 및 무효화
+    // =====================================================
+
+    /**
+     * 상품의 JSON 조각을 반환합니다.
+     *
+     * 캐시에 같은 버전의 조각이 있으면 그대로 반환하고, 없으면 직렬화하여 캐시에 저장합니다.
+     *
+     * @param product 상품
+     * @return UTF-8 JSON 바이트 (호출자가 수정하면 안 됨)
+     */
+    public byte[] toJson(Product product) {
+        Fragment fragment = cache.getIfPresent(product.getId());
+        if (fragment != null && Objects.equals(fragment.version(), product.getVersion())) {
+            return fragment.json();
+        }
+        byte[] json = serialize(product);
+        cache.put(product.getId(), new Fragment(product.getVersion(), json));
+        return json;
+    }
+
+    /**
+     * 상품 목록을 JSON 조각 배열로 변환합니다.
+     *
+     * @param products 상품 목록
+     * @return 목록 순서대로의 JSON 배열 응답 (조각은 JSON으로 응답을 쓸 때 만들어짐)
+     */
+    public ProductJsonArray toJsonArray(List<Product> products) {
+        return new ProductJsonArray(products, this::toJson);
+    }
+
+    /**
+     * 상품 변경 이벤트를 받아 수정/삭제된 상품의 조각을 제거합니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getType() != ProductChangedEvent.Type.CREATED) {
+            cache.invalidate(event.getProductId());
+        }
+    }
+
+    // =====================================================
+    // 통계
+    // =====================================================
+
+    /**
+     * 캐시 통계를 메트릭으로 등록합니다 (cache=product-json 태그).
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "product-json");
+    }
+
+    private byte[] serialize(Product product) {
+        try {
+            return writer.writeValueAsBytes(product);
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new IllegalStateException("상품 JSON 직렬화에 실패했습니다. ID: " + product.getId(), e);
+        }
+    }
+}
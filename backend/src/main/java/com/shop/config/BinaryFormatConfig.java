@@ -0,0 +1,65 @@
+package com.shop.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 서비스 간 호출을 위한 바이너리 요청/응답 형식 설정 클래스
+ *
+ * Accept(응답) / Content-Type(요청) 헤더로 다음 형식을 선택할 수 있습니다. 헤더가 없거나 *&#47;* 이면 JSON입니다.
+ * - application/x-jackson-smile: Jackson Smile (모든 API)
+ * - application/cbor: Jackson CBOR (모든 API)
+ * - application/x-protobuf: Protobuf (상품, 상품 목록, 상품 페이지만, ProductProtobufHttpMessageConverter 참고)
+ *
+ * Smile / CBOR 변환기는 스프링 부트가 JSON용 ObjectMapper에 적용하는 설정(spring.jackson.*, 날짜를 ISO 문자열로 출력 등)을
+ * 그대로 적용한 Jackson2ObjectMapperBuilder로 만들어, 형식만 다르고 내용은 JSON 응답과 같도록 합니다.
+ * 빈으로 등록하면 스프링 부트가 기본 변환기 목록의 같은 자리(JSON 변환기 뒤)에 넣습니다.
+ */
+@Configuration
+@Profile("!reactive")
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    /**
+     * Jackson Smile 변환기
+     *
+     * @param builder 스프링 부트가 구성한 ObjectMapper 빌더 (프로토타입 빈)
+     * @return Smile 변환기
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Jackson CBOR 변환기
+     *
+     * @param builder 스프링 부트가 구성한 ObjectMapper 빌더 (프로토타입 빈)
+     * @return CBOR 변환기
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Protobuf 변환기를 변환기 목록의 마지막에 추가합니다.
+     *
+     * Accept 헤더가 없을 때는 앞쪽 변환기의 형식이 선택되므로, 마지막에 두어야 기본 응답이 JSON으로 유지됩니다.
+     *
+     * @param converters 스프링 MVC 변환기 목록
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ProductProtobufHttpMessageConverter());
+    }
+}
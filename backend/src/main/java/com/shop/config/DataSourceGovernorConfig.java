@@ -0,0 +1,60 @@
+package com.shop.config;
+
+import com.shop.datasource.DbPermitGovernor;
+import com.shop.datasource.GovernedDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * DB 허가 제한(DbPermitGovernor)을 설정하는 클래스
+ *
+ * shop.datasource.governor.enabled=true 일 때만 적용되며 (가상 스레드 모드에서 권장),
+ * 애플리케이션의 DataSource를 GovernedDataSource로 감싸
+ * 동시에 커넥션을 사용하는 요청 수를 커넥션 풀 크기로 제한합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "shop.datasource.governor.enabled", havingValue = "true")
+public class DataSourceGovernorConfig {
+
+    /**
+     * 커넥션 풀 크기만큼의 허가를 가진 governor
+     *
+     * @param permits 허가 수 (기본값: Hikari 최대 커넥션 풀 크기)
+     * @param timeoutMillis 허가 대기 시간 (기본값: Hikari 커넥션 타임아웃)
+     * @return DB 허가 governor
+     */
+    @Bean
+    public DbPermitGovernor dbPermitGovernor(
+            @Value("${shop.datasource.governor.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long timeoutMillis) {
+        return new DbPermitGovernor(permits, timeoutMillis);
+    }
+
+    /**
+     * DataSource 빈을 GovernedDataSource로 감싸는 후처리기
+     *
+     * BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 선언하고,
+     * governor는 실제로 DataSource를 감쌀 때 가져옵니다.
+     *
+     * @param governor DB 허가 governor
+     * @return DataSource 후처리기
+     */
+    @Bean
+    public static BeanPostProcessor governedDataSourcePostProcessor(ObjectProvider<DbPermitGovernor> governor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof GovernedDataSource)) {
+                    return new GovernedDataSource(dataSource, governor.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
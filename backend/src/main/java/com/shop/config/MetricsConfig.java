@@ -0,0 +1,29 @@
+package com.shop.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정 클래스
+ * 
+ * @Timed가 붙은 클래스/메서드의 실행 시간을 기록하는 TimedAspect를 등록합니다.
+ * (ProductService의 모든 public 메서드가 shop.service 타이머로 기록됨)
+ * 
+ * 그 밖의 메트릭은 스프링 부트 Actuator가 자동으로 등록합니다.
+ * - http.server.requests: 컨트롤러 경로별 요청 지연 시간
+ * - hikaricp.connections.*: 커넥션 풀 사용량, 대기 스레드 수, 획득 시간
+ * - hibernate.*: Hibernate 통계 (hibernate.generate_statistics=true)
+ * - jvm.gc.*, jvm.memory.*: GC 일시 정지 시간, 할당/승격 바이트, 메모리 사용량
+ * MeterBinder를 구현한 빈(ProductCache, DbPermitGovernor)도 자동으로 등록됩니다.
+ * 메트릭 목록은 /actuator/prometheus 에서 확인할 수 있습니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
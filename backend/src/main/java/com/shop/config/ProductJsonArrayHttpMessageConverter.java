@@ -0,0 +1,49 @@
+package com.shop.config;
+
+import com.shop.dto.ProductJsonArray;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * ProductJsonArray를 application/json 응답으로 쓰는 HttpMessageConverter
+ *
+ * 미리 직렬화된 상품 JSON 조각을 응답 본문 스트림에 바로 이어 씁니다.
+ * 전체 길이를 미리 알 수 있으므로 chunked 대신 Content-Length로 응답합니다.
+ * 응답 전용이며 요청 본문 읽기는 지원하지 않습니다.
+ */
+public class ProductJsonArrayHttpMessageConverter extends AbstractHttpMessageConverter<ProductJsonArray> {
+
+    public ProductJsonArrayHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ProductJsonArray.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ProductJsonArray readInternal(Class<? extends ProductJsonArray> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ProductJsonArray는 요청 본문으로 읽을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ProductJsonArray body, MediaType contentType) {
+        return body.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(ProductJsonArray body, HttpOutputMessage outputMessage) throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+}
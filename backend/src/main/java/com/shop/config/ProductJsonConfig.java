@@ -0,0 +1,24 @@
+package com.shop.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 미리 직렬화된 상품 JSON 응답(ProductJsonArray)을 위한 Spring MVC 설정 클래스
+ *
+ * ProductJsonArrayHttpMessageConverter를 Jackson 변환기보다 앞에 등록하여,
+ * 컨트롤러가 반환한 ProductJsonArray를 Jackson을 거치지 않고 그대로 쓰도록 합니다.
+ */
+@Configuration
+@Profile("!reactive")
+public class ProductJsonConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ProductJsonArrayHttpMessageConverter());
+    }
+}
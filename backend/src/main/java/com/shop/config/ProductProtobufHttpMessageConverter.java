@@ -0,0 +1,240 @@
+package com.shop.config;
+
+import com.shop.dto.ProductJsonArray;
+import com.shop.dto.ProductPage;
+import com.shop.dto.ProductSummary;
+import com.shop.entity.Product;
+import com.shop.proto.ProductListMessage;
+import com.shop.proto.ProductMessage;
+import com.shop.proto.ProductPageMessage;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 API 본문을 Protobuf(application/x-protobuf)로 읽고 쓰는 HttpMessageConverter
+ *
+ * 스키마는 src/main/proto/product.proto 이며, 다음 타입만 변환합니다.
+ * - 읽기: Product (ProductMessage), List&lt;Product&gt; (ProductListMessage)
+ * - 쓰기: Product / ProductSummary (ProductMessage), 그 목록과 ProductJsonArray (ProductListMessage),
+ *         ProductPage (ProductPageMessage)
+ * 그 밖의 응답(개수, 통계, 대량 처리 결과 등)은 JSON / Smile / CBOR로만 응답합니다.
+ *
+ * 기본 형식이 JSON으로 유지되도록 변환기 목록의 마지막에 등록합니다 (BinaryFormatConfig).
+ */
+public class ProductProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public ProductProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    // =====================================================
+    // 지원 타입
+    // =====================================================
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Product.class.isAssignableFrom(clazz)
+                || ProductSummary.class.isAssignableFrom(clazz)
+                || ProductJsonArray.class.isAssignableFrom(clazz)
+                || ProductPage.class.isAssignableFrom(clazz)
+                || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == Product.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return (type == Product.class || isProductList(type)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (type instanceof ParameterizedType parameterized && List.class.isAssignableFrom(clazz)) {
+            Type element = parameterized.getActualTypeArguments()[0];
+            if (element != Product.class && element != ProductSummary.class) {
+                return false;
+            }
+        }
+        return canWrite(clazz, mediaType);
+    }
+
+    // =====================================================
+    // 읽기 / 쓰기
+    // =====================================================
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        if (isProductList(type)) {
+            return toProducts(ProductListMessage.parseFrom(inputMessage.getBody()));
+        }
+        return toProduct(ProductMessage.parseFrom(inputMessage.getBody()));
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return toProduct(ProductMessage.parseFrom(inputMessage.getBody()));
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        com.google.protobuf.Message message;
+        if (body instanceof ProductJsonArray array) {
+            message = toListMessage(array.getProducts());
+        } else if (body instanceof ProductPage<?> page) {
+            ProductPageMessage.Builder builder = ProductPageMessage.newBuilder().setHasNext(page.isHasNext());
+            for (Object item : page.getItems()) {
+                builder.addItems(toElementMessage(item));
+            }
+            if (page.getNextCursor() != null) {
+                builder.setNextCursor(page.getNextCursor());
+            }
+            message = builder.build();
+        } else if (body instanceof List<?> list) {
+            message = toListMessage(list);
+        } else {
+            message = toElementMessage(body);
+        }
+        message.writeTo(outputMessage.getBody());
+    }
+
+    // =====================================================
+    // 상품 ↔ 메시지 변환
+    // =====================================================
+
+    /**
+     * 상품을 ProductMessage로 변환합니다.
+     *
+     * @param product 상품
+     * @return Protobuf 메시지
+     */
+    public static ProductMessage toMessage(Product product) {
+        ProductMessage.Builder builder = ProductMessage.newBuilder();
+        if (product.getId() != null) {
+            builder.setId(product.getId());
+        }
+        if (product.getName() != null) {
+            builder.setName(product.getName());
+        }
+        if (product.getDescription() != null) {
+            builder.setDescription(product.getDescription());
+        }
+        setPrice(builder, product.getPrice());
+        setTimes(builder, product.getCreatedAt(), product.getUpdatedAt());
+        if (product.getVersion() != null) {
+            builder.setVersion(product.getVersion());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 상품 목록을 ProductListMessage로 변환합니다.
+     *
+     * @param products 상품 목록 (Product 또는 ProductSummary)
+     * @return Protobuf 메시지
+     */
+    public static ProductListMessage toListMessage(List<?> products) {
+        ProductListMessage.Builder builder = ProductListMessage.newBuilder();
+        for (Object product : products) {
+            builder.addProducts(toElementMessage(product));
+        }
+        return builder.build();
+    }
+
+    /**
+     * ProductMessage를 상품으로 변환합니다.
+     *
+     * 생성/수정 요청 본문으로 사용되므로 ID와 시간은 옮기지 않습니다 (JSON 요청과 같이 서버가 정함).
+     * 버전은 수정 요청의 낙관적 잠금에 사용되므로 옮깁니다.
+     *
+     * @param message Protobuf 메시지
+     * @return 상품
+     */
+    public static Product toProduct(ProductMessage message) {
+        BigDecimal price = message.hasPriceUnscaled()
+                ? new BigDecimal(BigInteger.valueOf(message.getPriceUnscaled()), message.getPriceScale())
+                : null;
+        Product product = new Product(message.getName(), message.hasDescription() ? message.getDescription() : null, price);
+        if (message.hasVersion()) {
+            product.setVersion(message.getVersion());
+        }
+        return product;
+    }
+
+    /**
+     * ProductListMessage를 상품 목록으로 변환합니다.
+     *
+     * @param message Protobuf 메시지
+     * @return 상품 목록
+     */
+    public static List<Product> toProducts(ProductListMessage message) {
+        List<Product> products = new ArrayList<>(message.getProductsCount());
+        for (ProductMessage product : message.getProductsList()) {
+            products.add(toProduct(product));
+        }
+        return products;
+    }
+
+    // =====================================================
+    // 내부 헬퍼 메서드
+    // =====================================================
+
+    private static ProductMessage toElementMessage(Object item) {
+        if (item instanceof Product product) {
+            return toMessage(product);
+        }
+        if (item instanceof ProductSummary summary) {
+            ProductMessage.Builder builder = ProductMessage.newBuilder()
+                    .setId(summary.getId())
+                    .setName(summary.getName());
+            setPrice(builder, summary.getPrice());
+            setTimes(builder, summary.getCreatedAt(), summary.getUpdatedAt());
+            return builder.build();
+        }
+        throw new HttpMessageNotWritableException(
+                "Protobuf로 변환할 수 없는 응답 타입입니다: " + (item != null ? item.getClass().getName() : "null"));
+    }
+
+    private static void setPrice(ProductMessage.Builder builder, BigDecimal price) {
+        if (price != null) {
+            builder.setPriceUnscaled(price.unscaledValue().longValueExact())
+                    .setPriceScale(price.scale());
+        }
+    }
+
+    private static void setTimes(ProductMessage.Builder builder, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        if (createdAt != null) {
+            builder.setCreatedAtMicros(toMicros(createdAt));
+        }
+        if (updatedAt != null) {
+            builder.setUpdatedAtMicros(toMicros(updatedAt));
+        }
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static boolean isProductList(Type type) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() == List.class
+                && parameterized.getActualTypeArguments()[0] == Product.class;
+    }
+}
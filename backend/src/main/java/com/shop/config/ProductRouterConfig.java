@@ -0,0 +1,115 @@
+package com.shop.config;
+
+import com.shop.controller.ReactiveProductHandler;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * 리액티브 스택(reactive 프로필)의 라우팅 설정 클래스
+ *
+ * ProductController와 같은 경로를 ReactiveProductHandler에 연결합니다.
+ * /{id} 경로 변수보다 고정 경로(/count, /stats 등)를 먼저 등록해야 올바른 핸들러가 선택됩니다.
+ *
+ * 서블릿 스택에만 있는 기능(커서 기반 페이지, 대량 수정/삭제, /cache/stats)은 등록하지 않습니다.
+ */
+@Configuration
+@Profile("reactive")
+public class ProductRouterConfig {
+
+    /**
+     * 상품 API 라우터
+     *
+     * 모든 핸들러 호출을 필터로 감싸 IllegalArgumentException을 응답으로 변환합니다.
+     * 핸들러에서 동기적으로 던진 예외(잘못된 경로 변수, 필수 파라미터 누락 등)도
+     * Mono.defer로 오류 신호가 되므로 같은 방식으로 처리됩니다.
+     *
+     * @param handler 상품 API 핸들러
+     * @return 라우터 함수
+     */
+    @Bean
+    public RouterFunction<ServerResponse> productRoutes(ReactiveProductHandler handler) {
+        return route()
+                .path("/api/products", builder -> builder
+                        .GET("", handler::getAllProducts)
+                        .POST("", handler::createProduct)
+                        .POST("/bulk", handler::createProducts)
+                        .GET("/search/name", handler::searchProductsByName)
+                        .GET("/search/description", handler::searchProductsByDescription)
+                        .GET("/search/price", handler::searchProductsByPriceRange)
+                        .GET("/search", handler::searchProducts)
+                        .GET("/count", handler::getTotalProductCount)
+                        .GET("/count/price", handler::getProductCountByPriceGreaterThanEqual)
+                        .GET("/above-average", handler::getProductsAboveAveragePrice)
+                        .GET("/stats", handler::getPriceStats)
+                        .GET("/exists/name", handler::productExistsByName)
+                        .GET("/{id}/exists", handler::productExists)
+                        .GET("/{id}", handler::getProductById)
+                        .PUT("/{id}", handler::updateProduct)
+                        .DELETE("/{id}", handler::deleteProduct))
+                .filter((request, next) -> Mono.defer(() -> next.handle(request))
+                        .onErrorResume(IllegalArgumentException.class, e -> errorResponse(e, request)))
+                .build();
+    }
+
+    /**
+     * 리액티브 웹 서버로 Netty를 사용하도록 지정
+     *
+     * 서블릿 스택용 Tomcat도 클래스패스에 있어 지정하지 않으면 스프링 부트가 Tomcat을 먼저 선택합니다.
+     * 적은 수의 이벤트 루프 스레드로 요청을 처리하는 Netty에서 리액티브 스택을 비교하기 위해 명시합니다.
+     * (server.port 등의 설정은 그대로 적용됨)
+     *
+     * @return Netty 웹 서버 팩토리
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * CORS 설정 (CorsConfig와 같은 규칙을 WebFlux에 적용)
+     *
+     * @return CORS 필터
+     */
+    @Bean
+    public CorsWebFilter corsWebFilter() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOriginPatterns(List.of("http://localhost:*", "http://127.0.0.1:*"));
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
+        config.setAllowedHeaders(List.of("*"));
+        config.setAllowCredentials(true);
+        config.setMaxAge(3600L);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config);
+        return new CorsWebFilter(source);
+    }
+
+    /**
+     * IllegalArgumentException을 응답으로 변환하는 메서드
+     *
+     * ProductController와 같이 상품을 찾을 수 없으면 404, 그 밖의 비즈니스 규칙 위반은 400을 반환합니다.
+     *
+     * @param e 발생한 예외
+     * @param request 요청
+     * @return 404 또는 400 응답
+     */
+    private static Mono<ServerResponse> errorResponse(IllegalArgumentException e, ServerRequest request) {
+        if (e.getMessage() != null && e.getMessage().contains("상품을 찾을 수 없습니다")) {
+            return ServerResponse.notFound().build();
+        }
+        return ServerResponse.badRequest().bodyValue(e.getMessage() != null ? e.getMessage() : "잘못된 요청입니다.");
+    }
+}
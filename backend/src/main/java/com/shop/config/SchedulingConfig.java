@@ -0,0 +1,15 @@
+package com.shop.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled)을 활성화하는 설정 클래스
+ * 
+ * 가격 통계 보정(ProductPriceStats.reconcile)처럼
+ * 일정 간격으로 실행되어야 하는 작업에 사용됩니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,70 @@
+package com.shop.config;
+
+import com.shop.datasource.SqlStatsDataSource;
+import com.shop.sql.SqlStatsEndpoint;
+import com.shop.sql.SqlStatsFilter;
+import com.shop.sql.SqlStatsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * SQL 실행 통계 설정 클래스
+ * 
+ * show_sql / BasicBinder TRACE처럼 모든 SQL과 파라미터를 로그로 남기는 대신,
+ * DataSource를 SqlStatsDataSource로 감싸 SQL 실행 시간만 집계합니다.
+ * - 기준 시간(shop.sql.stats.slow-threshold)을 넘은 SQL만 logs/slow-queries.log에 기록
+ * - 요청별 SQL 수 / DB 시간 메트릭 (SqlStatsFilter)
+ * - 정규화된 SQL별 상위 N개 조회 (/actuator/sqlstats)
+ * 
+ * shop.sql.stats.enabled=false 로 끌 수 있습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "shop.sql.stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    @Bean
+    public SqlStatsRecorder sqlStatsRecorder(
+            @Value("${shop.sql.stats.slow-threshold:200ms}") Duration slowThreshold,
+            @Value("${shop.sql.stats.slow-log-sample-rate:1.0}") double slowLogSampleRate,
+            @Value("${shop.sql.stats.max-distinct-queries:1000}") int maxDistinctQueries) {
+        return new SqlStatsRecorder(slowThreshold, slowLogSampleRate, maxDistinctQueries);
+    }
+
+    /**
+     * 애플리케이션의 DataSource를 SqlStatsDataSource로 감쌉니다.
+     * 
+     * BeanPostProcessor이므로 다른 빈보다 먼저 만들어지도록 static으로 선언합니다.
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor(ObjectProvider<SqlStatsRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatsDataSource)) {
+                    return new SqlStatsDataSource(dataSource, recorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public SqlStatsFilter sqlStatsFilter(SqlStatsRecorder recorder, MeterRegistry meterRegistry) {
+        return new SqlStatsFilter(recorder, meterRegistry);
+    }
+
+    @Bean
+    public SqlStatsEndpoint sqlStatsEndpoint(SqlStatsRecorder recorder) {
+        return new SqlStatsEndpoint(recorder);
+    }
+}
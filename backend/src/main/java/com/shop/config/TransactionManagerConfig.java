@@ -0,0 +1,27 @@
+package com.shop.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 트랜잭션 매니저 설정 클래스
+ * 
+ * R2DBC가 클래스패스에 있으면 스프링 부트가 R2DBC 트랜잭션 매니저도 등록하는데,
+ * 이때 JPA 자동 설정은 "이미 트랜잭션 매니저가 있다"고 보고 JpaTransactionManager를 만들지 않을 수 있습니다.
+ * 그래서 JPA 트랜잭션 매니저를 직접 등록하고 @Primary로 지정하여
+ * 기존 @Transactional 메서드가 항상 JPA 트랜잭션으로 실행되도록 합니다.
+ * (리액티브 서비스는 TransactionalOperator로 R2DBC 트랜잭션 매니저를 사용)
+ */
+@Configuration
+public class TransactionManagerConfig {
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
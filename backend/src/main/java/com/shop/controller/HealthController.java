@@ -1,9 +1,13 @@
 package com.shop.controller;
 
+import com.shop.datasource.DbPermitGovernor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.ResponseEntity;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -13,6 +17,16 @@ import java.util.Map;
 @RestController
 public class HealthController {
 
+    /**
+     * DB 허가 제한 (shop.datasource.governor.enabled=true 일 때만 존재)
+     */
+    private final ObjectProvider<DbPermitGovernor> dbPermitGovernor;
+
+    @Autowired
+    public HealthController(ObjectProvider<DbPermitGovernor> dbPermitGovernor) {
+        this.dbPermitGovernor = dbPermitGovernor;
+    }
+
     /**
      * 애플리케이션 상태를 확인하는 엔드포인트
      * @return 애플리케이션 상태 정보
@@ -28,6 +42,21 @@ public class HealthController {
         return ResponseEntity.ok(health);
     }
 
+    /**
+     * DB 허가 제한의 대기 통계를 확인하는 엔드포인트
+     * @return 허가 수, 사용 중/대기 중인 요청 수, 평균/최대 대기 시간 (비활성화 상태이면 enabled=false)
+     */
+    @GetMapping("/health/db-governor")
+    public ResponseEntity<Map<String, Object>> dbGovernor() {
+        DbPermitGovernor governor = dbPermitGovernor.getIfAvailable();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", governor != null);
+        if (governor != null) {
+            stats.putAll(governor.getStats());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
     /**
      * 루트 경로에 대한 간단한 응답
      * @return 애플리케이션 정보
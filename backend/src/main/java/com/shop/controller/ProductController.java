@@ -1,15 +1,37 @@
 package com.shop.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.shop.cache.CatalogVersion;
+import com.shop.cache.ProductJsonCache;
+import com.shop.dto.BulkChangeResponse;
+import com.shop.dto.BulkCreateResponse;
+import com.shop.dto.BulkUpdateItem;
+import com.shop.dto.ProductJsonArray;
+import com.shop.dto.ProductPage;
+import com.shop.dto.ProductPatch;
 import com.shop.entity.Product;
 import com.shop.service.ProductService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,8 +42,13 @@ import java.util.Optional;
  * 
  * @RestController 어노테이션은 이 클래스가 REST API 컨트롤러임을 명시하며,
  * @RequestMapping 어노테이션으로 기본 URL 경로를 설정합니다.
+ * 
+ * reactive 프로필에서는 같은 경로를 ProductRouterConfig(WebFlux)가 처리하므로 등록하지 않습니다.
+ * 
+ * 요청/응답 본문 형식은 Content-Type / Accept 헤더로 선택합니다 (기본 JSON, BinaryFormatConfig 참고).
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/products")
 public class ProductController {
 
@@ -34,14 +61,50 @@ public class ProductController {
      */
     private final ProductService productService;
 
+    /**
+     * 목록/검색 응답의 ETag를 만드는 카탈로그 버전
+     */
+    private final CatalogVersion catalogVersion;
+
+    /**
+     * 목록/검색 응답에 사용하는 상품별 JSON 조각 캐시
+     */
+    private final ProductJsonCache productJsonCache;
+
+    /**
+     * 스트리밍 응답에서 상품을 한 건씩 직렬화하기 위한 Writer
+     * 
+     * 스프링이 설정한 ObjectMapper(날짜 포맷 등)를 그대로 사용하되,
+     * 값 하나를 쓸 때마다 flush 하지 않도록 FLUSH_AFTER_WRITE_VALUE를 끕니다.
+     */
+    private final ObjectWriter productWriter;
+
+    /**
+     * 스트리밍 응답에서 몇 건마다 출력 버퍼를 flush 할지 설정합니다.
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 256;
+
+    /**
+     * JSON Merge Patch 본문의 미디어 타입 (RFC 7396)
+     */
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     /**
      * 생성자를 통한 의존성 주입
      * 
      * @param productService 상품 서비스
+     * @param catalogVersion 카탈로그 버전
+     * @param productJsonCache 상품 JSON 조각 캐시
+     * @param objectMapper 스프링이 구성한 JSON ObjectMapper
      */
     @Autowired
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, CatalogVersion catalogVersion,
+                             ProductJsonCache productJsonCache, ObjectMapper objectMapper) {
         this.productService = productService;
+        this.catalogVersion = catalogVersion;
+        this.productJsonCache = productJsonCache;
+        this.productWriter = objectMapper.writerFor(Product.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     // =====================================================
@@ -52,13 +115,60 @@ public class ProductController {
      * 모든 상품을 조회하는 API
      * 
      * HTTP GET 요청: /api/products
+     * HTTP GET 요청: /api/products?limit={페이지 크기}&cursor={다음 페이지 커서}
+     * HTTP GET 요청: /api/products?view=summary
+     * 
+     * cursor 또는 limit 파라미터가 있으면 (생성 시간, ID) 순서의 커서 기반 페이지로 응답하고,
+     * 없으면 기존과 같이 전체 목록을 반환합니다.
+     * view=summary 이면 상품 대신 description을 제외한 요약 정보(ProductSummary)로 응답합니다.
+     * 
+     * 응답에는 카탈로그 버전으로 만든 ETag가 붙으며, If-None-Match가 현재 ETag와 같으면
+     * 목록을 조회하지 않고 304 Not Modified로 응답합니다 (상품이 바뀌지 않은 폴링 요청).
+     * 전체 목록은 상품마다 캐시된 JSON 조각(ProductJsonCache)을 이어 붙여 응답합니다.
+     * (아래 검색 API들도 같은 view 파라미터와 ETag를 지원합니다.)
      * 
-     * @return 전체 상품 목록과 HTTP 200 상태 코드
+     * @param cursor 이전 페이지 응답의 nextCursor (선택)
+     * @param limit 페이지 크기 (선택)
+     * @param view 응답 형태 (full: 상품 전체 - 기본값, summary: 요약 정보)
+     * @param ifNoneMatch 이전 응답의 ETag (선택)
+     * @return 전체 상품 목록 또는 상품 페이지와 HTTP 200 상태 코드, 또는 HTTP 304 상태 코드
      */
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
+    public ResponseEntity<?> getAllProducts(@RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) String view,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 데이터를 읽기 전에 버전을 읽어, 조회 중에 커밋된 변경이 다음 요청에서 반영되도록 합니다.
+        String etag = catalogVersion.etag();
+        if (matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        if (isSummaryView(view)) {
+            return isPageRequest(cursor, limit)
+                    ? catalogOk(etag, productService.getProductSummaryPage(cursor, limit))
+                    : catalogOk(etag, productService.getAllProductSummaries());
+        }
+        if (isPageRequest(cursor, limit)) {
+            ProductPage<Product> page = productService.getProductPage(cursor, limit);
+            return catalogOk(etag, page);
+        }
         List<Product> products = productService.getAllProducts();
-        return ResponseEntity.ok(products);
+        return catalogOk(etag, productJsonCache.toJsonArray(products));
+    }
+
+    /**
+     * 모든 상품을 스트리밍 방식으로 조회하는 API
+     * 
+     * HTTP GET 요청: /api/products?stream=true
+     * 
+     * 전체 목록을 메모리에 모으지 않고 DB에서 읽는 즉시 JSON 배열 원소로 써 내려갑니다.
+     * 결과 건수와 관계없이 힙 사용량이 일정하고, 첫 바이트가 빠르게 전송됩니다.
+     * 
+     * @return JSON 배열을 스트리밍하는 응답 본문과 HTTP 200 상태 코드
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        return streamingResponse(null);
     }
 
     /**
@@ -66,15 +176,36 @@ public class ProductController {
      * 
      * HTTP GET 요청: /api/products/{id}
      * 
+     * 응답에는 상품 ID와 버전으로 만든 ETag가 붙습니다.
+     * If-None-Match가 있으면 상품 전체를 읽기 전에 ETag만 확인하여 (캐시된 상품 또는 버전만 조회)
+     * 같으면 304 Not Modified로 응답합니다.
+     * 
      * @param id 조회할 상품의 ID
-     * @return 상품 정보와 HTTP 200 상태 코드, 또는 HTTP 404 상태 코드
+     * @param ifNoneMatch 이전 응답의 ETag (선택)
+     * @return 상품 정보와 HTTP 200 상태 코드, 또는 HTTP 304 / 404 상태 코드
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
+    public ResponseEntity<Product> getProductById(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                  String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = productService.getProductETag(id);
+            if (etag.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (matchesIfNoneMatch(ifNoneMatch, etag.get())) {
+                return notModified(etag.get());
+            }
+        }
+        
         Optional<Product> product = productService.getProductById(id);
         
         if (product.isPresent()) {
-            return ResponseEntity.ok(product.get());
+            return ResponseEntity.ok()
+                    .eTag(CatalogVersion.productETag(product.get()))
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(product.get());
         } else {
             return ResponseEntity.notFound().build();
         }
@@ -106,16 +237,27 @@ public class ProductController {
      * HTTP PUT 요청: /api/products/{id}
      * 요청 본문: 수정된 상품 정보 (JSON)
      * 
+     * 낙관적 잠금: If-Match 헤더(단건 조회 응답의 ETag) 또는 요청 본문의 version과
+     * 상품의 현재 버전이 다르면 수정하지 않고 412 Precondition Failed로 응답합니다.
+     * 둘 다 없거나 If-Match: * 이면 버전과 관계없이 수정합니다.
+     * 응답에는 수정된 버전으로 만든 ETag가 붙으므로 다음 수정의 If-Match로 그대로 사용할 수 있습니다.
+     * 
      * @param id 수정할 상품의 ID
      * @param updatedProduct 수정된 상품 정보
-     * @return 수정된 상품 정보와 HTTP 200 상태 코드, 또는 HTTP 404 상태 코드
+     * @param ifMatch 수정 전 상품의 ETag (선택)
+     * @return 수정된 상품 정보와 HTTP 200 상태 코드, 또는 HTTP 404 / 412 상태 코드
      */
     @PutMapping("/{id}")
     public ResponseEntity<Product> updateProduct(@PathVariable Long id, 
-                                               @Valid @RequestBody Product updatedProduct) {
+                                               @Valid @RequestBody Product updatedProduct,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                               String ifMatch) {
+        Long expectedVersion = expectedVersion(id, ifMatch, updatedProduct.getVersion());
         try {
-            Product product = productService.updateProduct(id, updatedProduct);
-            return ResponseEntity.ok(product);
+            Product product = productService.updateProduct(id, updatedProduct, expectedVersion);
+            return ResponseEntity.ok()
+                    .eTag(CatalogVersion.productETag(product))
+                    .body(product);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().contains("상품을 찾을 수 없습니다")) {
                 return ResponseEntity.notFound().build();
@@ -125,6 +267,43 @@ public class ProductController {
         }
     }
 
+    /**
+     * 상품의 일부 필드만 수정하는 API (JSON Merge Patch, RFC 7396)
+     * 
+     * HTTP PATCH 요청: /api/products/{id}
+     * Content-Type: application/merge-patch+json (application/json도 허용)
+     * 요청 본문 예: {"price": 12900} 또는 {"description": null}
+     * 
+     * 본문에 있는 필드(name, description, price)만 검증하고, 그 컬럼만 바꾸는 UPDATE 문 하나로 수정합니다.
+     * 상품을 미리 읽지 않으며 수정된 상태는 RETURNING으로 받아 응답합니다.
+     * 낙관적 잠금은 PUT과 같습니다 (If-Match 또는 본문의 version, 다르면 412).
+     * 
+     * @param id 수정할 상품의 ID
+     * @param patch 병합 패치 본문
+     * @param ifMatch 수정 전 상품의 ETag (선택)
+     * @return 수정된 상품 정보와 HTTP 200 상태 코드, 또는 HTTP 400 / 404 / 412 상태 코드
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Product> patchProduct(@PathVariable Long id,
+                                                @RequestBody JsonNode patch,
+                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                String ifMatch) {
+        ProductPatch changes = ProductPatch.fromMergePatch(patch);
+        Long expectedVersion = expectedVersion(id, ifMatch, changes.getVersion());
+        try {
+            Product product = productService.patchProduct(id, changes, expectedVersion);
+            return ResponseEntity.ok()
+                    .eTag(CatalogVersion.productETag(product))
+                    .body(product);
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage().contains("상품을 찾을 수 없습니다")) {
+                return ResponseEntity.notFound().build();
+            }
+            // 검증 오류 메시지를 그대로 응답 (handleIllegalArgumentException)
+            throw e;
+        }
+    }
+
     /**
      * 상품을 삭제하는 API
      * 
@@ -143,6 +322,53 @@ public class ProductController {
         }
     }
 
+    /**
+     * 여러 상품을 한 번에 생성하는 API
+     * 
+     * HTTP POST 요청: /api/products/bulk
+     * 요청 본문: 상품 정보 배열 (JSON)
+     * 
+     * 항목마다 검증하므로 일부 항목이 거부되어도 나머지는 생성되며,
+     * 항목별 결과(생성된 ID 또는 거부 사유)는 요청 순서대로 반환됩니다.
+     * 
+     * @param products 생성할 상품 목록
+     * @return 항목별 처리 결과와 HTTP 200 상태 코드
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResponse> createProducts(@RequestBody List<Product> products) {
+        return ResponseEntity.ok(productService.createProducts(products));
+    }
+
+    /**
+     * 여러 상품의 가격/설명을 한 번에 수정하는 API
+     * 
+     * HTTP PATCH 요청: /api/products/bulk
+     * 요청 본문: [{"id": 1, "price": 12000}, {"id": 2, "description": "..."}]
+     * 
+     * 값을 생략한 필드는 기존 값이 유지됩니다.
+     * 
+     * @param items 수정할 항목 목록
+     * @return 수정된 행 수와 존재하지 않는 상품 ID 목록, HTTP 200 상태 코드
+     */
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkChangeResponse> updateProducts(@RequestBody List<BulkUpdateItem> items) {
+        return ResponseEntity.ok(productService.updateProducts(items));
+    }
+
+    /**
+     * 여러 상품을 한 번에 삭제하는 API
+     * 
+     * HTTP DELETE 요청: /api/products/bulk
+     * 요청 본문: 삭제할 상품 ID 배열 (예: [1, 2, 3])
+     * 
+     * @param ids 삭제할 상품 ID 목록
+     * @return 삭제된 행 수와 존재하지 않는 상품 ID 목록, HTTP 200 상태 코드
+     */
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkChangeResponse> deleteProducts(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(productService.deleteProducts(ids));
+    }
+
     // =====================================================
     // 검색 및 필터링 API
     // =====================================================
@@ -150,46 +376,110 @@ public class ProductController {
     /**
      * 상품명으로 상품을 검색하는 API
      * 
-     * HTTP GET 요청: /api/products/search/name?name={상품명}
+     * HTTP GET 요청: /api/products/search/name?name={상품명}[&limit=&cursor=][&view=summary]
      * 
      * @param name 검색할 상품명
-     * @return 검색 결과 상품 목록과 HTTP 200 상태 코드
+     * @param cursor 이전 페이지 응답의 nextCursor (선택)
+     * @param limit 페이지 크기 (선택)
+     * @param view 응답 형태 (full 또는 summary, 선택)
+     * @param ifNoneMatch 이전 응답의 ETag (선택)
+     * @return 검색 결과 상품 목록 또는 상품 페이지와 HTTP 200 상태 코드, 또는 HTTP 304 상태 코드
      */
     @GetMapping("/search/name")
-    public ResponseEntity<List<Product>> searchProductsByName(@RequestParam String name) {
+    public ResponseEntity<?> searchProductsByName(@RequestParam String name,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestParam(required = false) String view,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag();
+        if (matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        if (isSummaryView(view)) {
+            return isPageRequest(cursor, limit)
+                    ? catalogOk(etag, productService.searchProductSummaryPageByName(name, cursor, limit))
+                    : catalogOk(etag, productService.searchProductSummariesByName(name));
+        }
+        if (isPageRequest(cursor, limit)) {
+            return catalogOk(etag, productService.searchProductPageByName(name, cursor, limit));
+        }
         List<Product> products = productService.searchProductsByName(name);
-        return ResponseEntity.ok(products);
+        return catalogOk(etag, productJsonCache.toJsonArray(products));
     }
 
     /**
      * 설명으로 상품을 검색하는 API
      * 
-     * HTTP GET 요청: /api/products/search/description?description={설명}
+     * HTTP GET 요청: /api/products/search/description?description={설명}[&limit=&cursor=][&view=summary]
      * 
      * @param description 검색할 설명
-     * @return 검색 결과 상품 목록과 HTTP 200 상태 코드
+     * @param cursor 이전 페이지 응답의 nextCursor (선택)
+     * @param limit 페이지 크기 (선택)
+     * @param view 응답 형태 (full 또는 summary, 선택)
+     * @param ifNoneMatch 이전 응답의 ETag (선택)
+     * @return 검색 결과 상품 목록 또는 상품 페이지와 HTTP 200 상태 코드, 또는 HTTP 304 상태 코드
      */
     @GetMapping("/search/description")
-    public ResponseEntity<List<Product>> searchProductsByDescription(@RequestParam String description) {
+    public ResponseEntity<?> searchProductsByDescription(@RequestParam String description,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer limit,
+                                                         @RequestParam(required = false) String view,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag();
+        if (matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        if (isSummaryView(view)) {
+            return isPageRequest(cursor, limit)
+                    ? catalogOk(etag, productService.searchProductSummaryPageByDescription(description, cursor, limit))
+                    : catalogOk(etag, productService.searchProductSummariesByDescription(description));
+        }
+        if (isPageRequest(cursor, limit)) {
+            return catalogOk(etag, productService.searchProductPageByDescription(description, cursor, limit));
+        }
         List<Product> products = productService.searchProductsByDescription(description);
-        return ResponseEntity.ok(products);
+        return catalogOk(etag, productJsonCache.toJsonArray(products));
     }
 
     /**
      * 가격 범위로 상품을 검색하는 API
      * 
-     * HTTP GET 요청: /api/products/search/price?minPrice={최소가격}&maxPrice={최대가격}
+     * HTTP GET 요청: /api/products/search/price?minPrice={최소가격}&maxPrice={최대가격}[&limit=&cursor=][&view=summary]
+     * 
+     * 페이지 조회 시에는 (가격, ID) 순서로 정렬됩니다.
      * 
      * @param minPrice 최소 가격
      * @param maxPrice 최대 가격
-     * @return 검색 결과 상품 목록과 HTTP 200 상태 코드, 또는 HTTP 400 상태 코드
+     * @param cursor 이전 페이지 응답의 nextCursor (선택)
+     * @param limit 페이지 크기 (선택)
+     * @param view 응답 형태 (full 또는 summary, 선택)
+     * @param ifNoneMatch 이전 응답의 ETag (선택)
+     * @return 검색 결과 상품 목록 또는 상품 페이지와 HTTP 200 상태 코드, 또는 HTTP 304 / 400 상태 코드
      */
     @GetMapping("/search/price")
-    public ResponseEntity<List<Product>> searchProductsByPriceRange(@RequestParam BigDecimal minPrice,
-                                                                   @RequestParam BigDecimal maxPrice) {
+    public ResponseEntity<?> searchProductsByPriceRange(@RequestParam BigDecimal minPrice,
+                                                        @RequestParam BigDecimal maxPrice,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer limit,
+                                                        @RequestParam(required = false) String view,
+                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag();
+        if (matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
         try {
+            if (isSummaryView(view)) {
+                return isPageRequest(cursor, limit)
+                        ? catalogOk(etag, productService.searchProductSummaryPageByPriceRange(
+                                minPrice, maxPrice, cursor, limit))
+                        : catalogOk(etag, productService.searchProductSummariesByPriceRange(minPrice, maxPrice));
+            }
+            if (isPageRequest(cursor, limit)) {
+                return catalogOk(etag, 
+                        productService.searchProductPageByPriceRange(minPrice, maxPrice, cursor, limit));
+            }
             List<Product> products = productService.searchProductsByPriceRange(minPrice, maxPrice);
-            return ResponseEntity.ok(products);
+            return catalogOk(etag, productJsonCache.toJsonArray(products));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -198,15 +488,48 @@ public class ProductController {
     /**
      * 키워드로 상품을 검색하는 API (상품명 또는 설명)
      * 
-     * HTTP GET 요청: /api/products/search?keyword={키워드}
+     * HTTP GET 요청: /api/products/search?keyword={키워드}[&limit=&cursor=][&view=summary]
      * 
      * @param keyword 검색할 키워드
-     * @return 검색 결과 상품 목록과 HTTP 200 상태 코드
+     * @param cursor 이전 페이지 응답의 nextCursor (선택)
+     * @param limit 페이지 크기 (선택)
+     * @param view 응답 형태 (full 또는 summary, 선택)
+     * @param ifNoneMatch 이전 응답의 ETag (선택)
+     * @return 검색 결과 상품 목록 또는 상품 페이지와 HTTP 200 상태 코드, 또는 HTTP 304 상태 코드
      */
     @GetMapping("/search")
-    public ResponseEntity<List<Product>> searchProducts(@RequestParam(required = false) String keyword) {
+    public ResponseEntity<?> searchProducts(@RequestParam(required = false) String keyword,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) String view,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag();
+        if (matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        if (isSummaryView(view)) {
+            return isPageRequest(cursor, limit)
+                    ? catalogOk(etag, productService.searchProductSummaryPage(keyword, cursor, limit))
+                    : catalogOk(etag, productService.searchProductSummaries(keyword));
+        }
+        if (isPageRequest(cursor, limit)) {
+            return catalogOk(etag, productService.searchProductPage(keyword, cursor, limit));
+        }
         List<Product> products = productService.searchProducts(keyword);
-        return ResponseEntity.ok(products);
+        return catalogOk(etag, productJsonCache.toJsonArray(products));
+    }
+
+    /**
+     * 키워드 검색 결과를 스트리밍 방식으로 조회하는 API
+     * 
+     * HTTP GET 요청: /api/products/search?keyword={키워드}&stream=true
+     * 
+     * @param keyword 검색할 키워드 (없으면 전체 상품)
+     * @return JSON 배열을 스트리밍하는 응답 본문과 HTTP 200 상태 코드
+     */
+    @GetMapping(value = "/search", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamSearchProducts(@RequestParam(required = false) String keyword) {
+        return streamingResponse(keyword);
     }
 
     // =====================================================
@@ -252,9 +575,21 @@ public class ProductController {
      * @return 평균 가격보다 높은 상품 목록과 HTTP 200 상태 코드
      */
     @GetMapping("/above-average")
-    public ResponseEntity<List<Product>> getProductsAboveAveragePrice() {
+    public ResponseEntity<ProductJsonArray> getProductsAboveAveragePrice() {
         List<Product> products = productService.getProductsAboveAveragePrice();
-        return ResponseEntity.ok(products);
+        return ResponseEntity.ok(productJsonCache.toJsonArray(products));
+    }
+
+    /**
+     * 전체 상품의 가격 통계를 조회하는 API
+     * 
+     * HTTP GET 요청: /api/products/stats
+     * 
+     * @return 상품 수, 가격 합계/평균/최솟값/최댓값과 HTTP 200 상태 코드
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getPriceStats() {
+        return ResponseEntity.ok(productService.getPriceStats());
     }
 
     // =====================================================
@@ -289,6 +624,163 @@ public class ProductController {
         return ResponseEntity.ok(exists);
     }
 
+    /**
+     * 단건 상품 캐시의 통계를 조회하는 API
+     * 
+     * HTTP GET 요청: /api/products/cache/stats
+     * 
+     * @return 캐시 적중/미스/제거 통계와 HTTP 200 상태 코드
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getProductCacheStats() {
+        return ResponseEntity.ok(productService.getProductCacheStats());
+    }
+
+    // =====================================================
+    // 내부 헬퍼 메서드
+    // =====================================================
+
+    /**
+     * 커서 기반 페이지 조회 요청인지 판단하는 메서드
+     * 
+     * @param cursor 커서 파라미터
+     * @param limit 페이지 크기 파라미터
+     * @return 둘 중 하나라도 지정되었으면 true
+     */
+    private boolean isPageRequest(String cursor, Integer limit) {
+        return cursor != null || limit != null;
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인하는 메서드
+     * 
+     * 쉼표로 구분된 여러 ETag와 "*"를 지원하며, If-None-Match는 약한 비교를 사용하므로
+     * 양쪽의 W/ 접두사를 무시합니다.
+     * 
+     * @param ifNoneMatch If-None-Match 헤더 값 (null 허용)
+     * @param etag 현재 ETag (따옴표 포함, W/ 허용)
+     * @return 일치하면 true
+     */
+    private boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String current = CatalogVersion.withoutWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = CatalogVersion.withoutWeakPrefix(candidate.trim());
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 수정 요청에서 기대하는 상품 버전을 정하는 메서드
+     * 
+     * If-Match가 있으면 그 ETag의 버전을, 없으면 요청 본문의 version을 사용합니다.
+     * 
+     * @param id 수정할 상품 ID
+     * @param ifMatch If-Match 헤더 값 (없으면 null)
+     * @param bodyVersion 요청 본문의 version (없으면 null)
+     * @return 기대하는 버전 (If-Match: * 이거나 둘 다 없으면 null)
+     * @throws OptimisticLockingFailureException If-Match가 이 상품의 ETag 형식이 아닌 경우
+     */
+    private Long expectedVersion(Long id, String ifMatch, Long bodyVersion) {
+        if (ifMatch == null) {
+            return bodyVersion;
+        }
+        if (ifMatch.trim().equals("*")) {
+            return null;
+        }
+        return CatalogVersion.versionFromProductETag(id, ifMatch)
+                .orElseThrow(() -> new OptimisticLockingFailureException(
+                        "If-Match가 이 상품의 ETag와 일치하지 않습니다: " + ifMatch));
+    }
+
+    /**
+     * 304 Not Modified 응답을 만드는 메서드
+     * 
+     * @param etag 현재 ETag
+     * @return 본문 없는 304 응답
+     */
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    /**
+     * 카탈로그 버전 ETag를 붙인 목록/검색 응답을 만드는 메서드
+     * 
+     * Cache-Control: no-cache 이므로 브라우저는 응답을 저장하되 매번 If-None-Match로 다시 확인합니다.
+     * 같은 ETag로 JSON / Smile / CBOR / Protobuf 응답이 나갈 수 있으므로 ETag는 약한(W/) ETag이며,
+     * Vary: Accept를 붙여 중간 캐시가 형식별로 따로 저장하도록 합니다.
+     * 
+     * @param etag 데이터를 조회하기 전에 읽은 카탈로그 ETag
+     * @param body 응답 본문
+     * @return HTTP 200 응답
+     */
+    private ResponseEntity<Object> catalogOk(String etag, Object body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    /**
+     * 요약 정보(ProductSummary)로 응답할지 판단하는 메서드
+     * 
+     * @param view view 파라미터 (null이면 full)
+     * @return summary이면 true, full이면 false
+     * @throws IllegalArgumentException summary, full 이외의 값인 경우
+     */
+    private boolean isSummaryView(String view) {
+        if (view == null || view.equals("full")) {
+            return false;
+        }
+        if (view.equals("summary")) {
+            return true;
+        }
+        throw new IllegalArgumentException("view는 summary 또는 full이어야 합니다: " + view);
+    }
+
+    /**
+     * 상품 목록을 JSON 배열로 스트리밍하는 응답을 만드는 메서드
+     * 
+     * 응답 본문은 별도 스레드에서 쓰여지며, 서비스의 읽기 전용 트랜잭션 안에서
+     * DB 커서로 읽은 상품을 JsonGenerator로 바로 출력합니다.
+     * 첫 번째 상품은 즉시 flush 하고, 이후에는 STREAM_FLUSH_INTERVAL 건마다 flush 합니다.
+     * 
+     * @param keyword 검색 키워드 (null이면 전체 상품)
+     * @return 스트리밍 응답
+     */
+    private ResponseEntity<StreamingResponseBody> streamingResponse(String keyword) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = productWriter.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                int[] written = {0};
+                productService.streamProducts(keyword, product -> {
+                    try {
+                        productWriter.writeValue(generator, product);
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 1) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     // =====================================================
     // 예외 처리
     // =====================================================
@@ -304,6 +796,17 @@ public class ProductController {
         return ResponseEntity.badRequest().body(e.getMessage());
     }
 
+    /**
+     * 낙관적 잠금 실패(버전 불일치)를 처리하는 메서드
+     * 
+     * @param e 발생한 예외
+     * @return HTTP 412 Precondition Failed 응답
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(e.getMessage());
+    }
+
     /**
      * 일반적인 예외를 처리하는 메서드
      * 
@@ -0,0 +1,222 @@
+package com.shop.controller;
+
+import com.shop.entity.Product;
+import com.shop.service.ReactiveProductService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 리액티브 스택의 상품 API 요청을 처리하는 핸들러
+ *
+ * ProductRouterConfig가 ProductController와 같은 경로를 이 클래스의 메서드에 연결합니다.
+ * 상품 목록은 Flux<Product>를 그대로 응답 본문으로 넘겨 JSON 배열로 흘려보내므로,
+ * 클라이언트가 읽는 속도에 맞춰 DB 커서도 진행됩니다 (백프레셔).
+ *
+ * IllegalArgumentException은 ProductRouterConfig의 필터에서 400 (상품을 찾을 수 없는 경우 404)으로 변환됩니다.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveProductHandler {
+
+    private static final ParameterizedTypeReference<List<Product>> PRODUCT_LIST =
+            new ParameterizedTypeReference<>() {};
+
+    private final ReactiveProductService reactiveProductService;
+
+    @Autowired
+    public ReactiveProductHandler(ReactiveProductService reactiveProductService) {
+        this.reactiveProductService = reactiveProductService;
+    }
+
+    // =====================================================
+    // 기본 CRUD 작업
+    // =====================================================
+
+    /**
+     * HTTP GET 요청: /api/products
+     *
+     * 커서 기반 페이지(?limit=&cursor=)는 서블릿 스택에서만 지원하며, 여기서는 전체 목록을 스트리밍합니다.
+     */
+    public Mono<ServerResponse> getAllProducts(ServerRequest request) {
+        return streamOk(reactiveProductService.getAllProducts());
+    }
+
+    /**
+     * HTTP GET 요청: /api/products/{id}
+     */
+    public Mono<ServerResponse> getProductById(ServerRequest request) {
+        return reactiveProductService.getProductById(pathId(request))
+                .flatMap(product -> ServerResponse.ok().bodyValue(product))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    /**
+     * HTTP POST 요청: /api/products
+     */
+    public Mono<ServerResponse> createProduct(ServerRequest request) {
+        return request.bodyToMono(Product.class)
+                .flatMap(reactiveProductService::createProduct)
+                .flatMap(product -> ServerResponse.status(HttpStatus.CREATED).bodyValue(product));
+    }
+
+    /**
+     * HTTP PUT 요청: /api/products/{id}
+     */
+    public Mono<ServerResponse> updateProduct(ServerRequest request) {
+        Long id = pathId(request);
+        return request.bodyToMono(Product.class)
+                .flatMap(product -> reactiveProductService.updateProduct(id, product))
+                .flatMap(product -> ServerResponse.ok().bodyValue(product));
+    }
+
+    /**
+     * HTTP DELETE 요청: /api/products/{id}
+     */
+    public Mono<ServerResponse> deleteProduct(ServerRequest request) {
+        return reactiveProductService.deleteProduct(pathId(request))
+                .then(ServerResponse.noContent().build());
+    }
+
+    /**
+     * HTTP POST 요청: /api/products/bulk
+     */
+    public Mono<ServerResponse> createProducts(ServerRequest request) {
+        return request.bodyToMono(PRODUCT_LIST)
+                .flatMap(reactiveProductService::createProducts)
+                .flatMap(response -> ServerResponse.ok().bodyValue(response));
+    }
+
+    // =====================================================
+    // 검색 및 필터링
+    // =====================================================
+
+    /**
+     * HTTP GET 요청: /api/products/search/name?name={상품명}
+     */
+    public Mono<ServerResponse> searchProductsByName(ServerRequest request) {
+        return streamOk(reactiveProductService.searchProductsByName(requiredParam(request, "name")));
+    }
+
+    /**
+     * HTTP GET 요청: /api/products/search/description?description={설명}
+     */
+    public Mono<ServerResponse> searchProductsByDescription(ServerRequest request) {
+        return streamOk(reactiveProductService.searchProductsByDescription(requiredParam(request, "description")));
+    }
+
+    /**
+     * HTTP GET 요청: /api/products/search/price?minPrice={최소가격}&maxPrice={최대가격}
+     */
+    public Mono<ServerResponse> searchProductsByPriceRange(ServerRequest request) {
+        BigDecimal minPrice = new BigDecimal(requiredParam(request, "minPrice"));
+        BigDecimal maxPrice = new BigDecimal(requiredParam(request, "maxPrice"));
+        return streamOk(reactiveProductService.searchProductsByPriceRange(minPrice, maxPrice));
+    }
+
+    /**
+     * HTTP GET 요청: /api/products/search?keyword={키워드}[&limit={최대 결과 수}]
+     *
+     * limit은 커서 페이지가 아니라 관련도 순 결과의 최대 개수로 사용됩니다.
+     */
+    public Mono<ServerResponse> searchProducts(ServerRequest request) {
+        Integer limit = request.queryParam("limit").map(Integer::valueOf).orElse(null);
+        return streamOk(reactiveProductService.searchProducts(request.queryParam("keyword").orElse(null), limit));
+    }
+
+    // =====================================================
+    // 통계 및 상태 확인
+    // =====================================================
+
+    /**
+     * HTTP GET 요청: /api/products/count
+     */
+    public Mono<ServerResponse> getTotalProductCount(ServerRequest request) {
+        return reactiveProductService.getTotalProductCount()
+                .flatMap(count -> ServerResponse.ok().bodyValue(count));
+    }
+
+    /**
+     * HTTP GET 요청: /api/products/count/price?price={기준가격}
+     */
+    public Mono<ServerResponse> getProductCountByPriceGreaterThanEqual(ServerRequest request) {
+        BigDecimal price = new BigDecimal(requiredParam(request, "price"));
+        return reactiveProductService.getProductCountByPriceGreaterThanEqual(price)
+                .flatMap(count -> ServerResponse.ok().bodyValue(count));
+    }
+
+    /**
+     * HTTP GET 요청: /api/products/above-average
+     */
+    public Mono<ServerResponse> getProductsAboveAveragePrice(ServerRequest request) {
+        return streamOk(reactiveProductService.getProductsAboveAveragePrice());
+    }
+
+    /**
+     * HTTP GET 요청: /api/products/stats
+     */
+    public Mono<ServerResponse> getPriceStats(ServerRequest request) {
+        return reactiveProductService.getPriceStats()
+                .flatMap(stats -> ServerResponse.ok().bodyValue(stats));
+    }
+
+    /**
+     * HTTP GET 요청: /api/products/{id}/exists
+     */
+    public Mono<ServerResponse> productExists(ServerRequest request) {
+        return reactiveProductService.productExists(pathId(request))
+                .flatMap(exists -> ServerResponse.ok().bodyValue(exists));
+    }
+
+    /**
+     * HTTP GET 요청: /api/products/exists/name?name={상품명}
+     */
+    public Mono<ServerResponse> productExistsByName(ServerRequest request) {
+        return reactiveProductService.productExistsByName(requiredParam(request, "name"))
+                .flatMap(exists -> ServerResponse.ok().bodyValue(exists));
+    }
+
+    // =====================================================
+    // 내부 헬퍼 메서드
+    // =====================================================
+
+    /**
+     * 상품 스트림을 JSON 배열 응답으로 만드는 메서드
+     *
+     * 첫 신호(첫 상품, 완료, 오류)를 받은 뒤에 응답을 만듭니다.
+     * 검증 오류나 DB 오류가 첫 상품보다 먼저 오면 200 응답을 보내기 전이므로 라우터 필터에서 400/500으로 바꿀 수 있고,
+     * 그 이후의 상품은 요청된 만큼만 DB 커서에서 읽어 그대로 흘려보냅니다.
+     * (cancelSourceOnComplete=false: 응답 객체를 만든 뒤에도 원본 스트림을 취소하지 않음)
+     *
+     * @param products 응답으로 보낼 상품 스트림
+     * @return 200 응답
+     */
+    private Mono<ServerResponse> streamOk(Flux<Product> products) {
+        return products
+                .switchOnFirst((first, flux) -> first.isOnError()
+                        ? Mono.<ServerResponse>error(first.getThrowable())
+                        : ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(flux, Product.class), false)
+                .single();
+    }
+
+    private Long pathId(ServerRequest request) {
+        return Long.valueOf(request.pathVariable("id"));
+    }
+
+    private String requiredParam(ServerRequest request, String name) {
+        return request.queryParam(name)
+                .orElseThrow(() -> new IllegalArgumentException(name + " 파라미터는 필수입니다."));
+    }
+}
@@ -0,0 +1,127 @@
+package com.shop.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시에 JDBC 커넥션을 사용할 수 있는 요청 수를 제한하는 세마포어
+ *
+ * 가상 스레드 모드에서는 요청 스레드 수에 사실상 제한이 없으므로, 수백 개의 스레드가
+ * 커넥션 풀의 getConnection에서 한꺼번에 대기하게 됩니다.
+ * 이 클래스는 커넥션 풀 크기만큼의 허가(permit)를 공정(FIFO) 세마포어로 나누어 주어
+ * 먼저 온 요청부터 커넥션을 얻도록 하고, 대기 시간을 기록합니다.
+ * 같은 통계를 shop.db.governor.* 메트릭으로도 내보냅니다.
+ */
+public class DbPermitGovernor implements MeterBinder {
+
+    private final Semaphore semaphore;
+    private final int permits;
+    private final long timeoutMillis;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * @param permits 동시에 커넥션을 사용할 수 있는 최대 수 (커넥션 풀 크기)
+     * @param timeoutMillis 허가를 기다리는 최대 시간 (밀리초)
+     */
+    public DbPermitGovernor(int permits, long timeoutMillis) {
+        this.semaphore = new Semaphore(permits, true);
+        this.permits = permits;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 허가를 하나 얻습니다. 얻을 때까지 대기합니다.
+     *
+     * @throws SQLTransientConnectionException 제한 시간 안에 허가를 얻지 못한 경우
+     */
+    public void acquire() throws SQLTransientConnectionException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트되었습니다.", e);
+        }
+
+        long waited = System.nanoTime() - startedAt;
+        if (!acquired) {
+            timeouts.increment();
+            throw new SQLTransientConnectionException(
+                    "DB 커넥션을 " + timeoutMillis + "ms 안에 얻지 못했습니다. (대기 중인 요청: " + semaphore.getQueueLength() + ")");
+        }
+        acquisitions.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    /**
+     * 허가를 반납합니다.
+     */
+    public void release() {
+        semaphore.release();
+    }
+
+    /**
+     * 대기 시간 통계를 반환합니다.
+     *
+     * @return 통계 정보 (허가 수, 사용 중/대기 중인 수, 획득/시간 초과 횟수, 평균/최대 대기 시간)
+     */
+    public Map<String, Object> getStats() {
+        long count = acquisitions.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("permits", permits);
+        result.put("inUse", permits - semaphore.availablePermits());
+        result.put("waiting", semaphore.getQueueLength());
+        result.put("acquisitions", count);
+        result.put("timeouts", timeouts.sum());
+        result.put("averageWaitMillis", count == 0 ? 0.0 : totalWaitNanos.sum() / 1e6 / count);
+        result.put("maxWaitMillis", maxWaitNanos.get() / 1e6);
+        return result;
+    }
+
+    /**
+     * 대기 통계를 메트릭으로 등록합니다.
+     *
+     * 이미 집계하고 있는 값을 읽어 가는 방식(Gauge/FunctionCounter/FunctionTimer)이므로
+     * 허가를 얻는 경로에 추가 비용이 없습니다.
+     *
+     * @param registry 메트릭 레지스트리
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("shop.db.governor.permits", this, governor -> governor.permits)
+                .description("동시에 커넥션을 사용할 수 있는 최대 요청 수")
+                .register(registry);
+        Gauge.builder("shop.db.governor.in.use", semaphore, s -> permits - s.availablePermits())
+                .description("커넥션을 사용 중인 요청 수")
+                .register(registry);
+        Gauge.builder("shop.db.governor.waiting", semaphore, Semaphore::getQueueLength)
+                .description("허가를 기다리는 요청 수")
+                .register(registry);
+        FunctionCounter.builder("shop.db.governor.timeouts", timeouts, LongAdder::sum)
+                .description("제한 시간 안에 허가를 얻지 못한 횟수")
+                .register(registry);
+        FunctionTimer.builder("shop.db.governor.wait", this,
+                        governor -> governor.acquisitions.sum(),
+                        governor -> governor.totalWaitNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("허가를 얻기까지 기다린 시간")
+                .register(registry);
+    }
+}
@@ -0,0 +1,83 @@
+package com.shop.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 얻기 전에 DbPermitGovernor의 허가를 받도록 감싼 DataSource
+ *
+ * 커넥션이 닫힐 때(풀에 반납될 때) 허가를 돌려줍니다.
+ * 원래 DataSource(HikariDataSource)는 unwrap으로 그대로 얻을 수 있습니다.
+ */
+public class GovernedDataSource extends DelegatingDataSource {
+
+    private final DbPermitGovernor governor;
+
+    public GovernedDataSource(DataSource targetDataSource, DbPermitGovernor governor) {
+        super(targetDataSource);
+        this.governor = governor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        governor.acquire();
+        try {
+            return withPermitRelease(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            governor.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        governor.acquire();
+        try {
+            return withPermitRelease(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            governor.release();
+            throw e;
+        }
+    }
+
+    /**
+     * close() 호출 시 허가를 한 번만 반납하도록 커넥션을 감쌉니다.
+     */
+    private Connection withPermitRelease(Connection target) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                governor.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,118 @@
+package com.shop.datasource;
+
+import com.shop.sql.SqlStatsRecorder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 실행 시간을 SqlStatsRecorder에 기록하도록 감싼 DataSource
+ *
+ * 커넥션에서 만든 Statement / PreparedStatement / CallableStatement를 프록시로 감싸
+ * execute* 호출(executeQuery, executeUpdate, executeBatch 등)의 실행 시간을 잽니다.
+ * Hibernate와 JdbcTemplate이 모두 이 DataSource를 거치므로 두 경로의 SQL이 함께 집계됩니다.
+ * ResultSet에서 행을 읽는 시간은 포함하지 않습니다.
+ */
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+    private final SqlStatsRecorder recorder;
+
+    public SqlStatsDataSource(DataSource targetDataSource, SqlStatsRecorder recorder) {
+        super(targetDataSource);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return withStatementTiming(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return withStatementTiming(super.getConnection(username, password));
+    }
+
+    /**
+     * 커넥션이 만드는 Statement를 실행 시간 측정 프록시로 감쌉니다.
+     */
+    private Connection withStatementTiming(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    Object result = invoke(target, method, args);
+                    switch (method.getName()) {
+                        case "createStatement":
+                            return timed((Statement) result, Statement.class, null);
+                        case "prepareStatement":
+                            return timed((Statement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall":
+                            return timed((Statement) result, CallableStatement.class, (String) args[0]);
+                        default:
+                            return result;
+                    }
+                });
+    }
+
+    /**
+     * execute로 시작하는 메서드의 실행 시간을 기록하도록 Statement를 감쌉니다.
+     *
+     * @param target 원래 Statement
+     * @param type 프록시가 구현할 인터페이스
+     * @param preparedSql PreparedStatement의 SQL (일반 Statement이면 null, 이때는 execute의 인자를 사용)
+     */
+    private Statement timed(Statement target, Class<? extends Statement> type, String preparedSql) {
+        return (Statement) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(target, method, args);
+                    }
+                    String sql = preparedSql != null ? preparedSql
+                            : args != null && args.length > 0 && args[0] instanceof String s ? s
+                            : "(batch)";
+                    long startedAt = System.nanoTime();
+                    boolean failed = true;
+                    try {
+                        Object result = invoke(target, method, args);
+                        failed = false;
+                        return result;
+                    } finally {
+                        recorder.record(sql, System.nanoTime() - startedAt, failed);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.shop.dto;
+
+import java.util.List;
+
+/**
+ * 대량 상품 수정/삭제 API(PATCH, DELETE /api/products/bulk)의 응답 클래스
+ *
+ * 요청한 상품 수와 실제로 변경된 행 수, 그리고 존재하지 않아 처리되지 않은 상품 ID 목록을 담습니다.
+ */
+public class BulkChangeResponse {
+
+    private final int requested;
+    private final int affected;
+    private final List<Long> missingIds;
+
+    public BulkChangeResponse(int requested, int affected, List<Long> missingIds) {
+        this.requested = requested;
+        this.affected = affected;
+        this.missingIds = missingIds;
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+}
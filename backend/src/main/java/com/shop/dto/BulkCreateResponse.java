@@ -0,0 +1,45 @@
+package com.shop.dto;
+
+import java.util.List;
+
+/**
+ * 대량 상품 생성 API(POST /api/products/bulk)의 응답 클래스
+ *
+ * 전체 요청/생성/거부 건수와 함께, 요청 순서대로 항목별 처리 결과를 담습니다.
+ */
+public class BulkCreateResponse {
+
+    private final int requested;
+    private final int created;
+    private final int rejected;
+    private final List<BulkItemResult> results;
+
+    public BulkCreateResponse(List<BulkItemResult> results) {
+        this.results = results;
+        this.requested = results.size();
+        this.created = (int) results.stream()
+                .filter(result -> result.getStatus() == BulkItemResult.Status.CREATED)
+                .count();
+        this.rejected = requested - created;
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<BulkItemResult> getResults() {
+        return results;
+    }
+}
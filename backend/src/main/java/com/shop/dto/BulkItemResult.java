@@ -0,0 +1,74 @@
+package com.shop.dto;
+
+/**
+ * 대량 처리 API에서 요청 항목 하나의 처리 결과를 담는 클래스
+ *
+ * index는 요청 본문 배열에서의 위치(0부터 시작)이며,
+ * 클라이언트는 이 값으로 자신이 보낸 항목과 결과를 짝지을 수 있습니다.
+ */
+public class BulkItemResult {
+
+    /**
+     * 처리 상태
+     */
+    public enum Status {
+        /** 정상적으로 생성됨 */
+        CREATED,
+        /** 검증 실패 또는 중복으로 거부됨 */
+        REJECTED
+    }
+
+    private final int index;
+    private final Status status;
+    private final Long id;
+    private final String message;
+
+    private BulkItemResult(int index, Status status, Long id, String message) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+
+    /**
+     * 생성 성공 결과를 만듭니다.
+     *
+     * @param index 요청 배열에서의 위치
+     * @param id 생성된 상품의 ID
+     * @return 처리 결과
+     */
+    public static BulkItemResult created(int index, Long id) {
+        return new BulkItemResult(index, Status.CREATED, id, null);
+    }
+
+    /**
+     * 거부 결과를 만듭니다.
+     *
+     * @param index 요청 배열에서의 위치
+     * @param message 거부 사유
+     * @return 처리 결과
+     */
+    public static BulkItemResult rejected(int index, String message) {
+        return new BulkItemResult(index, Status.REJECTED, null, message);
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
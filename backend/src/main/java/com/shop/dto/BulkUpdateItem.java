@@ -0,0 +1,54 @@
+package com.shop.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 대량 상품 수정 API(PATCH /api/products/bulk)의 요청 항목 클래스
+ *
+ * id는 필수이며, price와 description 중 값이 있는 필드만 변경됩니다.
+ * 생략한(null) 필드는 기존 값이 그대로 유지됩니다.
+ * 상품명은 중복 확인이 필요하므로 이 API로는 변경할 수 없습니다 (PUT /api/products/{id} 사용).
+ */
+public class BulkUpdateItem {
+
+    private Long id;
+    private BigDecimal price;
+    private String description;
+
+    public BulkUpdateItem() {
+    }
+
+    public BulkUpdateItem(Long id, BigDecimal price, String description) {
+        this.id = id;
+        this.price = price;
+        this.description = description;
+    }
+
+    // =====================================================
+    // Getter와 Setter 메서드
+    // =====================================================
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,135 @@
+package com.shop.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지 조회의 다음 페이지 시작 위치를 표현하는 클래스
+ *
+ * 커서는 "정렬 키 + 마지막 상품 ID" 조합으로 구성되며,
+ * 클라이언트에게는 Base64(URL-safe)로 인코딩된 불투명한 문자열로만 전달됩니다.
+ * 클라이언트는 응답으로 받은 nextCursor 값을 그대로 다음 요청에 넘기기만 하면 됩니다.
+ *
+ * 인코딩 전 형식: {정렬 키 코드}|{정렬 키 값}|{ID}
+ * - c|2024-01-01T10:00:00.123456|42 : (created_at, id) 정렬
+ * - p|15000.00|42                   : (price, id) 정렬
+ */
+public final class ProductCursor {
+
+    /**
+     * 커서가 기준으로 삼는 정렬 키
+     */
+    public enum SortKey {
+        /** (created_at, id) 오름차순 정렬 */
+        CREATED_AT("c"),
+        /** (price, id) 오름차순 정렬 */
+        PRICE("p");
+
+        private final String code;
+
+        SortKey(String code) {
+            this.code = code;
+        }
+    }
+
+    private static final String SEPARATOR = "|";
+
+    private final SortKey sortKey;
+    private final String keyValue;
+    private final Long id;
+
+    private ProductCursor(SortKey sortKey, String keyValue, Long id) {
+        this.sortKey = sortKey;
+        this.keyValue = keyValue;
+        this.id = id;
+    }
+
+    // =====================================================
+    // 생성 메서드
+    // =====================================================
+
+    /**
+     * (created_at, id) 정렬 기준 커서를 생성합니다.
+     *
+     * @param createdAt 마지막으로 반환된 상품의 생성 시간
+     * @param id 마지막으로 반환된 상품의 ID
+     * @return 커서
+     */
+    public static ProductCursor ofCreatedAt(LocalDateTime createdAt, Long id) {
+        return new ProductCursor(SortKey.CREATED_AT, createdAt.toString(), id);
+    }
+
+    /**
+     * (price, id) 정렬 기준 커서를 생성합니다.
+     *
+     * @param price 마지막으로 반환된 상품의 가격
+     * @param id 마지막으로 반환된 상품의 ID
+     * @return 커서
+     */
+    public static ProductCursor ofPrice(BigDecimal price, Long id) {
+        return new ProductCursor(SortKey.PRICE, price.toPlainString(), id);
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param token 인코딩된 커서 문자열
+     * @param expected 요청한 API가 사용하는 정렬 키
+     * @return 해석된 커서
+     * @throws IllegalArgumentException 형식이 잘못되었거나 정렬 키가 다른 경우
+     */
+    public static ProductCursor decode(String token, SortKey expected) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !expected.code.equals(parts[0])) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+
+            ProductCursor cursor = new ProductCursor(expected, parts[1], Long.valueOf(parts[2]));
+            // 정렬 키 값이 올바른 타입인지 미리 확인합니다.
+            if (expected == SortKey.CREATED_AT) {
+                cursor.getCreatedAt();
+            } else {
+                cursor.getPrice();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 오류, 숫자 변환 오류(NumberFormatException 포함), 날짜 변환 오류를 모두 같은 메시지로 처리합니다.
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에게 전달할 문자열로 인코딩합니다.
+     *
+     * @return URL-safe Base64 문자열 (패딩 없음)
+     */
+    public String encode() {
+        String raw = sortKey.code + SEPARATOR + keyValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    public SortKey getSortKey() {
+        return sortKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return LocalDateTime.parse(keyValue);
+    }
+
+    public BigDecimal getPrice() {
+        return new BigDecimal(keyValue);
+    }
+}
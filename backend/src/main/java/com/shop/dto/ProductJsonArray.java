@@ -0,0 +1,92 @@
+package com.shop.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.shop.entity.Product;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 미리 직렬화된 상품 JSON 조각들로 이루어진 JSON 배열 응답
+ *
+ * ProductJsonCache가 상품마다 보관하는 UTF-8 JSON 바이트를 그대로 이어 붙여
+ * [조각,조각,...] 형태로 출력합니다. Jackson을 거치지 않으므로
+ * 요청마다 BigDecimal / LocalDateTime을 다시 포맷하지 않습니다.
+ * (응답 작성은 ProductJsonArrayHttpMessageConverter가 담당)
+ *
+ * JSON 이외의 형식(Smile, CBOR, Protobuf)으로 응답할 때는 상품 목록 그대로 직렬화되며 (@JsonValue),
+ * 이때는 조각을 만들지 않습니다.
+ */
+public class ProductJsonArray {
+
+    /**
+     * 응답할 상품 목록
+     */
+    private final List<Product> products;
+
+    /**
+     * 상품의 JSON 조각을 반환하는 함수 (ProductJsonCache::toJson)
+     */
+    private final Function<Product, byte[]> fragmentOf;
+
+    /**
+     * 상품별 JSON 조각 (처음 필요할 때 만듦)
+     */
+    private List<byte[]> fragments;
+
+    public ProductJsonArray(List<Product> products, Function<Product, byte[]> fragmentOf) {
+        this.products = products;
+        this.fragmentOf = fragmentOf;
+    }
+
+    /**
+     * JSON 배열 전체의 바이트 수 (Content-Length)
+     *
+     * @return 대괄호와 쉼표를 포함한 전체 길이
+     */
+    public long contentLength() {
+        List<byte[]> fragments = getFragments();
+        long length = 2 + Math.max(0, fragments.size() - 1);
+        for (byte[] fragment : fragments) {
+            length += fragment.length;
+        }
+        return length;
+    }
+
+    /**
+     * JSON 배열을 출력 스트림에 씁니다.
+     *
+     * @param out 응답 본문 스트림
+     * @throws IOException 쓰기 오류
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        List<byte[]> fragments = getFragments();
+        out.write('[');
+        for (int i = 0; i < fragments.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(fragments.get(i));
+        }
+        out.write(']');
+    }
+
+    @JsonValue
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    public List<byte[]> getFragments() {
+        if (fragments == null) {
+            List<byte[]> result = new ArrayList<>(products.size());
+            for (Product product : products) {
+                result.add(fragmentOf.apply(product));
+            }
+            fragments = result;
+        }
+        return fragments;
+    }
+}
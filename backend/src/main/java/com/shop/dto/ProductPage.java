@@ -0,0 +1,52 @@
+package com.shop.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 조회 결과를 담는 응답 클래스
+ *
+ * 전체 개수(COUNT)를 계산하지 않기 때문에 몇 번째 페이지든 조회 비용이 같습니다.
+ * 다음 페이지가 있으면 nextCursor에 다음 요청에 사용할 커서가 담기고,
+ * 마지막 페이지이면 nextCursor는 null, hasNext는 false가 됩니다.
+ *
+ * @param <T> 상품 항목 타입 (Product 또는 ?view=summary 의 ProductSummary)
+ */
+public class ProductPage<T> {
+
+    /**
+     * 현재 페이지의 상품 목록
+     */
+    private final List<T> items;
+
+    /**
+     * 다음 페이지 조회에 사용할 커서 (마지막 페이지이면 null)
+     */
+    private final String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private final boolean hasNext;
+
+    public ProductPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
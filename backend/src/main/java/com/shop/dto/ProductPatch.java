@@ -0,0 +1,171 @@
+package com.shop.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.shop.entity.Product;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 상품의 일부 필드만 바꾸는 수정 요청 (JSON Merge Patch, RFC 7396)
+ *
+ * 본문에 있는 필드만 "바꿀 필드"로 표시되며, 값이 null인 필드는 null로 바꾸라는 뜻입니다.
+ * (필수 필드인 name, price를 null로 바꾸는 요청은 검증에서 거부됩니다.)
+ * ProductRepositoryCustom.updateIfMatches가 바꿀 필드만 SET 절에 넣은 UPDATE 문을 만듭니다.
+ *
+ * version은 바꿀 값이 아니라 PUT 요청과 같이 수정 전 버전으로 기대하는 값(낙관적 잠금 조건)입니다.
+ */
+public class ProductPatch {
+
+    private boolean nameSet;
+    private String name;
+
+    private boolean descriptionSet;
+    private String description;
+
+    private boolean priceSet;
+    private BigDecimal price;
+
+    private Long version;
+
+    private ProductPatch() {
+    }
+
+    /**
+     * 모든 필드를 바꾸는 수정 요청 (PUT)
+     *
+     * @param product 요청 본문
+     * @return 상품명, 설명, 가격을 모두 바꾸는 수정 요청
+     */
+    public static ProductPatch of(Product product) {
+        ProductPatch patch = new ProductPatch();
+        patch.setName(product.getName());
+        patch.setDescription(product.getDescription());
+        patch.setPrice(product.getPrice());
+        patch.version = product.getVersion();
+        return patch;
+    }
+
+    /**
+     * JSON Merge Patch 본문을 수정 요청으로 변환합니다.
+     *
+     * @param body 요청 본문 (JSON 객체)
+     * @return 본문에 있는 필드만 바꾸는 수정 요청
+     * @throws IllegalArgumentException 본문이 객체가 아니거나, 수정할 수 없는 필드 또는 잘못된 타입의 값이 있는 경우
+     */
+    public static ProductPatch fromMergePatch(JsonNode body) {
+        if (body == null || !body.isObject()) {
+            throw new IllegalArgumentException("병합 패치 본문은 JSON 객체여야 합니다.");
+        }
+        ProductPatch patch = new ProductPatch();
+        Iterator<Map.Entry<String, JsonNode>> fields = body.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "name" -> patch.setName(textValue("name", value));
+                case "description" -> patch.setDescription(textValue("description", value));
+                case "price" -> patch.setPrice(decimalValue("price", value));
+                case "version" -> patch.version = value.isNull() ? null : longValue("version", value);
+                default -> throw new IllegalArgumentException("수정할 수 없는 필드입니다: " + field.getKey());
+            }
+        }
+        return patch;
+    }
+
+    /**
+     * @return 바꿀 필드가 하나도 없으면 true
+     */
+    public boolean isEmpty() {
+        return !nameSet && !descriptionSet && !priceSet;
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    public boolean hasName() {
+        return nameSet;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean hasDescription() {
+        return descriptionSet;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean hasPrice() {
+        return priceSet;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    /**
+     * @return 수정 전 버전으로 기대하는 값 (없으면 null)
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    // =====================================================
+    // 내부 헬퍼 메서드
+    // =====================================================
+
+    private void setName(String name) {
+        this.nameSet = true;
+        this.name = name;
+    }
+
+    private void setDescription(String description) {
+        this.descriptionSet = true;
+        this.description = description;
+    }
+
+    private void setPrice(BigDecimal price) {
+        this.priceSet = true;
+        this.price = price;
+    }
+
+    private static String textValue(String field, JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException(field + "은(는) 문자열이어야 합니다.");
+        }
+        return value.textValue();
+    }
+
+    private static BigDecimal decimalValue(String field, JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        if (value.isNumber()) {
+            return value.decimalValue();
+        }
+        if (value.isTextual()) {
+            try {
+                return new BigDecimal(value.textValue().trim());
+            } catch (NumberFormatException e) {
+                // 아래에서 같은 오류로 처리
+            }
+        }
+        throw new IllegalArgumentException(field + "은(는) 숫자여야 합니다.");
+    }
+
+    private static Long longValue(String field, JsonNode value) {
+        if (!value.canConvertToExactIntegral() || !value.canConvertToLong()) {
+            throw new IllegalArgumentException(field + "은(는) 정수여야 합니다.");
+        }
+        return value.longValue();
+    }
+}
@@ -0,0 +1,44 @@
+package com.shop.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * SQL로 직접 수정/삭제한 상품 한 건의 가격 변화를 담는 클래스
+ *
+ * 대량 수정/삭제 SQL의 RETURNING 결과를 담아, 가격 통계처럼
+ * 변경 전후 가격이 필요한 이벤트 리스너에게 전달하는 데 사용합니다.
+ */
+public class ProductPriceChange {
+
+    private final Long id;
+    private final BigDecimal oldPrice;
+    private final BigDecimal newPrice;
+
+    public ProductPriceChange(Long id, BigDecimal oldPrice, BigDecimal newPrice) {
+        this.id = id;
+        this.oldPrice = oldPrice;
+        this.newPrice = newPrice;
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * @return 변경 전 가격
+     */
+    public BigDecimal getOldPrice() {
+        return oldPrice;
+    }
+
+    /**
+     * @return 변경 후 가격 (삭제된 경우 null)
+     */
+    public BigDecimal getNewPrice() {
+        return newPrice;
+    }
+}
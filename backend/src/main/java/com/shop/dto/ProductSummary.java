@@ -0,0 +1,26 @@
+package com.shop.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 상품 요약 정보 (Spring Data 인터페이스 프로젝션)
+ *
+ * 목록/검색 API에서 ?view=summary 로 요청하면 Product 엔티티 대신 이 타입으로 응답합니다.
+ * 최대 1000자인 description 컬럼을 읽지 않으므로 DB에서 읽는 양과 응답 크기가 줄어들고,
+ * 엔티티가 아닌 값으로 조회되므로 영속성 컨텍스트(변경 감지 스냅샷)와 2차 캐시를 거치지 않습니다.
+ *
+ * createdAt은 (생성 시간, ID) 커서를 만드는 데 필요하므로 함께 조회합니다.
+ */
+public interface ProductSummary {
+
+    Long getId();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
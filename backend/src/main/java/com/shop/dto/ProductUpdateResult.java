@@ -0,0 +1,40 @@
+package com.shop.dto;
+
+import com.shop.entity.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * SQL로 직접 수정한 상품 한 건의 결과를 담는 클래스
+ *
+ * 조건부 수정 SQL의 RETURNING 결과로 만들며, 수정된 상품(응답 본문)과
+ * 가격 통계 등 이벤트 리스너에게 전달할 변경 전 가격을 함께 담습니다.
+ */
+public class ProductUpdateResult {
+
+    private final Product product;
+    private final BigDecimal oldPrice;
+
+    public ProductUpdateResult(Product product, BigDecimal oldPrice) {
+        this.product = product;
+        this.oldPrice = oldPrice;
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    /**
+     * @return 수정된 상품 (영속성 컨텍스트에 속하지 않은 객체)
+     */
+    public Product getProduct() {
+        return product;
+    }
+
+    /**
+     * @return 변경 전 가격
+     */
+    public BigDecimal getOldPrice() {
+        return oldPrice;
+    }
+}
@@ -5,7 +5,11 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -16,20 +20,47 @@ import java.time.LocalDateTime;
  * 
  * 이 클래스는 데이터베이스의 'products' 테이블과 매핑됩니다.
  * JPA 어노테이션을 사용하여 테이블 구조와 컬럼을 정의합니다.
+ * 
+ * 커서 기반 페이지 조회가 정렬 키 + ID 순서로 인덱스를 타도록
+ * (created_at, id), (price, id) 복합 인덱스를 함께 정의합니다.
+ * 
+ * 상품명 중복은 서비스에서 미리 조회하지 않고 유일 제약(uk_products_name)으로 막습니다.
+ * 동시에 같은 상품명으로 저장해도 한 요청만 성공하며, 서비스가 제약 위반을 상품명 중복 오류로 바꿉니다.
+ * 
+ * Hibernate 2차 캐시(JCache/Ehcache) 설정:
+ * - @Cache: ID로 조회한 엔티티를 2차 캐시에 보관 (READ_WRITE로 수정과 동시 조회 시에도 일관성 유지)
+ * - @NaturalIdCache: 상품명 → ID 매핑을 캐시하여 상품명 존재 확인을 DB 조회 없이 처리
+ * 캐시 영역별 크기와 만료 시간은 src/main/resources/ehcache.xml에서 설정합니다.
  */
 @Entity
-@Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "com.shop.entity.Product")
+@NaturalIdCache(region = "com.shop.entity.Product##NaturalId")
+@Table(name = "products", uniqueConstraints = {
+        @UniqueConstraint(name = Product.NAME_UNIQUE_CONSTRAINT, columnNames = "name")
+}, indexes = {
+        @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_products_price_id", columnList = "price, id")
+})
 public class Product {
 
+    /**
+     * 상품명 유일 제약 이름 (제약 위반 예외가 상품명 중복 때문인지 확인할 때 사용)
+     */
+    public static final String NAME_UNIQUE_CONSTRAINT = "uk_products_name";
+
     /**
      * 상품의 고유 식별자 (Primary Key)
      * 
-     * @GeneratedValue(strategy = GenerationType.IDENTITY)
-     * - 데이터베이스가 자동으로 증가하는 값을 할당
-     * - PostgreSQL의 SERIAL 타입과 동일
+     * @GeneratedValue(strategy = GenerationType.SEQUENCE)
+     * - products_id_seq 시퀀스에서 값을 할당
+     * - allocationSize = 50: 시퀀스를 한 번 조회할 때 50개의 ID를 미리 확보하므로
+     *   INSERT 전에 ID를 알 수 있어 Hibernate가 여러 INSERT를 JDBC 배치로 묶을 수 있습니다.
+     *   (IDENTITY 방식은 INSERT를 실행해야 ID를 알 수 있어 배치가 불가능합니다.)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_seq")
+    @SequenceGenerator(name = "products_id_seq", sequenceName = "products_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -39,7 +70,9 @@ public class Product {
      * @NotBlank: null, 빈 문자열, 공백만 있는 문자열을 허용하지 않음
      * @Size: 문자열의 길이 제한 (최소 1자, 최대 100자)
      * @Column: 데이터베이스 컬럼 설정
+     * @NaturalId: 상품명은 중복될 수 없는 자연 키이며 수정 가능 (mutable = true)
      */
+    @NaturalId(mutable = true)
     @NotBlank(message = "상품명은 필수입니다.")
     @Size(min = 1, max = 100, message = "상품명은 1자 이상 100자 이하여야 합니다.")
     @Column(name = "name", nullable = false, length = 100)
@@ -86,6 +119,18 @@ public class Product {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * 낙관적 잠금 버전
+     * 
+     * @Version: 엔티티를 수정할 때마다 1씩 증가하며, 수정 SQL의 WHERE 조건에 포함되어
+     * 다른 트랜잭션이 먼저 수정한 경우 변경 내용을 덮어쓰지 않고 실패합니다.
+     * SQL로 직접 수정하는 경로(단건 조건부 수정, 대량 수정, 리액티브 스택)도 같은 컬럼을 증가시킵니다.
+     * 단건 응답의 ETag와 PUT 요청의 If-Match에도 사용됩니다.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // =====================================================
     // 생성자
     // =====================================================
@@ -162,6 +207,14 @@ public class Product {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // =====================================================
     // equals, hashCode, toString 메서드
     // =====================================================
@@ -201,6 +254,7 @@ public class Product {
                 ", price=" + price +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
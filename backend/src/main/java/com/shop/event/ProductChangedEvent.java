@@ -0,0 +1,79 @@
+package com.shop.event;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품이 생성, 수정, 삭제되었음을 알리는 애플리케이션 이벤트
+ *
+ * ProductService가 쓰기 작업 후 발행하며, 캐시처럼 상품 데이터의 사본을 가진
+ * 컴포넌트들이 이 이벤트를 받아 자신의 데이터를 최신 상태로 맞춥니다.
+ * 리스너는 @TransactionalEventListener를 사용하여 트랜잭션 커밋 이후에만 반영하는 것을 권장합니다.
+ */
+public class ProductChangedEvent {
+
+    /**
+     * 변경 유형
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * 변경 유형
+     */
+    private final Type type;
+
+    /**
+     * 변경된 상품의 ID
+     */
+    private final Long productId;
+
+    /**
+     * 변경 전 가격 (CREATED이면 null)
+     */
+    private final BigDecimal oldPrice;
+
+    /**
+     * 변경 후 가격 (DELETED이면 null)
+     */
+    private final BigDecimal newPrice;
+
+    public ProductChangedEvent(Type type, Long productId, BigDecimal oldPrice, BigDecimal newPrice) {
+        this.type = type;
+        this.productId = productId;
+        this.oldPrice = oldPrice;
+        this.newPrice = newPrice;
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public BigDecimal getOldPrice() {
+        return oldPrice;
+    }
+
+    public BigDecimal getNewPrice() {
+        return newPrice;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductChangedEvent{" +
+                "type=" + type +
+                ", productId=" + productId +
+                ", oldPrice=" + oldPrice +
+                ", newPrice=" + newPrice +
+                '}';
+    }
+}
@@ -1,14 +1,22 @@
 package com.shop.repository;
 
+import com.shop.dto.ProductSummary;
 import com.shop.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 상품 데이터에 대한 데이터 접근을 담당하는 Repository 인터페이스
@@ -19,7 +27,7 @@ import java.util.Optional;
  * @Repository 어노테이션은 이 클래스가 데이터 접근 계층의 컴포넌트임을 명시합니다.
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     // =====================================================
     // Spring Data JPA가 자동으로 구현하는 기본 메서드들
@@ -32,12 +40,46 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // - deleteById(Long id): ID로 엔티티 삭제
     // - count(): 전체 엔티티 개수 조회
     // - existsById(Long id): ID로 엔티티 존재 여부 확인
+    //
+    // ProductRepositoryCustom을 함께 상속하여 다음 메서드도 사용할 수 있습니다:
+    // - findByNaturalName(String name): 자연 키(상품명)로 조회 (2차 캐시 활용)
+
+    /**
+     * 상품 조회 쿼리 결과를 보관하는 Hibernate 쿼리 캐시 영역 이름 (ehcache.xml과 일치해야 함)
+     */
+    String PRODUCT_QUERY_CACHE_REGION = "product-queries";
+
+    /**
+     * Native SQL에서 Product 엔티티로 매핑할 컬럼 목록
+     * 
+     * schema-postgresql.sql이 추가하는 search_vector 같은 보조 컬럼은
+     * 엔티티에 매핑되지 않으므로 SELECT * 대신 이 목록을 사용합니다.
+     */
+    String PRODUCT_COLUMNS = "p.id, p.name, p.description, p.price, p.created_at, p.updated_at, p.version";
+
+    /**
+     * ProductSummary 프로젝션으로 조회할 JPQL 선택 목록 (별칭이 프로젝션의 속성 이름)
+     */
+    String SUMMARY_SELECT = "p.id AS id, p.name AS name, p.price AS price, " +
+                            "p.createdAt AS createdAt, p.updatedAt AS updatedAt";
+
+    /**
+     * ProductSummary 프로젝션으로 조회할 Native SQL 컬럼 목록
+     * 
+     * PostgreSQL은 따옴표 없는 별칭을 소문자로 바꾸므로 프로젝션 속성 이름과 같도록 따옴표로 감쌉니다.
+     */
+    String SUMMARY_COLUMNS = "p.id AS \"id\", p.name AS \"name\", p.price AS \"price\", " +
+                             "p.created_at AS \"createdAt\", p.updated_at AS \"updatedAt\"";
 
     // =====================================================
     // 메서드 이름으로 쿼리 생성 (Query Method)
     // =====================================================
     // Spring Data JPA는 메서드 이름을 분석하여 자동으로 SQL 쿼리를 생성합니다.
     // 메서드 이름 규칙: findBy + 필드명 + 조건
+    //
+    // 아래 조회 메서드들은 Hibernate 쿼리 캐시("product-queries" 영역)를 사용합니다.
+    // 쿼리 캐시는 결과 상품 ID 목록만 보관하고 엔티티는 2차 캐시에서 가져오며,
+    // products 테이블이 변경되면 Hibernate가 해당 영역의 결과를 자동으로 무효화합니다.
 
     /**
      * 상품명으로 상품을 조회하는 메서드
@@ -48,6 +90,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param name 조회할 상품명
      * @return 상품명이 일치하는 상품 목록
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRODUCT_QUERY_CACHE_REGION)
+    })
     List<Product> findByName(String name);
 
     /**
@@ -59,6 +105,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param name 포함될 상품명 (부분 문자열)
      * @return 상품명에 해당 문자열이 포함된 상품 목록
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRODUCT_QUERY_CACHE_REGION)
+    })
     List<Product> findByNameContaining(String name);
 
     /**
@@ -67,6 +117,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param description 포함될 설명 (부분 문자열)
      * @return 설명에 해당 문자열이 포함된 상품 목록
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRODUCT_QUERY_CACHE_REGION)
+    })
     List<Product> findByDescriptionContaining(String description);
 
     /**
@@ -79,6 +133,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param maxPrice 최대 가격
      * @return 가격 범위에 해당하는 상품 목록
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRODUCT_QUERY_CACHE_REGION)
+    })
     List<Product> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice);
 
     /**
@@ -87,6 +145,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param price 기준 가격
      * @return 기준 가격보다 낮은 상품 목록
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRODUCT_QUERY_CACHE_REGION)
+    })
     List<Product> findByPriceLessThan(BigDecimal price);
 
     /**
@@ -95,6 +157,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param price 기준 가격
      * @return 기준 가격보다 높은 상품 목록
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRODUCT_QUERY_CACHE_REGION)
+    })
     List<Product> findByPriceGreaterThan(BigDecimal price);
 
     /**
@@ -107,6 +173,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param description 설명
      * @return 조건에 맞는 상품 목록
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRODUCT_QUERY_CACHE_REGION)
+    })
     List<Product> findByNameAndDescription(String name, String description);
 
     /**
@@ -118,6 +188,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param description 설명에 포함될 문자열
      * @return 조건에 맞는 상품 목록
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PRODUCT_QUERY_CACHE_REGION)
+    })
     List<Product> findByNameContainingOrDescriptionContaining(String name, String description);
 
     /**
@@ -128,6 +202,29 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     boolean existsByName(String name);
 
+    /**
+     * 주어진 상품명 중 이미 사용 중인 상품명들을 조회하는 메서드
+     * 
+     * 대량 생성 시 상품명 중복을 상품마다 existsByName으로 확인하지 않고
+     * 한 번의 IN 쿼리로 확인하기 위해 사용합니다.
+     * 
+     * @param names 확인할 상품명 목록
+     * @return 이미 존재하는 상품명 목록
+     */
+    @Query("SELECT p.name FROM Product p WHERE p.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    /**
+     * 상품의 버전만 조회하는 메서드
+     * 
+     * 단건 조회의 If-None-Match(ETag)를 확인할 때 엔티티 전체를 읽지 않기 위해 사용합니다.
+     * 
+     * @param id 상품 ID
+     * @return 버전 (상품이 없으면 Optional.empty)
+     */
+    @Query("SELECT p.version FROM Product p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
     /**
      * 상품명으로 상품 개수를 조회하는 메서드
      * 
@@ -141,6 +238,28 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // =====================================================
     // 복잡한 쿼리나 성능 최적화가 필요한 경우 직접 SQL을 작성할 수 있습니다.
 
+    /**
+     * 가격별 상품 수를 조회하는 메서드
+     * 
+     * 가격 통계(ProductPriceStats)를 DB 기준으로 보정할 때 사용합니다.
+     * 
+     * @return [가격, 상품 수] 배열 목록
+     */
+    @Query("SELECT p.price, COUNT(p) FROM Product p GROUP BY p.price")
+    List<Object[]> countGroupByPrice();
+
+    /**
+     * 여러 상품의 현재 가격을 조회하는 메서드
+     * 
+     * 가격 통계를 보정하는 동안 변경된 상품이 countGroupByPrice 결과에 어떤 가격으로 들어 있는지
+     * 같은 트랜잭션(스냅숏)에서 확인할 때 사용합니다.
+     * 
+     * @param ids 상품 ID 목록
+     * @return [상품 ID, 가격] 배열 목록 (없는 상품은 제외)
+     */
+    @Query("SELECT p.id, p.price FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findPricesByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 가격이 평균 가격보다 높은 상품들을 조회하는 메서드
      * 
@@ -181,6 +300,384 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT COUNT(p) FROM Product p WHERE p.price >= :price")
     long countProductsByPriceGreaterThanEqual(@Param("price") BigDecimal price);
 
+    // =====================================================
+    // PostgreSQL 전문 검색 (Full-Text Search)
+    // =====================================================
+    // schema-postgresql.sql이 만드는 search_vector 생성 컬럼(상품명 가중치 A, 설명 가중치 B)과
+    // GIN 인덱스를 사용합니다. LIKE '%키워드%'와 달리 인덱스로 처리되므로 순차 스캔이 발생하지 않습니다.
+    // 검색어는 websearch_to_tsquery 문법을 따릅니다 (예: 노트북 -중고, "무선 마우스", 키보드 or 마우스).
+
+    /**
+     * 상품명 또는 설명이 검색어와 일치하는 상품을 관련도 순으로 조회하는 메서드
+     * 
+     * @param keyword 검색 키워드 (websearch_to_tsquery 문법)
+     * @param limit 최대 결과 수
+     * @return 관련도(ts_rank) 내림차순, 같은 관련도는 ID 오름차순으로 정렬된 상품 목록
+     */
+    @Query(value = "SELECT " + PRODUCT_COLUMNS + " " +
+                   "FROM products p, websearch_to_tsquery('simple', :keyword) query " +
+                   "WHERE p.search_vector @@ query " +
+                   "ORDER BY ts_rank(p.search_vector, query) DESC, p.id ASC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Product> searchByFullText(@Param("keyword") String keyword, @Param("limit") int limit);
+
+    // =====================================================
+    // PostgreSQL Trigram 부분 문자열 검색
+    // =====================================================
+    // findByNameContaining / findByDescriptionContaining이 만드는 LIKE '%?%'는 B-tree 인덱스를 쓸 수 없어
+    // 항상 순차 스캔이 발생합니다. 아래 메서드들은 schema-postgresql.sql의 pg_trgm GIN 인덱스로 처리되는
+    // ILIKE를 사용하며, 대소문자를 구분하지 않습니다.
+    // 패턴의 %, _, \ 는 호출하는 쪽에서 역슬래시로 이스케이프해야 합니다 (PostgreSQL의 기본 ESCAPE 문자).
+
+    /**
+     * 상품명이 ILIKE 패턴과 일치하는 상품들을 조회하는 메서드
+     * 
+     * @param pattern ILIKE 패턴 (예: %노트북%)
+     * @param limit 최대 결과 수
+     * @return 생성일 순으로 정렬된 상품 목록
+     */
+    @Query(value = "SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                   "WHERE p.name ILIKE :pattern " +
+                   "ORDER BY p.created_at ASC, p.id ASC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Product> searchByNameLike(@Param("pattern") String pattern, @Param("limit") int limit);
+
+    /**
+     * 설명이 ILIKE 패턴과 일치하는 상품들을 조회하는 메서드
+     * 
+     * @param pattern ILIKE 패턴 (예: %무선%)
+     * @param limit 최대 결과 수
+     * @return 생성일 순으로 정렬된 상품 목록
+     */
+    @Query(value = "SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                   "WHERE p.description ILIKE :pattern " +
+                   "ORDER BY p.created_at ASC, p.id ASC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Product> searchByDescriptionLike(@Param("pattern") String pattern, @Param("limit") int limit);
+
+    /**
+     * 검색어를 "포함" 검색용 ILIKE 패턴으로 변환하는 메서드
+     * 
+     * 검색어에 포함된 LIKE 특수문자(%, _)와 이스케이프 문자(\)를 역슬래시로 이스케이프하여
+     * 사용자가 입력한 문자 그대로 검색되도록 합니다.
+     * 
+     * @param term 검색어
+     * @return %검색어% 형태의 패턴
+     */
+    static String toContainsPattern(String term) {
+        String escaped = term.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // =====================================================
+    // 커서(Keyset) 기반 페이지 조회
+    // =====================================================
+    // OFFSET 대신 "마지막으로 본 (정렬 키, id) 이후"를 조건으로 사용하기 때문에
+    // (created_at, id), (price, id) 인덱스를 따라 필요한 만큼만 읽고 멈춥니다.
+    // 반환 타입이 List이므로 Pageable을 넘겨도 COUNT 쿼리는 실행되지 않습니다.
+    //
+    // "정렬 키 >= :key AND (정렬 키 > :key OR id > :id)" 형태는
+    // 앞쪽 조건으로 인덱스 범위 스캔을 시작하고, 뒤쪽 조건으로 동일 키의 이전 행을 걸러냅니다.
+    // 첫 페이지는 모든 행보다 앞선 값(최소 시각, 최소 가격, id 0)을 커서로 사용합니다.
+
+    /**
+     * (created_at, id) 순서로 커서 이후의 상품들을 조회하는 메서드
+     * 
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 상품 ID
+     * @param pageable 조회할 행 수 (첫 페이지, size만 사용)
+     * @return 커서 이후의 상품 목록
+     */
+    @Query("SELECT p FROM Product p " +
+           "WHERE p.createdAt >= :createdAt AND (p.createdAt > :createdAt OR p.id > :id) " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    List<Product> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    /**
+     * 상품명이 ILIKE 패턴과 일치하는 상품들을 (created_at, id) 순서로 커서 이후부터 조회하는 메서드
+     * 
+     * @param pattern ILIKE 패턴 (예: %노트북%, 특수문자는 역슬래시로 이스케이프)
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 상품 ID
+     * @param pageable 조회할 행 수
+     * @return 커서 이후의 상품 목록
+     */
+    @Query(value = "SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                   "WHERE p.name ILIKE :pattern " +
+                   "AND p.created_at >= :createdAt AND (p.created_at > :createdAt OR p.id > :id) " +
+                   "ORDER BY p.created_at ASC, p.id ASC",
+           nativeQuery = true)
+    List<Product> findPageByNameContainingAfter(@Param("pattern") String pattern,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    /**
+     * 설명이 ILIKE 패턴과 일치하는 상품들을 (created_at, id) 순서로 커서 이후부터 조회하는 메서드
+     * 
+     * @param pattern ILIKE 패턴 (예: %무선%, 특수문자는 역슬래시로 이스케이프)
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 상품 ID
+     * @param pageable 조회할 행 수
+     * @return 커서 이후의 상품 목록
+     */
+    @Query(value = "SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                   "WHERE p.description ILIKE :pattern " +
+                   "AND p.created_at >= :createdAt AND (p.created_at > :createdAt OR p.id > :id) " +
+                   "ORDER BY p.created_at ASC, p.id ASC",
+           nativeQuery = true)
+    List<Product> findPageByDescriptionContainingAfter(@Param("pattern") String pattern,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    /**
+     * 전문 검색 키워드에 일치하는 상품들을 (created_at, id) 순서로 커서 이후부터 조회하는 메서드
+     * 
+     * 검색 조건은 searchByFullText와 같지만, 페이지 조회는 커서를 유지해야 하므로
+     * 관련도 대신 (created_at, id) 순서로 정렬합니다.
+     * 
+     * @param keyword 검색 키워드 (websearch_to_tsquery 문법)
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 상품 ID
+     * @param pageable 조회할 행 수
+     * @return 커서 이후의 상품 목록
+     */
+    @Query(value = "SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                   "WHERE p.search_vector @@ websearch_to_tsquery('simple', :keyword) " +
+                   "AND p.created_at >= :createdAt AND (p.created_at > :createdAt OR p.id > :id) " +
+                   "ORDER BY p.created_at ASC, p.id ASC",
+           nativeQuery = true)
+    List<Product> findPageByKeywordAfter(@Param("keyword") String keyword,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    /**
+     * 가격 범위의 상품들을 (price, id) 순서로 커서 이후부터 조회하는 메서드
+     * 
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @param price 커서의 가격
+     * @param id 커서의 상품 ID
+     * @param pageable 조회할 행 수
+     * @return 커서 이후의 상품 목록
+     */
+    @Query("SELECT p FROM Product p " +
+           "WHERE p.price BETWEEN :minPrice AND :maxPrice " +
+           "AND p.price >= :price AND (p.price > :price OR p.id > :id) " +
+           "ORDER BY p.price ASC, p.id ASC")
+    List<Product> findPageByPriceRangeAfter(@Param("minPrice") BigDecimal minPrice,
+                                            @Param("maxPrice") BigDecimal maxPrice,
+                                            @Param("price") BigDecimal price,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // =====================================================
+    // 목록용 요약 조회 (ProductSummary 프로젝션, ?view=summary)
+    // =====================================================
+    // 위의 목록/검색/페이지 조회와 조건과 정렬은 같고, description을 제외한 컬럼만 읽습니다.
+    // 결과는 엔티티가 아닌 값(Tuple)으로 매핑되므로 영속성 컨텍스트에 올라가지 않아
+    // 변경 감지용 스냅샷을 만들지 않고, 2차 캐시에도 저장하지 않습니다.
+
+    /**
+     * 모든 상품의 요약 정보를 ID 순서로 조회하는 메서드
+     * 
+     * @return 상품 요약 목록
+     */
+    @Query("SELECT " + SUMMARY_SELECT + " FROM Product p ORDER BY p.id ASC")
+    List<ProductSummary> findAllSummaries();
+
+    /**
+     * 상품 ID 목록에 해당하는 상품의 요약 정보를 조회하는 메서드 (순서는 보장되지 않음)
+     * 
+     * @param ids 조회할 상품 ID 목록
+     * @return 상품 요약 목록
+     */
+    @Query("SELECT " + SUMMARY_SELECT + " FROM Product p WHERE p.id IN :ids")
+    List<ProductSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 가격 범위의 상품 요약 정보를 (price, id) 순서로 조회하는 메서드
+     * 
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @return 상품 요약 목록
+     */
+    @Query("SELECT " + SUMMARY_SELECT + " FROM Product p " +
+           "WHERE p.price BETWEEN :minPrice AND :maxPrice " +
+           "ORDER BY p.price ASC, p.id ASC")
+    List<ProductSummary> findSummariesByPriceBetween(@Param("minPrice") BigDecimal minPrice,
+                                                     @Param("maxPrice") BigDecimal maxPrice);
+
+    /**
+     * 전문 검색 키워드에 일치하는 상품의 요약 정보를 관련도 순으로 조회하는 메서드 (searchByFullText 참고)
+     * 
+     * @param keyword 검색 키워드 (websearch_to_tsquery 문법)
+     * @param limit 최대 결과 수
+     * @return 상품 요약 목록
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " " +
+                   "FROM products p, websearch_to_tsquery('simple', :keyword) query " +
+                   "WHERE p.search_vector @@ query " +
+                   "ORDER BY ts_rank(p.search_vector, query) DESC, p.id ASC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<ProductSummary> searchSummariesByFullText(@Param("keyword") String keyword, @Param("limit") int limit);
+
+    /**
+     * 상품명이 ILIKE 패턴과 일치하는 상품의 요약 정보를 조회하는 메서드 (searchByNameLike 참고)
+     * 
+     * @param pattern ILIKE 패턴 (예: %노트북%)
+     * @param limit 최대 결과 수
+     * @return 생성일 순으로 정렬된 상품 요약 목록
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM products p " +
+                   "WHERE p.name ILIKE :pattern " +
+                   "ORDER BY p.created_at ASC, p.id ASC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<ProductSummary> searchSummariesByNameLike(@Param("pattern") String pattern, @Param("limit") int limit);
+
+    /**
+     * 설명이 ILIKE 패턴과 일치하는 상품의 요약 정보를 조회하는 메서드 (searchByDescriptionLike 참고)
+     * 
+     * 조건에는 description을 사용하지만 결과로는 읽어오지 않습니다.
+     * 
+     * @param pattern ILIKE 패턴 (예: %무선%)
+     * @param limit 최대 결과 수
+     * @return 생성일 순으로 정렬된 상품 요약 목록
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM products p " +
+                   "WHERE p.description ILIKE :pattern " +
+                   "ORDER BY p.created_at ASC, p.id ASC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<ProductSummary> searchSummariesByDescriptionLike(@Param("pattern") String pattern, @Param("limit") int limit);
+
+    /**
+     * (created_at, id) 순서로 커서 이후의 상품 요약 정보를 조회하는 메서드 (findPageAfter 참고)
+     */
+    @Query("SELECT " + SUMMARY_SELECT + " FROM Product p " +
+           "WHERE p.createdAt >= :createdAt AND (p.createdAt > :createdAt OR p.id > :id) " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    List<ProductSummary> findSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    /**
+     * 상품명 검색 결과의 요약 정보를 커서 이후부터 조회하는 메서드 (findPageByNameContainingAfter 참고)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM products p " +
+                   "WHERE p.name ILIKE :pattern " +
+                   "AND p.created_at >= :createdAt AND (p.created_at > :createdAt OR p.id > :id) " +
+                   "ORDER BY p.created_at ASC, p.id ASC",
+           nativeQuery = true)
+    List<ProductSummary> findSummaryPageByNameContainingAfter(@Param("pattern") String pattern,
+                                                              @Param("createdAt") LocalDateTime createdAt,
+                                                              @Param("id") Long id,
+                                                              Pageable pageable);
+
+    /**
+     * 설명 검색 결과의 요약 정보를 커서 이후부터 조회하는 메서드 (findPageByDescriptionContainingAfter 참고)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM products p " +
+                   "WHERE p.description ILIKE :pattern " +
+                   "AND p.created_at >= :createdAt AND (p.created_at > :createdAt OR p.id > :id) " +
+                   "ORDER BY p.created_at ASC, p.id ASC",
+           nativeQuery = true)
+    List<ProductSummary> findSummaryPageByDescriptionContainingAfter(@Param("pattern") String pattern,
+                                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                                     @Param("id") Long id,
+                                                                     Pageable pageable);
+
+    /**
+     * 전문 검색 결과의 요약 정보를 커서 이후부터 조회하는 메서드 (findPageByKeywordAfter 참고)
+     */
+    @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM products p " +
+                   "WHERE p.search_vector @@ websearch_to_tsquery('simple', :keyword) " +
+                   "AND p.created_at >= :createdAt AND (p.created_at > :createdAt OR p.id > :id) " +
+                   "ORDER BY p.created_at ASC, p.id ASC",
+           nativeQuery = true)
+    List<ProductSummary> findSummaryPageByKeywordAfter(@Param("keyword") String keyword,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    /**
+     * 가격 범위의 상품 요약 정보를 (price, id) 순서로 커서 이후부터 조회하는 메서드 (findPageByPriceRangeAfter 참고)
+     */
+    @Query("SELECT " + SUMMARY_SELECT + " FROM Product p " +
+           "WHERE p.price BETWEEN :minPrice AND :maxPrice " +
+           "AND p.price >= :price AND (p.price > :price OR p.id > :id) " +
+           "ORDER BY p.price ASC, p.id ASC")
+    List<ProductSummary> findSummaryPageByPriceRangeAfter(@Param("minPrice") BigDecimal minPrice,
+                                                          @Param("maxPrice") BigDecimal maxPrice,
+                                                          @Param("price") BigDecimal price,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
+
+    // =====================================================
+    // 스트리밍 조회
+    // =====================================================
+    // 결과 전체를 List로 만들지 않고 JDBC 커서로 fetch size 만큼씩 읽어옵니다.
+    // PostgreSQL 드라이버는 트랜잭션(autocommit=false) 안에서만 fetch size를 적용하므로
+    // 반드시 읽기 전용 트랜잭션 안에서 호출하고, 사용 후 Stream을 닫아야 합니다.
+    // 읽기 전용 힌트로 변경 감지용 스냅샷을 만들지 않아 메모리 사용량을 줄입니다.
+    // 대량으로 읽은 행이 2차 캐시를 밀어내지 않도록 캐시 모드는 IGNORE로 설정합니다.
+
+    /**
+     * 모든 상품을 ID 순서로 스트리밍 조회하는 메서드
+     * 
+     * @return 상품 스트림 (호출자가 닫아야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT p FROM Product p ORDER BY p.id ASC")
+    Stream<Product> streamAll();
+
+    /**
+     * 모든 상품의 (가격, ID)를 가격 순으로 스트리밍 조회하는 메서드
+     * 
+     * 메모리 가격 인덱스(ProductPriceIndex)를 만들 때 사용하며,
+     * 엔티티 대신 두 컬럼만 읽으므로 (price, id) 인덱스만으로 처리될 수 있습니다.
+     * 
+     * @return [가격, ID] 배열 스트림 (호출자가 닫아야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.price, p.id FROM Product p ORDER BY p.price ASC, p.id ASC")
+    Stream<Object[]> streamPriceIndexEntries();
+
+    /**
+     * 전문 검색 키워드에 일치하는 상품들을 ID 순서로 스트리밍 조회하는 메서드
+     * 
+     * @param keyword 검색 키워드 (websearch_to_tsquery 문법)
+     * @return 상품 스트림 (호출자가 닫아야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query(value = "SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                   "WHERE p.search_vector @@ websearch_to_tsquery('simple', :keyword) " +
+                   "ORDER BY p.id ASC",
+           nativeQuery = true)
+    Stream<Product> streamByKeyword(@Param("keyword") String keyword);
+
     // =====================================================
     // Native SQL 쿼리 예시 (필요시 사용)
     // =====================================================
@@ -0,0 +1,84 @@
+package com.shop.repository;
+
+import com.shop.dto.BulkUpdateItem;
+import com.shop.dto.ProductPatch;
+import com.shop.dto.ProductPriceChange;
+import com.shop.dto.ProductUpdateResult;
+import com.shop.entity.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA가 메서드 이름으로 만들 수 없는 상품 조회 기능을 정의하는 인터페이스
+ * 
+ * ProductRepository가 이 인터페이스를 함께 상속하며,
+ * 실제 구현은 ProductRepositoryImpl에서 EntityManager(Hibernate Session)를 직접 사용합니다.
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * 자연 키(상품명)로 상품을 조회하는 메서드
+     * 
+     * Hibernate의 자연 키 조회(bySimpleNaturalId)를 사용하므로
+     * 상품명 → ID 매핑과 엔티티가 2차 캐시에 있으면 DB를 조회하지 않습니다.
+     * 
+     * @param name 조회할 상품명 (정확히 일치)
+     * @return 상품 정보 (Optional로 래핑됨)
+     */
+    Optional<Product> findByNaturalName(String name);
+
+    /**
+     * 상품 하나를 하나의 UPDATE 문으로 수정하는 메서드
+     * 
+     * 수정 요청에 있는 필드만 SET 절에 넣으므로, 가격만 바꾸는 요청은 가격 컬럼만 수정합니다.
+     * 상품의 현재 버전이 expectedVersion과 같을 때만 수정하고 버전을 1 증가시킵니다 (expectedVersion이 null이면 확인하지 않음).
+     * 다른 상품이 사용 중인 상품명으로 바꾸면 유일 제약(uk_products_name) 위반으로 DataIntegrityViolationException이 발생합니다.
+     * 조건 확인, 수정, 수정된 행과 변경 전 가격 반환이 모두 한 번의 왕복으로 처리됩니다.
+     * 영속성 컨텍스트를 거치지 않으므로 수정된 상품은 2차 캐시에서 제거됩니다.
+     * 
+     * @param id 수정할 상품 ID
+     * @param changes 바꿀 필드와 값 (하나 이상)
+     * @param expectedVersion 수정 전 버전으로 기대하는 값 (null이면 버전과 관계없이 수정)
+     * @param updatedAt 수정 시간으로 기록할 값
+     * @return 수정된 상품과 변경 전 가격 (조건을 만족하는 행이 없으면 Optional.empty)
+     */
+    Optional<ProductUpdateResult> updateIfMatches(Long id, ProductPatch changes, Long expectedVersion,
+                                                  LocalDateTime updatedAt);
+
+    /**
+     * 여러 상품의 가격/설명을 하나의 UPDATE 문으로 수정하는 메서드
+     * 
+     * 항목의 price, description 중 null인 필드는 기존 값을 유지합니다.
+     * 영속성 컨텍스트를 거치지 않으므로 수정된 상품은 2차 캐시에서 제거됩니다.
+     * 
+     * @param items 수정할 항목 목록 (ID 중복 없음)
+     * @param updatedAt 수정 시간으로 기록할 값
+     * @return 실제로 수정된 상품의 ID와 변경 전후 가격 목록
+     */
+    List<ProductPriceChange> bulkUpdate(List<BulkUpdateItem> items, LocalDateTime updatedAt);
+
+    /**
+     * 상품 하나를 하나의 DELETE 문으로 삭제하는 메서드
+     * 
+     * 존재 확인이나 엔티티 조회 없이 DELETE ... RETURNING 한 번으로 삭제 여부와 삭제 전 가격을 함께 얻습니다.
+     * 삭제된 행이 있을 때만 2차 캐시에서 제거합니다.
+     * 
+     * @param id 삭제할 상품 ID
+     * @return 삭제 전 가격 (삭제된 행이 없으면 Optional.empty)
+     */
+    Optional<BigDecimal> deleteReturningPrice(Long id);
+
+    /**
+     * 여러 상품을 하나의 DELETE 문으로 삭제하는 메서드
+     * 
+     * 영속성 컨텍스트를 거치지 않으므로 삭제된 상품은 2차 캐시에서 제거됩니다.
+     * 
+     * @param ids 삭제할 상품 ID 목록
+     * @return 실제로 삭제된 상품의 ID와 삭제 전 가격 목록
+     */
+    List<ProductPriceChange> bulkDelete(Collection<Long> ids);
+}
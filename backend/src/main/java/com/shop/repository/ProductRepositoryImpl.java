@@ -0,0 +1,272 @@
+package com.shop.repository;
+
+import com.shop.dto.BulkUpdateItem;
+import com.shop.dto.ProductPatch;
+import com.shop.dto.ProductPriceChange;
+import com.shop.dto.ProductUpdateResult;
+import com.shop.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProductRepositoryCustom의 구현 클래스
+ * 
+ * 클래스 이름이 "리포지토리 인터페이스 이름 + Impl" 규칙을 따르므로
+ * Spring Data JPA가 자동으로 찾아 ProductRepository에 결합합니다.
+ * 
+ * 단건 조건부 수정과 대량 수정/삭제는 JdbcTemplate으로 SQL을 직접 실행합니다.
+ * JpaTransactionManager가 같은 JDBC 커넥션을 공유하므로 서비스의 트랜잭션에 그대로 참여합니다.
+ */
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    /**
+     * 대량 수정 SQL
+     * 
+     * 배열 파라미터를 unnest로 펼쳐 (id, price, description) 행 집합을 만들고
+     * products 테이블과 조인하여 한 번에 수정합니다.
+     * 파라미터 수가 항목 수와 관계없이 고정되므로 요청 크기에 상관없이 문장 하나로 실행됩니다.
+     * 변경 전 가격은 old CTE에서 대상 행을 ID 순으로 잠그며(FOR UPDATE) 읽습니다.
+     * 같은 테이블을 그냥 조인하면 READ COMMITTED에서 동시에 수정된 행의 변경 전 가격이 이전 값으로 남습니다.
+     * (ID 순으로 잠가 단건 수정/다른 대량 수정과 교착 상태가 생길 가능성을 줄임)
+     */
+    private static final String BULK_UPDATE_SQL =
+            "WITH v AS (SELECT * FROM unnest(?::bigint[], ?::numeric[], ?::text[]) AS t(id, price, description)), " +
+            "old AS (SELECT id, price FROM products WHERE id IN (SELECT id FROM v) ORDER BY id FOR UPDATE) " +
+            "UPDATE products p " +
+            "SET price = COALESCE(v.price, p.price), " +
+            "    description = COALESCE(v.description, p.description), " +
+            "    updated_at = ?, " +
+            "    version = p.version + 1 " +
+            "FROM v, old " +
+            "WHERE p.id = v.id AND old.id = p.id " +
+            "RETURNING p.id, old.price, p.price";
+
+    /**
+     * 단건 삭제 SQL
+     */
+    private static final String DELETE_SQL = "DELETE FROM products WHERE id = ? RETURNING price";
+
+    /**
+     * 대량 삭제 SQL
+     */
+    private static final String BULK_DELETE_SQL =
+            "DELETE FROM products WHERE id = ANY(?::bigint[]) RETURNING id, price";
+
+    /**
+     * 현재 트랜잭션에 연결된 EntityManager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ProductRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Product> findByNaturalName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Product.class)
+                .loadOptional(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ProductUpdateResult> updateIfMatches(Long id, ProductPatch changes, Long expectedVersion,
+                                                         LocalDateTime updatedAt) {
+        // 바꿀 필드만 SET 절에 넣습니다. 버전(생략 가능)은 WHERE 조건으로 확인하므로 다르면 수정되는 행이 없고,
+        // 상품명 중복은 조회하지 않고 유일 제약(uk_products_name)에 맡깁니다.
+        // 변경 전 가격은 old CTE에서 행을 잠그며(FOR UPDATE) 읽습니다. 같은 테이블을 그냥 조인하면 READ COMMITTED에서
+        // 다른 요청이 먼저 수정한 경우 p만 최신 행으로 다시 확인되고 old는 문장 시작 시점의 값으로 남아,
+        // 가격 통계/인덱스에 잘못된 변경 전 가격이 전달됩니다.
+        StringBuilder sql = new StringBuilder(
+                "WITH old AS (SELECT id, price FROM products WHERE id = ? FOR UPDATE) UPDATE products p SET ");
+        List<SqlParameterValue> params = new ArrayList<>();
+        params.add(new SqlParameterValue(Types.BIGINT, id));
+        if (changes.hasName()) {
+            sql.append("name = ?, ");
+            params.add(new SqlParameterValue(Types.VARCHAR, changes.getName()));
+        }
+        if (changes.hasDescription()) {
+            sql.append("description = ?, ");
+            params.add(new SqlParameterValue(Types.VARCHAR, changes.getDescription()));
+        }
+        if (changes.hasPrice()) {
+            sql.append("price = ?, ");
+            params.add(new SqlParameterValue(Types.NUMERIC, changes.getPrice()));
+        }
+        sql.append("updated_at = ?, version = p.version + 1 FROM old WHERE p.id = old.id");
+        params.add(new SqlParameterValue(Types.TIMESTAMP, Timestamp.valueOf(updatedAt)));
+        if (expectedVersion != null) {
+            sql.append(" AND p.version = ?");
+            params.add(new SqlParameterValue(Types.BIGINT, expectedVersion));
+        }
+        sql.append(" RETURNING ").append(ProductRepository.PRODUCT_COLUMNS).append(", old.price AS old_price");
+
+        entityManager.flush();
+        List<ProductUpdateResult> results = jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new ProductUpdateResult(toProduct(rs), rs.getBigDecimal("old_price")),
+                params.toArray());
+
+        if (results.isEmpty()) {
+            return Optional.empty();
+        }
+        ProductUpdateResult result = results.get(0);
+        evictFromSecondLevelCache(List.of(new ProductPriceChange(id, result.getOldPrice(),
+                result.getProduct().getPrice())), changes.hasName());
+        return Optional.of(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProductPriceChange> bulkUpdate(List<BulkUpdateItem> items, LocalDateTime updatedAt) {
+        Long[] ids = new Long[items.size()];
+        BigDecimal[] prices = new BigDecimal[items.size()];
+        String[] descriptions = new String[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            BulkUpdateItem item = items.get(i);
+            ids[i] = item.getId();
+            prices[i] = item.getPrice();
+            descriptions[i] = item.getDescription();
+        }
+
+        // 영속성 컨텍스트의 변경 사항을 먼저 반영해야 SQL이 최신 상태를 기준으로 실행됩니다.
+        entityManager.flush();
+        List<ProductPriceChange> changes = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(BULK_UPDATE_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", ids));
+            statement.setArray(2, connection.createArrayOf("numeric", prices));
+            statement.setArray(3, connection.createArrayOf("text", descriptions));
+            statement.setTimestamp(4, Timestamp.valueOf(updatedAt));
+            return statement;
+        }, (rs, rowNum) -> new ProductPriceChange(rs.getLong(1), rs.getBigDecimal(2), rs.getBigDecimal(3)));
+
+        evictFromSecondLevelCache(changes, false);
+        return changes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<BigDecimal> deleteReturningPrice(Long id) {
+        entityManager.flush();
+        List<BigDecimal> prices = jdbcTemplate.query(DELETE_SQL, (rs, rowNum) -> rs.getBigDecimal(1), id);
+        if (prices.isEmpty()) {
+            return Optional.empty();
+        }
+        evictFromSecondLevelCache(List.of(new ProductPriceChange(id, prices.get(0), null)), true);
+        return Optional.of(prices.get(0));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProductPriceChange> bulkDelete(Collection<Long> ids) {
+        Long[] idArray = ids.toArray(new Long[0]);
+
+        entityManager.flush();
+        List<ProductPriceChange> changes = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(BULK_DELETE_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", idArray));
+            return statement;
+        }, (rs, rowNum) -> new ProductPriceChange(rs.getLong(1), rs.getBigDecimal(2), null));
+
+        evictFromSecondLevelCache(changes, true);
+        return changes;
+    }
+
+    // =====================================================
+    // 2차 캐시 무효화
+    // =====================================================
+
+    /**
+     * SQL로 직접 변경한 상품을 Hibernate 2차 캐시에서 제거하는 메서드
+     * 
+     * Hibernate의 벌크 연산과 같은 방식으로, 지금 한 번 제거하고
+     * 트랜잭션이 끝난 후 한 번 더 제거합니다.
+     * (커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시에 넣는 경우를 막기 위함)
+     * 
+     * @param changes 변경된 상품 목록
+     * @param naturalIdChanged 삭제되었거나 상품명이 바뀌었을 수 있는 경우 true (상품명 → ID 자연 키 캐시도 함께 제거)
+     */
+    private void evictFromSecondLevelCache(List<ProductPriceChange> changes, boolean naturalIdChanged) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        Runnable eviction = () -> {
+            for (ProductPriceChange change : changes) {
+                cache.evictEntityData(Product.class, change.getId());
+            }
+            if (naturalIdChanged) {
+                cache.evictNaturalIdData(Product.class);
+            }
+            // 가격 조건 등으로 캐시된 조회 결과가 달라질 수 있으므로 쿼리 캐시도 비웁니다.
+            cache.evictQueryRegion(ProductRepository.PRODUCT_QUERY_CACHE_REGION);
+            cache.evictDefaultQueryRegion();
+        };
+
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    // =====================================================
+    // 내부 헬퍼 메서드
+    // =====================================================
+
+    /**
+     * RETURNING 결과 행을 Product로 변환합니다.
+     * 
+     * @param rs 결과 행 (ProductRepository.PRODUCT_COLUMNS 포함)
+     * @return 상품 (영속성 컨텍스트에 속하지 않음)
+     */
+    private static Product toProduct(ResultSet rs) throws SQLException {
+        Product product = new Product();
+        product.setId(rs.getLong("id"));
+        product.setName(rs.getString("name"));
+        product.setDescription(rs.getString("description"));
+        product.setPrice(rs.getBigDecimal("price"));
+        product.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        product.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+        product.setVersion(rs.getLong("version"));
+        return product;
+    }
+}
@@ -0,0 +1,338 @@
+package com.shop.repository;
+
+import com.shop.dto.ProductUpdateResult;
+import com.shop.entity.Product;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * R2DBC(PostgreSQL)로 products 테이블에 접근하는 리액티브 리포지토리
+ *
+ * reactive 프로필에서만 등록되며, JPA 리포지토리(ProductRepository)와 같은 테이블을 사용합니다.
+ * 스키마는 기존과 같이 Hibernate와 schema-postgresql.sql이 만든 것을 그대로 씁니다.
+ *
+ * 여러 행을 반환하는 조회는 fetchSize를 지정하여 PostgreSQL 포털(커서)에서
+ * STREAM_FETCH_SIZE 행씩 읽습니다. 다음 묶음은 구독자가 요청(request)할 때만 읽으므로
+ * 클라이언트가 느리면 DB 커서도 그만큼 천천히 진행되어 전체 결과를 메모리에 쌓지 않습니다.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveProductRepository {
+
+    /**
+     * 커서에서 한 번에 읽어오는 행 수
+     */
+    static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * 조회 결과를 Product로 변환할 때 사용하는 컬럼 목록
+     */
+    private static final String PRODUCT_COLUMNS = ProductRepository.PRODUCT_COLUMNS;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 생성자를 통한 의존성 주입
+     *
+     * @param databaseClient 스프링이 구성한 R2DBC DatabaseClient
+     */
+    @Autowired
+    public ReactiveProductRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // =====================================================
+    // 단건 조회 및 존재 확인
+    // =====================================================
+
+    public Mono<Product> findById(Long id) {
+        return databaseClient.sql("SELECT " + PRODUCT_COLUMNS + " FROM products p WHERE p.id = :id")
+                .bind("id", id)
+                .map(ReactiveProductRepository::toProduct)
+                .one();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM products WHERE id = :id)")
+                .bind("id", id)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    public Mono<Boolean> existsByName(String name) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM products WHERE name = :name)")
+                .bind("name", name)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    /**
+     * 주어진 상품명 중 이미 존재하는 것만 조회합니다.
+     *
+     * 배열 파라미터 하나로 전달하므로 상품명 수와 관계없이 SQL 문이 같습니다.
+     *
+     * @param names 확인할 상품명 목록
+     * @return 이미 존재하는 상품명
+     */
+    public Flux<String> findExistingNames(Collection<String> names) {
+        return databaseClient.sql("SELECT name FROM products WHERE name = ANY(:names)")
+                .bind("names", names.toArray(new String[0]))
+                .map(row -> row.get("name", String.class))
+                .all();
+    }
+
+    // =====================================================
+    // 목록 조회 (커서 스트리밍)
+    // =====================================================
+
+    public Flux<Product> findAll() {
+        return stream("SELECT " + PRODUCT_COLUMNS + " FROM products p ORDER BY p.id ASC")
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    /**
+     * 상품명이 ILIKE 패턴과 일치하는 상품들을 생성일 순으로 조회합니다.
+     *
+     * @param pattern ILIKE 패턴 (예: %노트북%)
+     * @param limit 최대 결과 수
+     * @return (created_at, id) 순서의 상품 목록
+     */
+    public Flux<Product> searchByNameLike(String pattern, int limit) {
+        return stream("SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                      "WHERE p.name ILIKE :pattern " +
+                      "ORDER BY p.created_at ASC, p.id ASC " +
+                      "LIMIT :limit")
+                .bind("pattern", pattern)
+                .bind("limit", limit)
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    /**
+     * 설명이 ILIKE 패턴과 일치하는 상품들을 생성일 순으로 조회합니다.
+     *
+     * @param pattern ILIKE 패턴 (예: %무선%)
+     * @param limit 최대 결과 수
+     * @return (created_at, id) 순서의 상품 목록
+     */
+    public Flux<Product> searchByDescriptionLike(String pattern, int limit) {
+        return stream("SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                      "WHERE p.description ILIKE :pattern " +
+                      "ORDER BY p.created_at ASC, p.id ASC " +
+                      "LIMIT :limit")
+                .bind("pattern", pattern)
+                .bind("limit", limit)
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    public Flux<Product> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice) {
+        return stream("SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                      "WHERE p.price BETWEEN :minPrice AND :maxPrice " +
+                      "ORDER BY p.price ASC, p.id ASC")
+                .bind("minPrice", minPrice)
+                .bind("maxPrice", maxPrice)
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    public Flux<Product> findByPriceGreaterThan(BigDecimal price) {
+        return stream("SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                      "WHERE p.price > :price " +
+                      "ORDER BY p.price ASC, p.id ASC")
+                .bind("price", price)
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    public Flux<Product> findProductsAboveAveragePrice() {
+        return stream("SELECT " + PRODUCT_COLUMNS + " FROM products p " +
+                      "WHERE p.price > (SELECT AVG(price) FROM products)")
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    /**
+     * 전문 검색(search_vector)으로 상품을 관련도 순으로 조회합니다.
+     *
+     * @param keyword 검색어 (websearch_to_tsquery 문법)
+     * @param limit 최대 결과 수
+     * @return 관련도 순 검색 결과
+     */
+    public Flux<Product> searchByFullText(String keyword, int limit) {
+        return stream("SELECT " + PRODUCT_COLUMNS + " " +
+                      "FROM products p, websearch_to_tsquery('simple', :keyword) query " +
+                      "WHERE p.search_vector @@ query " +
+                      "ORDER BY ts_rank(p.search_vector, query) DESC, p.id ASC " +
+                      "LIMIT :limit")
+                .bind("keyword", keyword)
+                .bind("limit", limit)
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    // =====================================================
+    // 개수 조회
+    // =====================================================
+
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT COUNT(*) FROM products")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<Long> countByPriceGreaterThanEqual(BigDecimal price) {
+        return databaseClient.sql("SELECT COUNT(*) FROM products WHERE price >= :price")
+                .bind("price", price)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    // =====================================================
+    // 생성 / 수정 / 삭제
+    // =====================================================
+    // ID는 JPA와 같은 products_id_seq 시퀀스에서 받습니다.
+    // Hibernate는 nextval 값 하나로 50개 구간을 쓰지만, 구간은 nextval 값마다 겹치지 않으므로
+    // 여기서 nextval 값을 그대로 ID로 써도 JPA가 할당하는 ID와 충돌하지 않습니다.
+
+    /**
+     * 상품 하나를 저장하고 저장된 행을 반환합니다.
+     *
+     * @param product 저장할 상품 (ID는 무시됨)
+     * @param now 생성/수정 시간
+     * @return 저장된 상품
+     */
+    public Mono<Product> insert(Product product, LocalDateTime now) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                        "INSERT INTO products AS p (id, name, description, price, created_at, updated_at, version) " +
+                        "VALUES (nextval('products_id_seq'), :name, :description, :price, :now, :now, 0) " +
+                        "RETURNING " + PRODUCT_COLUMNS)
+                .bind("name", product.getName())
+                .bind("price", product.getPrice())
+                .bind("now", now);
+        spec = product.getDescription() != null
+                ? spec.bind("description", product.getDescription())
+                : spec.bindNull("description", String.class);
+        return spec.map(ReactiveProductRepository::toProduct).one();
+    }
+
+    /**
+     * 여러 상품을 INSERT 문 하나로 저장합니다.
+     *
+     * 열별 배열을 unnest로 펼쳐 저장하므로 상품 수와 관계없이 왕복은 한 번입니다.
+     *
+     * @param products 저장할 상품 목록 (ID는 무시됨)
+     * @param now 생성/수정 시간
+     * @return 저장된 상품 (순서는 보장되지 않음)
+     */
+    public Flux<Product> insertAll(List<Product> products, LocalDateTime now) {
+        String[] names = new String[products.size()];
+        String[] descriptions = new String[products.size()];
+        BigDecimal[] prices = new BigDecimal[products.size()];
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            names[i] = product.getName();
+            descriptions[i] = product.getDescription();
+            prices[i] = product.getPrice();
+        }
+        return databaseClient.sql(
+                        "INSERT INTO products AS p (id, name, description, price, created_at, updated_at, version) " +
+                        "SELECT nextval('products_id_seq'), v.name, v.description, v.price, :now, :now, 0 " +
+                        "FROM unnest(:names::text[], :descriptions::text[], :prices::numeric[]) " +
+                        "     WITH ORDINALITY AS v(name, description, price, ord) " +
+                        "ORDER BY v.ord " +
+                        "RETURNING " + PRODUCT_COLUMNS)
+                .bind("names", names)
+                .bind("descriptions", descriptions)
+                .bind("prices", prices)
+                .bind("now", now)
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    /**
+     * 상품의 이름/설명/가격을 수정하고 수정된 행과 수정 전 가격을 반환합니다.
+     *
+     * JPA 엔티티의 낙관적 잠금 버전(version)도 함께 증가시킵니다.
+     * 수정 전 가격은 같은 문장의 CTE에서 행을 잠그고(FOR UPDATE) 읽으므로,
+     * 그 사이에 커밋된 다른 수정이 끼어들지 않습니다 (ProductRepositoryImpl.updateIfMatches와 같은 방식).
+     *
+     * @param id 수정할 상품 ID
+     * @param product 수정할 값
+     * @param now 수정 시간
+     * @return 수정된 상품과 수정 전 가격 (상품이 없으면 빈 Mono)
+     */
+    public Mono<ProductUpdateResult> update(Long id, Product product, LocalDateTime now) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                        "WITH old AS (SELECT id, price FROM products WHERE id = :id FOR UPDATE) " +
+                        "UPDATE products p SET name = :name, description = :description, price = :price, " +
+                        "updated_at = :now, version = p.version + 1 FROM old WHERE p.id = old.id " +
+                        "RETURNING " + PRODUCT_COLUMNS + ", old.price AS old_price")
+                .bind("id", id)
+                .bind("name", product.getName())
+                .bind("price", product.getPrice())
+                .bind("now", now);
+        spec = product.getDescription() != null
+                ? spec.bind("description", product.getDescription())
+                : spec.bindNull("description", String.class);
+        return spec.map(row -> new ProductUpdateResult(toProduct(row), row.get("old_price", BigDecimal.class)))
+                .one();
+    }
+
+    /**
+     * 상품을 삭제하고 삭제 전 가격을 반환합니다.
+     *
+     * @param id 삭제할 상품 ID
+     * @return 삭제된 상품의 가격 (상품이 없으면 빈 Mono)
+     */
+    public Mono<BigDecimal> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM products WHERE id = :id RETURNING price")
+                .bind("id", id)
+                .map(row -> row.get("price", BigDecimal.class))
+                .one();
+    }
+
+    // =====================================================
+    // 내부 헬퍼 메서드
+    // =====================================================
+
+    /**
+     * 커서에서 STREAM_FETCH_SIZE 행씩 읽는 조회문을 만듭니다.
+     *
+     * @param sql 실행할 SQL
+     * @return fetchSize가 지정된 실행 스펙
+     */
+    private DatabaseClient.GenericExecuteSpec stream(String sql) {
+        return databaseClient.sql(sql)
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE));
+    }
+
+    /**
+     * 결과 행을 Product로 변환합니다.
+     *
+     * @param row 결과 행 (PRODUCT_COLUMNS 순서)
+     * @return 상품
+     */
+    private static Product toProduct(Row row) {
+        Product product = new Product();
+        product.setId(row.get("id", Long.class));
+        product.setName(row.get("name", String.class));
+        product.setDescription(row.get("description", String.class));
+        product.setPrice(row.get("price", BigDecimal.class));
+        product.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        product.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        product.setVersion(row.get("version", Long.class));
+        return product;
+    }
+}
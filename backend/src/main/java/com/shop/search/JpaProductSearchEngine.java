@@ -0,0 +1,75 @@
+package com.shop.search;
+
+import com.shop.dto.ProductSummary;
+import com.shop.entity.Product;
+import com.shop.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PostgreSQL을 사용하는 기본 검색 엔진
+ * 
+ * - 키워드 검색: search_vector 생성 컬럼 + GIN 인덱스 기반 전문 검색 (ts_rank 관련도 순)
+ * - 상품명/설명 검색: pg_trgm GIN 인덱스 기반 ILIKE 부분 문자열 검색
+ * 
+ * 다른 검색 엔진(Lucene)이 준비되지 않았을 때의 대체 경로로도 사용되므로 항상 빈으로 등록됩니다.
+ */
+@Component
+public class JpaProductSearchEngine implements ProductSearchEngine {
+
+    private final ProductRepository productRepository;
+
+    /**
+     * 키워드 검색이 관련도 순으로 반환하는 최대 결과 수
+     */
+    private final int maxResults;
+
+    /**
+     * 상품명/설명 부분 문자열 검색이 반환하는 최대 결과 수
+     */
+    private final int maxSubstringResults;
+
+    @Autowired
+    public JpaProductSearchEngine(ProductRepository productRepository,
+                                  @Value("${shop.search.max-results:1000}") int maxResults,
+                                  @Value("${shop.search.max-substring-results:10000}") int maxSubstringResults) {
+        this.productRepository = productRepository;
+        this.maxResults = maxResults;
+        this.maxSubstringResults = maxSubstringResults;
+    }
+
+    @Override
+    public List<Product> search(String keyword) {
+        return productRepository.searchByFullText(keyword, maxResults);
+    }
+
+    @Override
+    public List<Product> searchByName(String name) {
+        return productRepository.searchByNameLike(ProductRepository.toContainsPattern(name), maxSubstringResults);
+    }
+
+    @Override
+    public List<Product> searchByDescription(String description) {
+        return productRepository.searchByDescriptionLike(ProductRepository.toContainsPattern(description),
+                maxSubstringResults);
+    }
+
+    @Override
+    public List<ProductSummary> searchSummaries(String keyword) {
+        return productRepository.searchSummariesByFullText(keyword, maxResults);
+    }
+
+    @Override
+    public List<ProductSummary> searchSummariesByName(String name) {
+        return productRepository.searchSummariesByNameLike(ProductRepository.toContainsPattern(name), maxSubstringResults);
+    }
+
+    @Override
+    public List<ProductSummary> searchSummariesByDescription(String description) {
+        return productRepository.searchSummariesByDescriptionLike(ProductRepository.toContainsPattern(description),
+                maxSubstringResults);
+    }
+}
@@ -0,0 +1,509 @@
+package com.shop.search;
+
+import com.shop.dto.ProductSummary;
+import com.shop.entity.Product;
+import com.shop.event.ProductChangedEvent;
+import com.shop.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크의 내장 Lucene 인덱스를 사용하는 검색 엔진
+ *
+ * shop.search.engine=lucene 으로 설정했을 때만 등록되며, @Primary로 JPA 검색 엔진 대신 주입됩니다.
+ *
+ * - 인덱스 저장: MMapDirectory (shop.search.lucene.index-dir)
+ * - 인덱스 갱신: ProductChangedEvent를 트랜잭션 커밋 이후에 받아 문서를 추가/수정/삭제하고,
+ *   SearcherManager로 NRT(near-real-time) 리더를 갱신하여 커밋 없이도 바로 검색에 반영합니다.
+ * - 재구축: 애플리케이션 시작 시 백그라운드에서 DB 전체를 스트리밍하여 인덱스를 다시 만듭니다.
+ *   재구축이 끝나기 전에는 모든 검색을 JpaProductSearchEngine으로 처리합니다.
+ *
+ * 키워드 검색은 BM25 관련도 순이며, 상품명/설명 검색은 3-gram 필드에 대한 구문(phrase) 검색으로
+ * 부분 문자열 일치를 판단하고 JPA 검색과 같은 (created_at, id) 순서로 정렬합니다.
+ * 3자 미만의 검색어는 n-gram으로 표현할 수 없으므로 JPA 검색으로 처리합니다.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "shop.search.engine", havingValue = "lucene")
+public class LuceneProductSearchEngine implements ProductSearchEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(LuceneProductSearchEngine.class);
+
+    // =====================================================
+    // 인덱스 필드 이름
+    // =====================================================
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_NAME_NGRAM = "name_ngram";
+    private static final String FIELD_DESCRIPTION_NGRAM = "description_ngram";
+
+    /**
+     * 정렬용 doc values 필드 (생성 시간은 UTC 기준 epoch 마이크로초, PostgreSQL timestamp 정밀도)
+     */
+    private static final String FIELD_CREATED_AT_SORT = "created_at_sort";
+    private static final String FIELD_ID_SORT = "id_sort";
+
+    /**
+     * 부분 문자열 검색 결과 순서 (ProductRepository.searchByNameLike와 같은 created_at ASC, id ASC)
+     */
+    private static final Sort CREATED_ORDER = new Sort(
+            new SortField(FIELD_CREATED_AT_SORT, SortField.Type.LONG),
+            new SortField(FIELD_ID_SORT, SortField.Type.LONG));
+
+    /**
+     * 부분 문자열 검색에 사용하는 n-gram 크기
+     */
+    private static final int NGRAM_SIZE = 3;
+
+    /**
+     * 검색 결과 ID로 상품을 읽어올 때 IN 쿼리 한 번에 넣을 최대 ID 수
+     * (PostgreSQL 드라이버의 바인드 파라미터 수 제한을 넘지 않도록 나누어 조회)
+     */
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+
+    /**
+     * 인덱스가 준비되지 않았을 때 사용할 대체 검색 엔진
+     */
+    private final JpaProductSearchEngine fallback;
+
+    /**
+     * 인덱스 재구축 시 DB 스트리밍에 사용할 읽기 전용 트랜잭션
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 키워드 검색이 관련도 순으로 반환하는 최대 결과 수
+     */
+    private final int maxResults;
+
+    /**
+     * 상품명/설명 부분 문자열 검색이 반환하는 최대 결과 수
+     */
+    private final int maxSubstringResults;
+
+    /**
+     * 인덱스 파일을 저장할 디렉토리
+     */
+    private final Path indexPath;
+
+    /**
+     * 필드별 분석기 (name_ngram, description_ngram은 3-gram, 나머지는 StandardAnalyzer)
+     */
+    private final Analyzer analyzer;
+
+    /**
+     * 재구축 중 스트리밍으로 읽은 엔티티를 영속성 컨텍스트에서 분리하기 위한 EntityManager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    /**
+     * 인덱스가 DB와 일치하는 상태인지 여부 (false이면 JPA 검색으로 대체)
+     */
+    private volatile boolean ready = false;
+
+    /**
+     * 재구축이 진행 중인지 여부
+     */
+    private volatile boolean rebuilding = false;
+
+    /**
+     * 재구축 중 변경된 상품 ID (재구축이 끝난 뒤 최신 상태로 다시 색인)
+     */
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LuceneProductSearchEngine(ProductRepository productRepository,
+                                     JpaProductSearchEngine fallback,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${shop.search.max-results:1000}") int maxResults,
+                                     @Value("${shop.search.max-substring-results:10000}") int maxSubstringResults,
+                                     @Value("${shop.search.lucene.index-dir:${java.io.tmpdir}/simple-shop-lucene}") String indexDir) {
+        this.productRepository = productRepository;
+        this.fallback = fallback;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxResults = maxResults;
+        this.maxSubstringResults = maxSubstringResults;
+        this.indexPath = Paths.get(indexDir);
+
+        Analyzer ngramAnalyzer = new NGramAnalyzer(NGRAM_SIZE);
+        Map<String, Analyzer> perField = new HashMap<>();
+        perField.put(FIELD_NAME_NGRAM, ngramAnalyzer);
+        perField.put(FIELD_DESCRIPTION_NGRAM, ngramAnalyzer);
+        this.analyzer = new PerFieldAnalyzerWrapper(new StandardAnalyzer(), perField);
+    }
+
+    // =====================================================
+    // 인덱스 생명주기
+    // =====================================================
+
+    /**
+     * 인덱스 디렉토리를 열고 IndexWriter와 NRT SearcherManager를 생성합니다.
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(indexPath);
+        directory = new MMapDirectory(indexPath);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        log.info("Lucene 검색 인덱스를 열었습니다: {}", indexPath.toAbsolutePath());
+    }
+
+    /**
+     * 애플리케이션이 준비되면 백그라운드 스레드에서 인덱스를 재구축합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread thread = new Thread(this::rebuildIndex, "lucene-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * DB의 전체 상품으로 인덱스를 다시 만듭니다.
+     *
+     * 재구축 중에는 검색을 JPA로 처리하고, 재구축 중 변경된 상품은 끝난 뒤 다시 색인합니다.
+     */
+    public synchronized void rebuildIndex() {
+        ready = false;
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        long startedAt = System.currentTimeMillis();
+        try {
+            writer.deleteAll();
+            long[] indexed = {0};
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Product> products = productRepository.streamAll()) {
+                    products.forEach(product -> {
+                        indexProduct(product);
+                        entityManager.detach(product);
+                        indexed[0]++;
+                    });
+                }
+            });
+
+            rebuilding = false;
+            for (Long id : changedDuringRebuild) {
+                reindex(id);
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+            log.info("Lucene 검색 인덱스 재구축 완료: {}건, {}ms",
+                    indexed[0], System.currentTimeMillis() - startedAt);
+        } catch (IOException | RuntimeException e) {
+            rebuilding = false;
+            log.error("Lucene 검색 인덱스 재구축 실패 - JPA 검색을 계속 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 인덱스를 커밋하고 닫습니다.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        ready = false;
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // =====================================================
+    // 인덱스 갱신
+    // =====================================================
+
+    /**
+     * 상품 변경 이벤트를 받아 인덱스에 반영합니다.
+     *
+     * 트랜잭션 커밋 이후에 실행되므로 롤백된 변경은 색인되지 않습니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Long id = event.getProductId();
+        if (rebuilding) {
+            changedDuringRebuild.add(id);
+        }
+        try {
+            if (event.getType() == ProductChangedEvent.Type.DELETED) {
+                writer.deleteDocuments(new Term(FIELD_ID, id.toString()));
+            } else {
+                reindex(id);
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Lucene 검색 인덱스 갱신 실패 (상품 ID: {})", id, e);
+        }
+    }
+
+    /**
+     * 상품의 현재 상태를 DB에서 읽어 다시 색인합니다. (삭제된 상품은 인덱스에서 제거)
+     */
+    private void reindex(Long id) throws IOException {
+        Optional<Product> product = productRepository.findById(id);
+        if (product.isPresent()) {
+            indexProduct(product.get());
+        } else {
+            writer.deleteDocuments(new Term(FIELD_ID, id.toString()));
+        }
+    }
+
+    /**
+     * 상품 문서를 추가하거나 같은 ID의 기존 문서를 교체합니다.
+     */
+    private void indexProduct(Product product) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, product.getId().toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT_SORT, toEpochMicros(product.getCreatedAt())));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, product.getId()));
+        document.add(new TextField(FIELD_NAME, product.getName(), Field.Store.NO));
+        document.add(new TextField(FIELD_NAME_NGRAM, product.getName(), Field.Store.NO));
+        if (product.getDescription() != null) {
+            document.add(new TextField(FIELD_DESCRIPTION, product.getDescription(), Field.Store.NO));
+            document.add(new TextField(FIELD_DESCRIPTION_NGRAM, product.getDescription(), Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(new Term(FIELD_ID, product.getId().toString()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    // =====================================================
+    // 검색
+    // =====================================================
+
+    @Override
+    public List<Product> search(String keyword) {
+        if (!ready) {
+            return fallback.search(keyword);
+        }
+        return searchOrFallback(keywordQuery(keyword), null, maxResults, this::loadProducts,
+                () -> fallback.search(keyword));
+    }
+
+    @Override
+    public List<Product> searchByName(String name) {
+        return searchContaining(FIELD_NAME_NGRAM, name, this::loadProducts, () -> fallback.searchByName(name));
+    }
+
+    @Override
+    public List<Product> searchByDescription(String description) {
+        return searchContaining(FIELD_DESCRIPTION_NGRAM, description, this::loadProducts,
+                () -> fallback.searchByDescription(description));
+    }
+
+    @Override
+    public List<ProductSummary> searchSummaries(String keyword) {
+        if (!ready) {
+            return fallback.searchSummaries(keyword);
+        }
+        return searchOrFallback(keywordQuery(keyword), null, maxResults, this::loadSummaries,
+                () -> fallback.searchSummaries(keyword));
+    }
+
+    @Override
+    public List<ProductSummary> searchSummariesByName(String name) {
+        return searchContaining(FIELD_NAME_NGRAM, name, this::loadSummaries, () -> fallback.searchSummariesByName(name));
+    }
+
+    @Override
+    public List<ProductSummary> searchSummariesByDescription(String description) {
+        return searchContaining(FIELD_DESCRIPTION_NGRAM, description, this::loadSummaries,
+                () -> fallback.searchSummariesByDescription(description));
+    }
+
+    /**
+     * 키워드 검색 쿼리를 만듭니다.
+     *
+     * 상품명에 2배 가중치를 주고, 모든 단어가 포함된 문서만 찾습니다 (websearch_to_tsquery와 같은 AND 의미).
+     */
+    private Query keywordQuery(String keyword) {
+        Map<String, Float> weights = new HashMap<>();
+        weights.put(FIELD_NAME, 2.0f);
+        weights.put(FIELD_DESCRIPTION, 1.0f);
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, weights);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        return parser.parse(keyword);
+    }
+
+    /**
+     * n-gram 필드에 대한 구문 검색으로 부분 문자열이 포함된 상품을 찾습니다.
+     *
+     * 검색어를 같은 3-gram 분석기로 나눈 뒤 연속된 위치에 모두 나타나는 문서만 일치하므로
+     * ILIKE '%검색어%'와 같은 상품이 일치합니다 (대소문자 구분 없음).
+     * 결과는 관련도가 아니라 JPA 검색과 같은 (created_at, id) 순서로 정렬한 뒤
+     * 최대 shop.search.max-substring-results 건까지 반환하므로,
+     * 결과가 상한을 넘어도 두 엔진이 같은 상품을 돌려줍니다.
+     */
+    private <T> List<T> searchContaining(String field, String term,
+                                         Function<List<Long>, List<T>> loader, Supplier<List<T>> fallbackSearch) {
+        if (!ready || term.codePointCount(0, term.length()) < NGRAM_SIZE) {
+            return fallbackSearch.get();
+        }
+        Query query = new QueryBuilder(analyzer).createPhraseQuery(field, term);
+        if (query == null) {
+            return fallbackSearch.get();
+        }
+        return searchOrFallback(query, CREATED_ORDER, maxSubstringResults, loader, fallbackSearch);
+    }
+
+    /**
+     * 쿼리를 실행하여 상품 ID를 찾고, 검색 순서를 유지한 채 loader로 DB에서 상품을 읽어옵니다.
+     * sort가 null이면 관련도 순입니다. 인덱스를 읽는 중 오류가 나면 JPA 검색으로 대체합니다.
+     */
+    private <T> List<T> searchOrFallback(Query query, Sort sort, int limit,
+                                         Function<List<Long>, List<T>> loader, Supplier<List<T>> fallbackSearch) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int topN = Math.max(1, Math.min(limit, searcher.getIndexReader().maxDoc()));
+                TopDocs topDocs = sort == null ? searcher.search(query, topN) : searcher.search(query, topN, sort);
+                StoredFields storedFields = searcher.storedFields();
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    String id = storedFields.document(scoreDoc.doc, Set.of(FIELD_ID)).get(FIELD_ID);
+                    ids.add(Long.valueOf(id));
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            log.warn("Lucene 검색 실패 - JPA 검색으로 대체합니다.", e);
+            return fallbackSearch.get();
+        }
+        return loader.apply(ids);
+    }
+
+    private List<Product> loadProducts(List<Long> ids) {
+        return loadInOrder(ids, productRepository::findAllById, Product::getId);
+    }
+
+    private List<ProductSummary> loadSummaries(List<Long> ids) {
+        return loadInOrder(ids, productRepository::findSummariesByIdIn, ProductSummary::getId);
+    }
+
+    /**
+     * ID 목록 순서대로 상품을 읽어옵니다. (색인 이후 삭제된 상품은 제외)
+     *
+     * IN 절이 지나치게 커지지 않도록 IN_CLAUSE_CHUNK_SIZE 단위로 나누어 조회합니다.
+     */
+    private static <T> List<T> loadInOrder(List<Long> ids, Function<List<Long>, List<T>> finder, Function<T, Long> idOf) {
+        List<T> result = new ArrayList<>(ids.size());
+        if (ids.isEmpty()) {
+            return result;
+        }
+        Map<Long, T> byId = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size());
+            for (T item : finder.apply(ids.subList(from, to))) {
+                byId.put(idOf.apply(item), item);
+            }
+        }
+        for (Long id : ids) {
+            T item = byId.get(id);
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    // =====================================================
+    // 분석기
+    // =====================================================
+
+    /**
+     * 문자열 전체를 고정 길이 n-gram으로 나누고 소문자로 정규화하는 분석기
+     */
+    private static final class NGramAnalyzer extends Analyzer {
+
+        private final int size;
+
+        private NGramAnalyzer(int size) {
+            this.size = size;
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new NGramTokenizer(size, size);
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.shop.search;
+
+import com.shop.dto.ProductSummary;
+import com.shop.entity.Product;
+
+import java.util.List;
+
+/**
+ * 상품 검색을 담당하는 검색 엔진 인터페이스
+ * 
+ * ProductService의 키워드/상품명/설명 검색은 이 인터페이스를 통해 처리되며,
+ * application.yml의 shop.search.engine 설정으로 구현체를 선택합니다.
+ * - jpa (기본값): PostgreSQL 전문 검색 + pg_trgm 인덱스 (JpaProductSearchEngine)
+ * - lucene: 로컬 디스크의 내장 Lucene 인덱스 (LuceneProductSearchEngine)
+ * 
+ * 모든 메서드는 앞뒤 공백이 제거된, 비어 있지 않은 검색어를 받습니다.
+ * (빈 검색어 처리는 ProductService가 담당합니다.)
+ */
+public interface ProductSearchEngine {
+
+    /**
+     * 상품명 또는 설명으로 상품을 검색합니다.
+     * 
+     * @param keyword 검색 키워드
+     * @return 관련도 순으로 정렬된 상품 목록 (최대 shop.search.max-results 건)
+     */
+    List<Product> search(String keyword);
+
+    /**
+     * 상품명에 검색어가 포함된 상품을 검색합니다. (대소문자 구분 없음)
+     * 
+     * @param name 검색할 상품명 (부분 문자열)
+     * @return 검색 결과 상품 목록 (최대 shop.search.max-substring-results 건)
+     */
+    List<Product> searchByName(String name);
+
+    /**
+     * 설명에 검색어가 포함된 상품을 검색합니다. (대소문자 구분 없음)
+     * 
+     * @param description 검색할 설명 (부분 문자열)
+     * @return 검색 결과 상품 목록 (최대 shop.search.max-substring-results 건)
+     */
+    List<Product> searchByDescription(String description);
+
+    /**
+     * search와 같은 조건/순서로 상품 요약 정보(description 제외)를 검색합니다. (?view=summary)
+     * 
+     * @param keyword 검색 키워드
+     * @return 관련도 순으로 정렬된 상품 요약 목록 (최대 shop.search.max-results 건)
+     */
+    List<ProductSummary> searchSummaries(String keyword);
+
+    /**
+     * searchByName과 같은 조건/순서로 상품 요약 정보를 검색합니다.
+     * 
+     * @param name 검색할 상품명 (부분 문자열)
+     * @return 검색 결과 상품 요약 목록 (최대 shop.search.max-substring-results 건)
+     */
+    List<ProductSummary> searchSummariesByName(String name);
+
+    /**
+     * searchByDescription과 같은 조건/순서로 상품 요약 정보를 검색합니다.
+     * 
+     * @param description 검색할 설명 (부분 문자열)
+     * @return 검색 결과 상품 요약 목록 (최대 shop.search.max-substring-results 건)
+     */
+    List<ProductSummary> searchSummariesByDescription(String description);
+}
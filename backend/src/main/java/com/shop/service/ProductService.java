@@ -1,14 +1,53 @@
 package com.shop.service;
 
+import com.shop.cache.CatalogVersion;
+import com.shop.cache.ProductCache;
+import com.shop.dto.BulkChangeResponse;
+import com.shop.dto.BulkCreateResponse;
+import com.shop.dto.BulkItemResult;
+import com.shop.dto.BulkUpdateItem;
+import com.shop.dto.ProductPriceChange;
+import com.shop.dto.ProductCursor;
+import com.shop.dto.ProductPage;
+import com.shop.dto.ProductPatch;
+import com.shop.dto.ProductSummary;
+import com.shop.dto.ProductUpdateResult;
 import com.shop.entity.Product;
+import com.shop.event.ProductChangedEvent;
 import com.shop.repository.ProductRepository;
+import com.shop.search.ProductSearchEngine;
+import com.shop.stats.ProductPriceIndex;
+import com.shop.stats.ProductPriceStats;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * 상품 관련 비즈니스 로직을 처리하는 서비스 클래스
@@ -17,9 +56,12 @@ import java.util.Optional;
  * 비즈니스 규칙과 트랜잭션을 관리합니다.
  * 
  * @Service 어노테이션은 이 클래스가 비즈니스 로직을 담당하는 서비스 컴포넌트임을 명시합니다.
+ * @Timed 어노테이션으로 모든 public 메서드의 실행 시간이 shop.service 타이머
+ * (class, method, exception 태그)에 기록됩니다.
  */
 @Service
 @Transactional
+@Timed(value = "shop.service", description = "ProductService 메서드 실행 시간")
 public class ProductService {
 
     // =====================================================
@@ -34,14 +76,99 @@ public class ProductService {
      */
     private final ProductRepository productRepository;
 
+    /**
+     * 단건 상품 조회 결과를 보관하는 프로세스 내 캐시
+     */
+    private final ProductCache productCache;
+
+    /**
+     * 키워드/상품명/설명 검색을 처리하는 검색 엔진
+     * 
+     * 기본은 PostgreSQL 기반(JpaProductSearchEngine)이며,
+     * shop.search.engine=lucene 이면 내장 Lucene 인덱스(LuceneProductSearchEngine)가 주입됩니다.
+     */
+    private final ProductSearchEngine productSearchEngine;
+
+    /**
+     * 상품 변경 이벤트로 증분 갱신되는 가격 통계 (평균보다 비싼 상품 조회에 사용)
+     */
+    private final ProductPriceStats productPriceStats;
+
+    /**
+     * 메모리 가격 인덱스 (가격 이상 개수 조회, 가격 범위 검색에 사용)
+     */
+    private final ProductPriceIndex productPriceIndex;
+
+    /**
+     * 상품 변경 이벤트(ProductChangedEvent)를 발행하는 퍼블리셔
+     * 
+     * 캐시 등 상품 데이터의 사본을 가진 컴포넌트들이 이 이벤트를 받아 무효화합니다.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 스트리밍 조회 시 처리가 끝난 엔티티를 영속성 컨텍스트에서 분리하기 위한 EntityManager
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 커서 기반 페이지 조회에서 limit을 지정하지 않았을 때 사용할 기본 페이지 크기
+     */
+    @Value("${shop.pagination.default-limit:20}")
+    private int defaultPageLimit;
+
+    /**
+     * 커서 기반 페이지 조회에서 허용하는 최대 페이지 크기
+     */
+    @Value("${shop.pagination.max-limit:100}")
+    private int maxPageLimit;
+
+    /**
+     * 대량 생성 API가 한 번에 받을 수 있는 최대 상품 수
+     */
+    @Value("${shop.bulk.max-items:10000}")
+    private int maxBulkItems;
+
+    /**
+     * 대량 생성 시 한 번에 flush 할 상품 수 (Hibernate JDBC 배치 크기와 같게 설정)
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int bulkFlushSize;
+
+    /**
+     * IN 쿼리 한 번에 넣을 최대 파라미터 수 (상품명 중복 확인, ID 목록 조회)
+     */
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    /**
+     * 첫 페이지 조회에 사용하는 커서 값 (모든 상품의 생성 시간보다 앞선 시각)
+     */
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     /**
      * 생성자를 통한 의존성 주입
      * 
      * @param productRepository 상품 리포지토리
+     * @param productCache 단건 상품 캐시
+     * @param productSearchEngine 상품 검색 엔진
+     * @param productPriceStats 가격 통계
+     * @param productPriceIndex 가격 인덱스
+     * @param eventPublisher 상품 변경 이벤트 퍼블리셔
      */
     @Autowired
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository,
+                          ProductCache productCache,
+                          ProductSearchEngine productSearchEngine,
+                          ProductPriceStats productPriceStats,
+                          ProductPriceIndex productPriceIndex,
+                          ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.productSearchEngine = productSearchEngine;
+        this.productPriceStats = productPriceStats;
+        this.productPriceIndex = productPriceIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     // =====================================================
@@ -55,6 +182,9 @@ public class ProductService {
      * 이 메서드 내에서 발생하는 모든 데이터베이스 작업이
      * 하나의 트랜잭션으로 처리됩니다.
      * 
+     * 상품명 중복은 미리 조회하지 않고 INSERT 시 유일 제약(uk_products_name)으로 확인합니다.
+     * 제약 위반이 이 메서드 안에서 드러나도록 저장 직후 flush합니다.
+     * 
      * @param product 생성할 상품 정보
      * @return 저장된 상품 정보 (ID가 할당됨)
      */
@@ -63,13 +193,82 @@ public class ProductService {
         // 입력 데이터 검증
         validateProduct(product);
         
-        // 상품명 중복 확인
-        if (productRepository.existsByName(product.getName())) {
-            throw new IllegalArgumentException("이미 존재하는 상품명입니다: " + product.getName());
-        }
+        // 요청 본문에 version이 있어도 항상 새 상품으로 저장합니다.
+        product.setVersion(null);
         
-        // 상품 저장 및 반환
-        return productRepository.save(product);
+        // 상품 저장 및 반환 (상품명이 이미 있으면 제약 위반)
+        Product savedProduct;
+        try {
+            savedProduct = productRepository.saveAndFlush(product);
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e, product.getName());
+        }
+        publishChange(ProductChangedEvent.Type.CREATED, savedProduct.getId(), null, savedProduct.getPrice());
+        return savedProduct;
+    }
+
+    /**
+     * 여러 상품을 한 번에 생성하는 메서드
+     * 
+     * 상품마다 existsByName과 INSERT를 따로 실행하지 않고 다음 순서로 처리합니다.
+     * 1. 항목별 입력 검증 및 요청 안에서의 상품명 중복 확인
+     * 2. 이미 존재하는 상품명을 IN 쿼리로 한 번에 확인 (1000개 단위)
+     * 3. 통과한 상품을 JDBC 배치 INSERT로 저장 (배치 크기마다 flush 후 영속성 컨텍스트 비움)
+     * 
+     * 검증에 실패하거나 중복된 항목은 거부되고, 나머지 항목은 정상적으로 생성됩니다.
+     * 2단계 확인 이후 다른 요청이 같은 상품명을 먼저 저장하면 유일 제약 위반으로 전체 요청이 실패합니다 (400).
+     * 
+     * @param products 생성할 상품 목록
+     * @return 요청 순서대로의 항목별 처리 결과
+     * @throws IllegalArgumentException 목록이 비어 있거나 최대 개수를 초과한 경우
+     */
+    @Transactional
+    public BulkCreateResponse createProducts(List<Product> products) {
+        validateBulkSize(products, "생성");
+
+        BulkItemResult[] results = new BulkItemResult[products.size()];
+
+        // 1. 항목별 입력 검증 및 요청 안에서의 상품명 중복 확인 (상품명 → 요청 위치)
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            try {
+                validateProduct(product);
+            } catch (IllegalArgumentException e) {
+                results[i] = BulkItemResult.rejected(i, e.getMessage());
+                continue;
+            }
+            if (candidates.putIfAbsent(product.getName(), i) != null) {
+                results[i] = BulkItemResult.rejected(i, "요청 안에 중복된 상품명입니다: " + product.getName());
+            }
+        }
+
+        // 2. 이미 존재하는 상품명 확인
+        Set<String> existingNames = findExistingNames(candidates.keySet());
+
+        // 3. 배치 INSERT
+        List<Integer> chunk = new ArrayList<>(bulkFlushSize);
+        List<Product> created = new ArrayList<>(candidates.size());
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int index = candidate.getValue();
+            if (existingNames.contains(candidate.getKey())) {
+                results[index] = BulkItemResult.rejected(index, "이미 존재하는 상품명입니다: " + candidate.getKey());
+                continue;
+            }
+            // 요청 본문에 ID가 있어도 항상 새 상품으로 저장합니다.
+            products.get(index).setId(null);
+            products.get(index).setVersion(null);
+            chunk.add(index);
+            if (chunk.size() == bulkFlushSize) {
+                saveChunk(chunk, products, results, created);
+            }
+        }
+        saveChunk(chunk, products, results, created);
+
+        for (Product product : created) {
+            publishChange(ProductChangedEvent.Type.CREATED, product.getId(), null, product.getPrice());
+        }
+        return new BulkCreateResponse(Arrays.asList(results));
     }
 
     /**
@@ -85,61 +284,174 @@ public class ProductService {
     /**
      * ID로 특정 상품을 조회하는 메서드
      * 
+     * 프로세스 내 캐시(ProductCache)를 먼저 확인하고, 없을 때만 DB에서 조회합니다.
+     * 캐시 적중 시에는 트랜잭션을 시작하지 않아 커넥션 풀을 전혀 사용하지 않도록
+     * Propagation.SUPPORTS로 설정합니다 (캐시 미스 시에는 리포지토리의 읽기 전용 트랜잭션 사용).
+     * 
      * @param id 조회할 상품의 ID
      * @return 상품 정보 (Optional로 래핑됨)
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<Product> getProductById(Long id) {
-        return productRepository.findById(id);
+        return productCache.get(id, productRepository::findById);
+    }
+
+    /**
+     * 단건 상품 응답의 ETag를 조회하는 메서드
+     * 
+     * If-None-Match 확인용이므로 상품 전체를 읽지 않습니다.
+     * 캐시에 상품이 있으면 DB를 조회하지 않고, 없으면 버전만 조회합니다.
+     * 
+     * @param id 상품 ID
+     * @return ETag (상품이 없으면 Optional.empty)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<String> getProductETag(Long id) {
+        Optional<Product> cached = productCache.getIfPresent(id);
+        if (cached.isPresent()) {
+            return cached.map(CatalogVersion::productETag);
+        }
+        return productRepository.findVersionById(id)
+                .map(version -> CatalogVersion.productETag(id, version));
     }
 
     /**
      * 상품 정보를 수정하는 메서드
      * 
+     * 요청 본문의 version을 기대하는 현재 버전으로 사용합니다 (없으면 버전과 관계없이 수정).
+     * 
      * @param id 수정할 상품의 ID
      * @param updatedProduct 수정된 상품 정보
      * @return 수정된 상품 정보
      * @throws IllegalArgumentException 상품이 존재하지 않는 경우
+     * @throws OptimisticLockingFailureException 다른 요청이 먼저 상품을 수정한 경우
      */
     @Transactional
     public Product updateProduct(Long id, Product updatedProduct) {
-        // 기존 상품 존재 여부 확인
-        Product existingProduct = productRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + id));
-        
+        return updateProduct(id, updatedProduct, updatedProduct.getVersion());
+    }
+
+    /**
+     * 상품 정보를 버전 조건부로 수정하는 메서드
+     * 
+     * 상품을 먼저 읽지 않고 UPDATE ... WHERE id = ? AND version = ? 문 하나로
+     * 버전 확인과 수정을 함께 처리합니다 (ProductRepositoryCustom.updateIfMatches).
+     * 상품명 중복은 미리 조회하지 않고 유일 제약(uk_products_name) 위반을 상품명 중복 오류로 바꿉니다.
+     * 
+     * @param id 수정할 상품의 ID
+     * @param updatedProduct 수정된 상품 정보
+     * @param expectedVersion 수정 전 버전으로 기대하는 값 (If-Match 또는 요청 본문, null이면 버전과 관계없이 수정)
+     * @return 수정된 상품 정보
+     * @throws IllegalArgumentException 상품이 존재하지 않거나 입력이 유효하지 않은 경우
+     * @throws OptimisticLockingFailureException 상품의 현재 버전이 expectedVersion과 다른 경우
+     */
+    @Transactional
+    public Product updateProduct(Long id, Product updatedProduct, Long expectedVersion) {
         // 입력 데이터 검증
         validateProduct(updatedProduct);
         
-        // 상품명 중복 확인 (자기 자신 제외)
-        if (!existingProduct.getName().equals(updatedProduct.getName()) &&
-            productRepository.existsByName(updatedProduct.getName())) {
-            throw new IllegalArgumentException("이미 존재하는 상품명입니다: " + updatedProduct.getName());
-        }
-        
-        // 상품 정보 업데이트
-        existingProduct.setName(updatedProduct.getName());
-        existingProduct.setDescription(updatedProduct.getDescription());
-        existingProduct.setPrice(updatedProduct.getPrice());
+        return applyUpdate(id, ProductPatch.of(updatedProduct), expectedVersion);
+    }
+
+    /**
+     * 상품의 일부 필드만 수정하는 메서드 (JSON Merge Patch)
+     * 
+     * 상품을 먼저 읽지 않고, 바꾸려는 필드만 검증한 뒤 그 컬럼만 SET 하는 UPDATE 문 하나로 수정하여
+     * 수정된 상태를 RETURNING으로 돌려받습니다. (가격만 자주 바꾸는 경우 등)
+     * 바꿀 필드가 없는 패치({})는 수정하지 않고 현재 상태를 반환합니다.
+     * 
+     * @param id 수정할 상품의 ID
+     * @param changes 바꿀 필드와 값
+     * @param expectedVersion 수정 전 버전으로 기대하는 값 (null이면 버전과 관계없이 수정)
+     * @return 수정된 상품 정보
+     * @throws IllegalArgumentException 상품이 존재하지 않거나 바꾸려는 값이 유효하지 않은 경우
+     * @throws OptimisticLockingFailureException 상품의 현재 버전이 expectedVersion과 다른 경우
+     */
+    @Transactional
+    public Product patchProduct(Long id, ProductPatch changes, Long expectedVersion) {
+        ProductValidator.validatePatch(changes);
         
-        // 업데이트된 상품 저장 및 반환
-        return productRepository.save(existingProduct);
+        if (changes.isEmpty()) {
+            Product current = productRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + id));
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw new OptimisticLockingFailureException(
+                        "다른 요청이 먼저 상품을 수정했습니다. ID: " + id + ", 현재 버전: " + current.getVersion());
+            }
+            return current;
+        }
+        return applyUpdate(id, changes, expectedVersion);
     }
 
     /**
      * 상품을 삭제하는 메서드
      * 
+     * 상품을 먼저 읽지 않고 DELETE ... RETURNING 문 하나로 삭제하며,
+     * 가격 통계 갱신에 필요한 삭제 전 가격도 함께 받습니다.
+     * 삭제된 행이 없으면 캐시 무효화나 변경 이벤트 없이 예외를 던집니다.
+     * 
      * @param id 삭제할 상품의 ID
      * @throws IllegalArgumentException 상품이 존재하지 않는 경우
      */
     @Transactional
     public void deleteProduct(Long id) {
-        // 상품 존재 여부 확인
-        if (!productRepository.existsById(id)) {
-            throw new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + id);
+        BigDecimal oldPrice = productRepository.deleteReturningPrice(id)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + id));
+        publishChange(ProductChangedEvent.Type.DELETED, id, oldPrice, null);
+    }
+
+    /**
+     * 여러 상품의 가격/설명을 한 번에 수정하는 메서드
+     * 
+     * 상품마다 findById → save를 반복하지 않고 UPDATE 문 하나로 처리합니다.
+     * 존재하지 않는 상품 ID는 오류 없이 missingIds로 반환됩니다.
+     * 
+     * @param items 수정할 항목 목록
+     * @return 요청 수, 수정된 행 수, 존재하지 않는 상품 ID 목록
+     * @throws IllegalArgumentException 목록이 비어 있거나, 항목이 유효하지 않거나, ID가 중복된 경우
+     */
+    @Transactional
+    public BulkChangeResponse updateProducts(List<BulkUpdateItem> items) {
+        validateBulkSize(items, "수정");
+
+        Set<Long> requestedIds = new LinkedHashSet<>();
+        for (BulkUpdateItem item : items) {
+            validateBulkUpdateItem(item);
+            if (!requestedIds.add(item.getId())) {
+                throw new IllegalArgumentException("요청 안에 중복된 상품 ID입니다: " + item.getId());
+            }
         }
-        
-        // 상품 삭제
-        productRepository.deleteById(id);
+
+        List<ProductPriceChange> changes = productRepository.bulkUpdate(items, LocalDateTime.now());
+        for (ProductPriceChange change : changes) {
+            publishChange(ProductChangedEvent.Type.UPDATED, change.getId(), change.getOldPrice(), change.getNewPrice());
+        }
+        return toBulkChangeResponse(requestedIds, changes);
+    }
+
+    /**
+     * 여러 상품을 한 번에 삭제하는 메서드
+     * 
+     * 상품마다 existsById → deleteById를 반복하지 않고 DELETE 문 하나로 처리합니다.
+     * 존재하지 않는 상품 ID는 오류 없이 missingIds로 반환됩니다.
+     * 
+     * @param ids 삭제할 상품 ID 목록
+     * @return 요청 수, 삭제된 행 수, 존재하지 않는 상품 ID 목록
+     * @throws IllegalArgumentException 목록이 비어 있거나 null ID가 포함된 경우
+     */
+    @Transactional
+    public BulkChangeResponse deleteProducts(List<Long> ids) {
+        validateBulkSize(ids, "삭제");
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("상품 ID는 필수입니다.");
+        }
+
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        List<ProductPriceChange> changes = productRepository.bulkDelete(requestedIds);
+        for (ProductPriceChange change : changes) {
+            publishChange(ProductChangedEvent.Type.DELETED, change.getId(), change.getOldPrice(), null);
+        }
+        return toBulkChangeResponse(requestedIds, changes);
     }
 
     // =====================================================
@@ -149,6 +461,8 @@ public class ProductService {
     /**
      * 상품명으로 상품을 검색하는 메서드
      * 
+     * 대소문자를 구분하지 않는 부분 문자열 검색이며, 설정된 검색 엔진(ProductSearchEngine)이 처리합니다.
+     * 
      * @param name 검색할 상품명 (부분 문자열)
      * @return 검색 결과 상품 목록
      */
@@ -157,12 +471,14 @@ public class ProductService {
         if (name == null || name.trim().isEmpty()) {
             return getAllProducts();
         }
-        return productRepository.findByNameContaining(name.trim());
+        return productSearchEngine.searchByName(name.trim());
     }
 
     /**
      * 설명으로 상품을 검색하는 메서드
      * 
+     * 대소문자를 구분하지 않는 부분 문자열 검색이며, 설정된 검색 엔진(ProductSearchEngine)이 처리합니다.
+     * 
      * @param description 검색할 설명 (부분 문자열)
      * @return 검색 결과 상품 목록
      */
@@ -171,12 +487,15 @@ public class ProductService {
         if (description == null || description.trim().isEmpty()) {
             return getAllProducts();
         }
-        return productRepository.findByDescriptionContaining(description.trim());
+        return productSearchEngine.searchByDescription(description.trim());
     }
 
     /**
      * 가격 범위로 상품을 검색하는 메서드
      * 
+     * 가격 인덱스가 준비되어 있으면 인덱스에서 상품 ID를 찾은 뒤 ID로만 상품을 읽어오므로
+     * 가격 조건으로 테이블을 조회하지 않습니다. (결과는 가격, ID 순)
+     * 
      * @param minPrice 최소 가격
      * @param maxPrice 최대 가격
      * @return 가격 범위에 해당하는 상품 목록
@@ -184,26 +503,23 @@ public class ProductService {
     @Transactional(readOnly = true)
     public List<Product> searchProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
         // 가격 범위 검증
-        if (minPrice == null || maxPrice == null) {
-            throw new IllegalArgumentException("최소 가격과 최대 가격을 모두 입력해주세요.");
-        }
+        validatePriceRange(minPrice, maxPrice);
         
-        if (minPrice.compareTo(maxPrice) > 0) {
-            throw new IllegalArgumentException("최소 가격은 최대 가격보다 작아야 합니다.");
+        if (!productPriceIndex.isReady()) {
+            return productRepository.findByPriceBetween(minPrice, maxPrice);
         }
-        
-        if (minPrice.compareTo(BigDecimal.ZERO) < 0 || maxPrice.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("가격은 0 이상이어야 합니다.");
-        }
-        
-        return productRepository.findByPriceBetween(minPrice, maxPrice);
+        long[] ids = productPriceIndex.findIds(minPrice, maxPrice, minPrice, 0L, Integer.MAX_VALUE);
+        return findAllByIdInOrder(ids);
     }
 
     /**
      * 상품명 또는 설명으로 상품을 검색하는 메서드
      * 
+     * 설정된 검색 엔진(ProductSearchEngine)이 처리하며,
+     * 결과는 관련도 순으로 최대 shop.search.max-results 건까지 반환합니다.
+     * 
      * @param keyword 검색할 키워드
-     * @return 검색 결과 상품 목록
+     * @return 관련도 순으로 정렬된 검색 결과 상품 목록
      */
     @Transactional(readOnly = true)
     public List<Product> searchProducts(String keyword) {
@@ -212,7 +528,317 @@ public class ProductService {
         }
         
         String trimmedKeyword = keyword.trim();
-        return productRepository.findByNameContainingOrDescriptionContaining(trimmedKeyword, trimmedKeyword);
+        return productSearchEngine.search(trimmedKeyword);
+    }
+
+    // =====================================================
+    // 커서 기반 페이지 조회 메서드
+    // =====================================================
+    // 각 메서드는 limit + 1개를 조회하여 다음 페이지 존재 여부를 판단하므로
+    // COUNT 쿼리 없이도 hasNext / nextCursor를 만들 수 있습니다.
+
+    /**
+     * 전체 상품을 (생성 시간, ID) 순서로 한 페이지씩 조회하는 메서드
+     * 
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기 (null이면 기본값, 최대값을 넘으면 최대값으로 제한)
+     * @return 상품 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<Product> getProductPage(String cursor, Integer limit) {
+        int pageLimit = resolvePageLimit(limit);
+        ProductCursor after = decodeCreatedAtCursor(cursor);
+        List<Product> rows = productRepository.findPageAfter(
+                after.getCreatedAt(), after.getId(), fetchOneMore(pageLimit));
+        return toCreatedAtPage(rows, pageLimit, Product::getCreatedAt, Product::getId);
+    }
+
+    /**
+     * 상품명으로 검색한 결과를 한 페이지씩 조회하는 메서드
+     * 
+     * @param name 검색할 상품명 (부분 문자열)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기
+     * @return 상품 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<Product> searchProductPageByName(String name, String cursor, Integer limit) {
+        if (name == null || name.trim().isEmpty()) {
+            return getProductPage(cursor, limit);
+        }
+        int pageLimit = resolvePageLimit(limit);
+        ProductCursor after = decodeCreatedAtCursor(cursor);
+        List<Product> rows = productRepository.findPageByNameContainingAfter(
+                ProductRepository.toContainsPattern(name.trim()), after.getCreatedAt(), after.getId(), fetchOneMore(pageLimit));
+        return toCreatedAtPage(rows, pageLimit, Product::getCreatedAt, Product::getId);
+    }
+
+    /**
+     * 설명으로 검색한 결과를 한 페이지씩 조회하는 메서드
+     * 
+     * @param description 검색할 설명 (부분 문자열)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기
+     * @return 상품 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<Product> searchProductPageByDescription(String description, String cursor, Integer limit) {
+        if (description == null || description.trim().isEmpty()) {
+            return getProductPage(cursor, limit);
+        }
+        int pageLimit = resolvePageLimit(limit);
+        ProductCursor after = decodeCreatedAtCursor(cursor);
+        List<Product> rows = productRepository.findPageByDescriptionContainingAfter(
+                ProductRepository.toContainsPattern(description.trim()), after.getCreatedAt(), after.getId(), fetchOneMore(pageLimit));
+        return toCreatedAtPage(rows, pageLimit, Product::getCreatedAt, Product::getId);
+    }
+
+    /**
+     * 가격 범위로 검색한 결과를 (가격, ID) 순서로 한 페이지씩 조회하는 메서드
+     * 
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기
+     * @return 상품 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<Product> searchProductPageByPriceRange(BigDecimal minPrice, BigDecimal maxPrice,
+                                                     String cursor, Integer limit) {
+        validatePriceRange(minPrice, maxPrice);
+        int pageLimit = resolvePageLimit(limit);
+
+        ProductCursor after = decodePriceCursor(cursor, minPrice);
+
+        List<Product> rows = productPriceIndex.isReady()
+                ? findAllByIdInOrder(productPriceIndex.findIds(
+                        minPrice, maxPrice, after.getPrice(), after.getId(), pageLimit + 1))
+                : productRepository.findPageByPriceRangeAfter(
+                        minPrice, maxPrice, after.getPrice(), after.getId(), fetchOneMore(pageLimit));
+        return toPage(rows, pageLimit, last -> ProductCursor.ofPrice(last.getPrice(), last.getId()));
+    }
+
+    /**
+     * 상품명 또는 설명으로 검색한 결과를 한 페이지씩 조회하는 메서드
+     * 
+     * @param keyword 검색할 키워드
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기
+     * @return 상품 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<Product> searchProductPage(String keyword, String cursor, Integer limit) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return getProductPage(cursor, limit);
+        }
+        int pageLimit = resolvePageLimit(limit);
+        ProductCursor after = decodeCreatedAtCursor(cursor);
+        List<Product> rows = productRepository.findPageByKeywordAfter(
+                keyword.trim(), after.getCreatedAt(), after.getId(), fetchOneMore(pageLimit));
+        return toCreatedAtPage(rows, pageLimit, Product::getCreatedAt, Product::getId);
+    }
+
+    // =====================================================
+    // 목록용 요약 조회 메서드 (?view=summary)
+    // =====================================================
+    // 위의 목록/검색/페이지 조회와 조건, 정렬, 페이지 규칙이 같고
+    // Product 대신 description을 제외한 ProductSummary 프로젝션을 반환합니다.
+
+    /**
+     * 모든 상품의 요약 정보를 조회하는 메서드
+     * 
+     * @return 전체 상품 요약 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummary> getAllProductSummaries() {
+        return productRepository.findAllSummaries();
+    }
+
+    /**
+     * 상품명으로 검색한 상품의 요약 정보를 조회하는 메서드
+     * 
+     * @param name 검색할 상품명 (부분 문자열)
+     * @return 검색 결과 상품 요약 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummary> searchProductSummariesByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return getAllProductSummaries();
+        }
+        return productSearchEngine.searchSummariesByName(name.trim());
+    }
+
+    /**
+     * 설명으로 검색한 상품의 요약 정보를 조회하는 메서드
+     * 
+     * @param description 검색할 설명 (부분 문자열)
+     * @return 검색 결과 상품 요약 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummary> searchProductSummariesByDescription(String description) {
+        if (description == null || description.trim().isEmpty()) {
+            return getAllProductSummaries();
+        }
+        return productSearchEngine.searchSummariesByDescription(description.trim());
+    }
+
+    /**
+     * 가격 범위로 검색한 상품의 요약 정보를 조회하는 메서드
+     * 
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @return 가격 범위에 해당하는 상품 요약 목록 (가격, ID 순)
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummary> searchProductSummariesByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        validatePriceRange(minPrice, maxPrice);
+
+        if (!productPriceIndex.isReady()) {
+            return productRepository.findSummariesByPriceBetween(minPrice, maxPrice);
+        }
+        long[] ids = productPriceIndex.findIds(minPrice, maxPrice, minPrice, 0L, Integer.MAX_VALUE);
+        return findSummariesByIdInOrder(ids);
+    }
+
+    /**
+     * 상품명 또는 설명으로 검색한 상품의 요약 정보를 관련도 순으로 조회하는 메서드
+     * 
+     * @param keyword 검색할 키워드
+     * @return 관련도 순으로 정렬된 상품 요약 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSummary> searchProductSummaries(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return getAllProductSummaries();
+        }
+        return productSearchEngine.searchSummaries(keyword.trim());
+    }
+
+    /**
+     * 전체 상품의 요약 정보를 (생성 시간, ID) 순서로 한 페이지씩 조회하는 메서드
+     * 
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기
+     * @return 상품 요약 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<ProductSummary> getProductSummaryPage(String cursor, Integer limit) {
+        int pageLimit = resolvePageLimit(limit);
+        ProductCursor after = decodeCreatedAtCursor(cursor);
+        List<ProductSummary> rows = productRepository.findSummaryPageAfter(
+                after.getCreatedAt(), after.getId(), fetchOneMore(pageLimit));
+        return toCreatedAtPage(rows, pageLimit, ProductSummary::getCreatedAt, ProductSummary::getId);
+    }
+
+    /**
+     * 상품명 검색 결과의 요약 정보를 한 페이지씩 조회하는 메서드
+     * 
+     * @param name 검색할 상품명 (부분 문자열)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기
+     * @return 상품 요약 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<ProductSummary> searchProductSummaryPageByName(String name, String cursor, Integer limit) {
+        if (name == null || name.trim().isEmpty()) {
+            return getProductSummaryPage(cursor, limit);
+        }
+        int pageLimit = resolvePageLimit(limit);
+        ProductCursor after = decodeCreatedAtCursor(cursor);
+        List<ProductSummary> rows = productRepository.findSummaryPageByNameContainingAfter(
+                ProductRepository.toContainsPattern(name.trim()), after.getCreatedAt(), after.getId(), fetchOneMore(pageLimit));
+        return toCreatedAtPage(rows, pageLimit, ProductSummary::getCreatedAt, ProductSummary::getId);
+    }
+
+    /**
+     * 설명 검색 결과의 요약 정보를 한 페이지씩 조회하는 메서드
+     * 
+     * @param description 검색할 설명 (부분 문자열)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기
+     * @return 상품 요약 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<ProductSummary> searchProductSummaryPageByDescription(String description,
+                                                                             String cursor, Integer limit) {
+        if (description == null || description.trim().isEmpty()) {
+            return getProductSummaryPage(cursor, limit);
+        }
+        int pageLimit = resolvePageLimit(limit);
+        ProductCursor after = decodeCreatedAtCursor(cursor);
+        List<ProductSummary> rows = productRepository.findSummaryPageByDescriptionContainingAfter(
+                ProductRepository.toContainsPattern(description.trim()), after.getCreatedAt(), after.getId(), fetchOneMore(pageLimit));
+        return toCreatedAtPage(rows, pageLimit, ProductSummary::getCreatedAt, ProductSummary::getId);
+    }
+
+    /**
+     * 가격 범위 검색 결과의 요약 정보를 (가격, ID) 순서로 한 페이지씩 조회하는 메서드
+     * 
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기
+     * @return 상품 요약 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<ProductSummary> searchProductSummaryPageByPriceRange(BigDecimal minPrice, BigDecimal maxPrice,
+                                                                           String cursor, Integer limit) {
+        validatePriceRange(minPrice, maxPrice);
+        int pageLimit = resolvePageLimit(limit);
+        ProductCursor after = decodePriceCursor(cursor, minPrice);
+        List<ProductSummary> rows = productPriceIndex.isReady()
+                ? findSummariesByIdInOrder(productPriceIndex.findIds(
+                        minPrice, maxPrice, after.getPrice(), after.getId(), pageLimit + 1))
+                : productRepository.findSummaryPageByPriceRangeAfter(
+                        minPrice, maxPrice, after.getPrice(), after.getId(), fetchOneMore(pageLimit));
+        return toPage(rows, pageLimit, last -> ProductCursor.ofPrice(last.getPrice(), last.getId()));
+    }
+
+    /**
+     * 키워드 검색 결과의 요약 정보를 한 페이지씩 조회하는 메서드
+     * 
+     * @param keyword 검색할 키워드
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지이면 null)
+     * @param limit 페이지 크기
+     * @return 상품 요약 페이지
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<ProductSummary> searchProductSummaryPage(String keyword, String cursor, Integer limit) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return getProductSummaryPage(cursor, limit);
+        }
+        int pageLimit = resolvePageLimit(limit);
+        ProductCursor after = decodeCreatedAtCursor(cursor);
+        List<ProductSummary> rows = productRepository.findSummaryPageByKeywordAfter(
+                keyword.trim(), after.getCreatedAt(), after.getId(), fetchOneMore(pageLimit));
+        return toCreatedAtPage(rows, pageLimit, ProductSummary::getCreatedAt, ProductSummary::getId);
+    }
+
+    // =====================================================
+    // 스트리밍 조회 메서드
+    // =====================================================
+
+    /**
+     * 상품을 한 건씩 읽어 전달하는 스트리밍 조회 메서드
+     * 
+     * 결과를 List로 모으지 않고 DB 커서에서 읽는 즉시 action에 전달합니다.
+     * 전달이 끝난 엔티티는 영속성 컨텍스트에서 분리(detach)하므로
+     * 결과 건수와 관계없이 힙 사용량이 일정하게 유지됩니다.
+     * 
+     * @param keyword 검색 키워드 (null 또는 빈 문자열이면 전체 상품)
+     * @param action 각 상품을 처리할 콜백 (예: 응답 스트림에 JSON으로 쓰기)
+     */
+    @Transactional(readOnly = true)
+    public void streamProducts(String keyword, Consumer<Product> action) {
+        boolean all = keyword == null || keyword.trim().isEmpty();
+        try (Stream<Product> products = all
+                ? productRepository.streamAll()
+                : productRepository.streamByKeyword(keyword.trim())) {
+            products.forEach(product -> {
+                action.accept(product);
+                entityManager.detach(product);
+            });
+        }
     }
 
     // =====================================================
@@ -240,17 +866,40 @@ public class ProductService {
         if (price == null || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("가격은 0 이상이어야 합니다.");
         }
+        if (productPriceIndex.isReady()) {
+            return productPriceIndex.countAtLeast(price);
+        }
         return productRepository.countProductsByPriceGreaterThanEqual(price);
     }
 
     /**
      * 평균 가격보다 높은 상품들을 조회하는 메서드
      * 
+     * 메모리의 가격 통계로 평균을 구한 뒤 price 인덱스를 사용하는 범위 조회(price > ?)를 실행합니다.
+     * 애플리케이션 시작 직후 통계가 아직 준비되지 않았다면 DB에서 평균을 계산합니다.
+     * 
      * @return 평균 가격보다 높은 상품 목록
      */
     @Transactional(readOnly = true)
     public List<Product> getProductsAboveAveragePrice() {
-        return productRepository.findProductsAboveAveragePrice();
+        if (!productPriceStats.isReady()) {
+            return productRepository.findProductsAboveAveragePrice();
+        }
+        return productPriceStats.getAveragePrice()
+                .map(productRepository::findByPriceGreaterThan)
+                .orElseGet(List::of);
+    }
+
+    /**
+     * 전체 상품의 가격 통계를 조회하는 메서드
+     * 
+     * DB를 조회하지 않고 메모리에 유지되는 값을 반환합니다.
+     * 
+     * @return 가격 통계 (상품 수, 합계, 평균, 최솟값, 최댓값, 마지막 보정 시간)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getPriceStats() {
+        return productPriceStats.getStats();
     }
 
     // =====================================================
@@ -260,33 +909,356 @@ public class ProductService {
     /**
      * 상품 정보의 유효성을 검증하는 메서드
      * 
+     * 규칙은 리액티브 서비스(ReactiveProductService)와 함께 쓰도록 ProductValidator에 있습니다.
+     * 같은 패키지의 JMH 벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private으로 둡니다.
+     * 
      * @param product 검증할 상품 정보
      * @throws IllegalArgumentException 유효하지 않은 데이터인 경우
      */
-    private void validateProduct(Product product) {
-        if (product == null) {
-            throw new IllegalArgumentException("상품 정보가 null입니다.");
+    void validateProduct(Product product) {
+        ProductValidator.validateProduct(product);
+    }
+
+    /**
+     * 검증된 수정 요청을 조건부 UPDATE 문 하나로 적용하고 변경 이벤트를 발행하는 메서드
+     * 
+     * 수정된 행이 없을 때만 원인(상품 없음 / 버전 불일치)을 확인하기 위해 한 번 더 조회합니다.
+     * 상품명 중복은 UPDATE 문의 유일 제약 위반으로 드러납니다.
+     * 
+     * @param id 수정할 상품 ID
+     * @param changes 바꿀 필드와 값 (검증 완료, 하나 이상)
+     * @param expectedVersion 기대하는 버전 (null이면 확인하지 않음)
+     * @return 수정된 상품
+     */
+    private Product applyUpdate(Long id, ProductPatch changes, Long expectedVersion) {
+        Optional<ProductUpdateResult> updated;
+        try {
+            updated = productRepository.updateIfMatches(id, changes, expectedVersion, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e, changes.getName());
         }
+        ProductUpdateResult result = updated.orElseThrow(() -> updateFailure(id, expectedVersion));
         
-        if (product.getName() == null || product.getName().trim().isEmpty()) {
-            throw new IllegalArgumentException("상품명은 필수입니다.");
+        Product savedProduct = result.getProduct();
+        publishChange(ProductChangedEvent.Type.UPDATED, id, result.getOldPrice(), savedProduct.getPrice());
+        return savedProduct;
+    }
+
+    /**
+     * 조건부 수정이 아무 행도 바꾸지 못한 원인에 맞는 예외를 만드는 메서드
+     * 
+     * 버전 확인 없이 수정했다면 행이 없는 이유는 상품이 없는 경우뿐입니다.
+     * 
+     * @param id 수정하려던 상품 ID
+     * @param expectedVersion 기대한 버전 (null이면 확인하지 않음)
+     * @return 상품이 없으면 IllegalArgumentException(404), 그 밖에는 OptimisticLockingFailureException(412)
+     */
+    private RuntimeException updateFailure(Long id, Long expectedVersion) {
+        Optional<Long> currentVersion = productRepository.findVersionById(id);
+        if (currentVersion.isEmpty()) {
+            return new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + id);
         }
-        
-        if (product.getName().trim().length() > 100) {
-            throw new IllegalArgumentException("상품명은 100자를 초과할 수 없습니다.");
+        return new OptimisticLockingFailureException(
+                "다른 요청이 먼저 상품을 수정했습니다. ID: " + id + ", 기대한 버전: " + expectedVersion
+                        + ", 현재 버전: " + currentVersion.get());
+    }
+
+    /**
+     * 저장 중 발생한 무결성 제약 위반을 응답할 예외로 바꾸는 메서드
+     * 
+     * 상품명 유일 제약(uk_products_name) 위반이면 미리 확인하던 때와 같은 상품명 중복 오류(400)로 바꾸고,
+     * 그 밖의 제약 위반은 그대로 던집니다. 어느 경우든 트랜잭션은 롤백됩니다.
+     * 
+     * @param e 발생한 예외
+     * @param name 저장하려던 상품명 (대량 생성처럼 특정할 수 없으면 null)
+     * @return 변환된 예외
+     */
+    private RuntimeException translateIntegrityViolation(DataIntegrityViolationException e, String name) {
+        if (!ProductValidator.isDuplicateName(e)) {
+            return e;
         }
-        
-        if (product.getDescription() != null && product.getDescription().trim().length() > 1000) {
-            throw new IllegalArgumentException("상품 설명은 1000자를 초과할 수 없습니다.");
+        return new IllegalArgumentException(name != null
+                ? "이미 존재하는 상품명입니다: " + name
+                : "이미 존재하는 상품명이 포함되어 있습니다.");
+    }
+
+    /**
+     * 대량 처리 요청의 항목 수를 검증하는 메서드
+     * 
+     * @param items 요청 항목 목록
+     * @param action 오류 메시지에 사용할 작업 이름 (예: "수정")
+     * @throws IllegalArgumentException 목록이 비어 있거나 최대 개수를 초과한 경우
+     */
+    private void validateBulkSize(List<?> items, String action) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException(action + "할 상품 목록이 비어 있습니다.");
         }
-        
-        if (product.getPrice() == null) {
-            throw new IllegalArgumentException("가격은 필수입니다.");
+        if (items.size() > maxBulkItems) {
+            throw new IllegalArgumentException("한 번에 " + action + "할 수 있는 상품은 최대 " + maxBulkItems + "개입니다.");
         }
-        
-        if (product.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("가격은 0보다 커야 합니다.");
+    }
+
+    /**
+     * 대량 수정 항목의 유효성을 검증하는 메서드
+     * 
+     * validateProduct와 같은 규칙을 값이 있는 필드에만 적용합니다.
+     * 
+     * @param item 검증할 항목
+     * @throws IllegalArgumentException 유효하지 않은 데이터인 경우
+     */
+    private void validateBulkUpdateItem(BulkUpdateItem item) {
+        if (item == null || item.getId() == null) {
+            throw new IllegalArgumentException("상품 ID는 필수입니다.");
+        }
+        if (item.getPrice() == null && item.getDescription() == null) {
+            throw new IllegalArgumentException("수정할 가격 또는 설명이 없습니다. ID: " + item.getId());
+        }
+        if (item.getDescription() != null && item.getDescription().trim().length() > 1000) {
+            throw new IllegalArgumentException("상품 설명은 1000자를 초과할 수 없습니다. ID: " + item.getId());
+        }
+        if (item.getPrice() != null && item.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("가격은 0보다 커야 합니다. ID: " + item.getId());
+        }
+    }
+
+    /**
+     * 대량 수정/삭제 결과를 응답 객체로 변환하는 메서드
+     * 
+     * @param requestedIds 요청한 상품 ID (요청 순서 유지)
+     * @param changes 실제로 처리된 상품 목록
+     * @return 대량 처리 응답
+     */
+    private BulkChangeResponse toBulkChangeResponse(Set<Long> requestedIds, List<ProductPriceChange> changes) {
+        Set<Long> affected = new HashSet<>();
+        for (ProductPriceChange change : changes) {
+            affected.add(change.getId());
+        }
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            if (!affected.contains(id)) {
+                missingIds.add(id);
+            }
+        }
+        return new BulkChangeResponse(requestedIds.size(), changes.size(), missingIds);
+    }
+
+    /**
+     * 가격 범위 검색 조건의 유효성을 검증하는 메서드
+     * 
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @throws IllegalArgumentException 유효하지 않은 범위인 경우
+     */
+    private void validatePriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        ProductValidator.validatePriceRange(minPrice, maxPrice);
+    }
+
+    /**
+     * 요청된 페이지 크기를 허용 범위로 보정하는 메서드
+     * 
+     * @param limit 요청된 페이지 크기 (null 허용)
+     * @return 실제로 사용할 페이지 크기
+     * @throws IllegalArgumentException limit이 1보다 작은 경우
+     */
+    private int resolvePageLimit(Integer limit) {
+        if (limit == null) {
+            return defaultPageLimit;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, maxPageLimit);
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 limit보다 한 건 더 조회하는 Pageable을 만듭니다.
+     */
+    private Pageable fetchOneMore(int pageLimit) {
+        return PageRequest.of(0, pageLimit + 1);
+    }
+
+    /**
+     * (created_at, id) 정렬 커서를 해석하는 메서드 (커서가 없으면 첫 페이지 커서)
+     */
+    private ProductCursor decodeCreatedAtCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ProductCursor.ofCreatedAt(FIRST_PAGE_CREATED_AT, 0L);
+        }
+        return ProductCursor.decode(cursor, ProductCursor.SortKey.CREATED_AT);
+    }
+
+    /**
+     * (price, id) 정렬 커서를 해석하는 메서드
+     * 
+     * 첫 페이지는 (최소 가격, 0)을 커서로 사용하여 범위의 처음부터 조회합니다.
+     */
+    private ProductCursor decodePriceCursor(String cursor, BigDecimal minPrice) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ProductCursor.ofPrice(minPrice, 0L);
+        }
+        return ProductCursor.decode(cursor, ProductCursor.SortKey.PRICE);
+    }
+
+    /**
+     * limit + 1개로 조회한 결과를 (created_at, id) 정렬 기준 페이지로 변환하는 메서드
+     */
+    private <T> ProductPage<T> toCreatedAtPage(List<T> rows, int pageLimit,
+                                               Function<T, LocalDateTime> createdAtOf, Function<T, Long> idOf) {
+        return toPage(rows, pageLimit, last -> ProductCursor.ofCreatedAt(createdAtOf.apply(last), idOf.apply(last)));
+    }
+
+    /**
+     * limit + 1개로 조회한 결과를 페이지로 변환하는 메서드
+     * 
+     * @param rows limit + 1개까지 조회한 결과
+     * @param pageLimit 페이지 크기
+     * @param cursorOf 페이지의 마지막 항목으로 다음 페이지 커서를 만드는 함수
+     * @return 페이지 (limit개를 넘는 행이 있으면 nextCursor 포함)
+     */
+    private <T> ProductPage<T> toPage(List<T> rows, int pageLimit, Function<T, ProductCursor> cursorOf) {
+        boolean hasNext = rows.size() > pageLimit;
+        List<T> items = hasNext ? rows.subList(0, pageLimit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = cursorOf.apply(items.get(items.size() - 1)).encode();
         }
+        return new ProductPage<>(items, nextCursor);
+    }
+
+    /**
+     * 상품 ID 목록의 순서대로 상품을 조회하는 메서드
+     * 
+     * findAllById는 결과 순서를 보장하지 않으므로 요청한 ID 순서로 다시 정렬합니다.
+     * IN 절이 지나치게 커지지 않도록 IN_CLAUSE_CHUNK_SIZE 단위로 나누어 조회하며,
+     * 인덱스에서 ID를 찾은 뒤 삭제된 상품은 결과에서 빠집니다.
+     * 
+     * @param ids 상품 ID 목록
+     * @return ID 순서대로 정렬된 상품 목록
+     */
+    private List<Product> findAllByIdInOrder(long[] ids) {
+        return findByIdInOrder(ids, productRepository::findAllById, Product::getId);
+    }
+
+    /**
+     * 상품 ID 목록의 순서대로 상품 요약 정보를 조회하는 메서드 (findAllByIdInOrder 참고)
+     */
+    private List<ProductSummary> findSummariesByIdInOrder(long[] ids) {
+        return findByIdInOrder(ids, productRepository::findSummariesByIdIn, ProductSummary::getId);
+    }
+
+    /**
+     * ID 목록을 IN_CLAUSE_CHUNK_SIZE 단위로 나누어 finder로 조회하고 요청한 ID 순서로 정렬하는 메서드
+     */
+    private <T> List<T> findByIdInOrder(long[] ids, Function<List<Long>, List<T>> finder, Function<T, Long> idOf) {
+        List<Long> idList = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            idList.add(id);
+        }
+        Map<Long, T> byId = new HashMap<>();
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size());
+            for (T item : finder.apply(idList.subList(from, to))) {
+                byId.put(idOf.apply(item), item);
+            }
+        }
+        List<T> ordered = new ArrayList<>(ids.length);
+        for (Long id : idList) {
+            T item = byId.get(id);
+            if (item != null) {
+                ordered.add(item);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 대량 생성 중인 상품 묶음을 저장하고 결과를 기록하는 메서드
+     * 
+     * saveAll 후 flush 하여 묶음 전체를 JDBC 배치 INSERT로 실행하고,
+     * 영속성 컨텍스트를 비워 요청 크기와 관계없이 메모리 사용량을 일정하게 유지합니다.
+     * 
+     * @param chunk 저장할 상품들의 요청 위치 (저장 후 비워짐)
+     * @param products 전체 요청 목록
+     * @param results 항목별 처리 결과
+     * @param created 생성된 상품 목록
+     */
+    private void saveChunk(List<Integer> chunk, List<Product> products,
+                           BulkItemResult[] results, List<Product> created) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Product> batch = new ArrayList<>(chunk.size());
+        for (int index : chunk) {
+            batch.add(products.get(index));
+        }
+        try {
+            productRepository.saveAll(batch);
+            productRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e, null);
+        }
+        for (int index : chunk) {
+            Product product = products.get(index);
+            results[index] = BulkItemResult.created(index, product.getId());
+            created.add(product);
+        }
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    /**
+     * 주어진 상품명 중 이미 사용 중인 상품명들을 조회하는 메서드
+     * 
+     * IN 절의 파라미터 수가 지나치게 커지지 않도록 IN_CLAUSE_CHUNK_SIZE 단위로 나누어 조회합니다.
+     * 
+     * @param names 확인할 상품명 목록
+     * @return 이미 존재하는 상품명 집합
+     */
+    private Set<String> findExistingNames(Collection<String> names) {
+        Set<String> existing = new HashSet<>();
+        List<String> all = new ArrayList<>(names);
+        for (int from = 0; from < all.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, all.size());
+            existing.addAll(productRepository.findExistingNames(all.subList(from, to)));
+        }
+        return existing;
+    }
+
+    /**
+     * 상품명이 이미 사용 중인지 확인하는 메서드
+     * 
+     * 자연 키 조회(findByNaturalName)를 사용하므로 상품명 → ID 매핑과 엔티티가
+     * Hibernate 2차 캐시에 있으면 DB를 조회하지 않고 답할 수 있습니다.
+     * 
+     * @param name 확인할 상품명 (정확히 일치)
+     * @return 사용 중이면 true
+     */
+    private boolean existsByName(String name) {
+        return productRepository.findByNaturalName(name).isPresent();
+    }
+
+    /**
+     * 상품 변경 이벤트를 발행하는 메서드
+     * 
+     * 리스너는 트랜잭션 커밋 이후에 이벤트를 처리합니다.
+     * 
+     * @param type 변경 유형
+     * @param id 변경된 상품의 ID
+     * @param oldPrice 변경 전 가격 (생성이면 null)
+     * @param newPrice 변경 후 가격 (삭제면 null)
+     */
+    private void publishChange(ProductChangedEvent.Type type, Long id, BigDecimal oldPrice, BigDecimal newPrice) {
+        eventPublisher.publishEvent(new ProductChangedEvent(type, id, oldPrice, newPrice));
+    }
+
+    /**
+     * 단건 상품 캐시의 통계를 조회하는 메서드
+     * 
+     * @return 캐시 적중/미스/제거 통계
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<String, Object> getProductCacheStats() {
+        return productCache.getStats();
     }
 
     /**
@@ -311,6 +1283,6 @@ public class ProductService {
         if (name == null || name.trim().isEmpty()) {
             return false;
         }
-        return productRepository.existsByName(name.trim());
+        return existsByName(name.trim());
     }
 }
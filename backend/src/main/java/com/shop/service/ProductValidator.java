@@ -0,0 +1,123 @@
+package com.shop.service;
+
+import com.shop.dto.ProductPatch;
+import com.shop.entity.Product;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * 상품 입력값 검증 규칙을 모아 둔 클래스
+ *
+ * 서블릿 스택(ProductService)과 리액티브 스택(ReactiveProductService)이
+ * 같은 규칙과 같은 오류 메시지를 사용하도록 한 곳에 둡니다.
+ * 규칙을 위반하면 IllegalArgumentException을 던지며, 컨트롤러/핸들러는 이를 400 응답으로 변환합니다.
+ */
+final class ProductValidator {
+
+    private ProductValidator() {
+    }
+
+    /**
+     * 상품 정보의 유효성을 검증하는 메서드
+     *
+     * @param product 검증할 상품 정보
+     * @throws IllegalArgumentException 유효하지 않은 데이터인 경우
+     */
+    static void validateProduct(Product product) {
+        if (product == null) {
+            throw new IllegalArgumentException("상품 정보가 null입니다.");
+        }
+
+        validateName(product.getName());
+        validateDescription(product.getDescription());
+        validatePrice(product.getPrice());
+    }
+
+    /**
+     * 부분 수정 요청에서 바꾸려는 필드만 검증하는 메서드
+     *
+     * 각 필드에는 validateProduct와 같은 규칙을 적용합니다.
+     *
+     * @param patch 검증할 수정 요청
+     * @throws IllegalArgumentException 유효하지 않은 데이터인 경우
+     */
+    static void validatePatch(ProductPatch patch) {
+        if (patch.hasName()) {
+            validateName(patch.getName());
+        }
+        if (patch.hasDescription()) {
+            validateDescription(patch.getDescription());
+        }
+        if (patch.hasPrice()) {
+            validatePrice(patch.getPrice());
+        }
+    }
+
+    private static void validateName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("상품명은 필수입니다.");
+        }
+
+        if (name.trim().length() > 100) {
+            throw new IllegalArgumentException("상품명은 100자를 초과할 수 없습니다.");
+        }
+    }
+
+    private static void validateDescription(String description) {
+        if (description != null && description.trim().length() > 1000) {
+            throw new IllegalArgumentException("상품 설명은 1000자를 초과할 수 없습니다.");
+        }
+    }
+
+    private static void validatePrice(BigDecimal price) {
+        if (price == null) {
+            throw new IllegalArgumentException("가격은 필수입니다.");
+        }
+
+        if (price.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("가격은 0보다 커야 합니다.");
+        }
+    }
+
+    /**
+     * 가격 범위 검색 조건의 유효성을 검증하는 메서드
+     *
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @throws IllegalArgumentException 유효하지 않은 범위인 경우
+     */
+    static void validatePriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice == null || maxPrice == null) {
+            throw new IllegalArgumentException("최소 가격과 최대 가격을 모두 입력해주세요.");
+        }
+
+        if (minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 작아야 합니다.");
+        }
+
+        if (minPrice.compareTo(BigDecimal.ZERO) < 0 || maxPrice.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("가격은 0 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 무결성 제약 위반이 상품명 유일 제약(uk_products_name) 때문인지 확인하는 메서드
+     *
+     * 드라이버마다 예외 구조가 다르므로 원인 예외의 메시지에 제약 이름이 있는지 확인합니다.
+     * (PostgreSQL: duplicate key value violates unique constraint "uk_products_name", H2: 제약 이름으로 만든 인덱스 이름)
+     *
+     * @param e 저장 중 발생한 예외
+     * @return 상품명 중복 때문이면 true
+     */
+    static boolean isDuplicateName(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(Product.NAME_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,409 @@
+package com.shop.service;
+
+import com.shop.dto.BulkCreateResponse;
+import com.shop.dto.BulkItemResult;
+import com.shop.entity.Product;
+import com.shop.event.ProductChangedEvent;
+import com.shop.repository.ProductRepository;
+import com.shop.repository.ReactiveProductRepository;
+import com.shop.stats.ProductPriceIndex;
+import com.shop.stats.ProductPriceStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 비즈니스 로직의 리액티브(WebFlux + R2DBC) 버전
+ *
+ * reactive 프로필에서만 등록되며, ProductService와 같은 검증 규칙(ProductValidator)과
+ * 같은 오류 메시지를 사용합니다. 모든 메서드는 블로킹 없이 Mono/Flux를 반환하고,
+ * 여러 건을 반환하는 조회는 DB 커서에서 읽는 대로 흘려보냅니다.
+ *
+ * 쓰기 작업은 TransactionalOperator(R2DBC 트랜잭션)로 묶고, 커밋이 끝난 뒤
+ * ProductChangedEvent를 발행하여 가격 통계/가격 인덱스/캐시/검색 인덱스가
+ * 서블릿 스택과 똑같이 갱신되도록 합니다.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveProductService {
+
+    // =====================================================
+    // 의존성 주입
+    // =====================================================
+
+    private final ReactiveProductRepository reactiveProductRepository;
+
+    /**
+     * R2DBC 트랜잭션으로 쓰기 작업을 묶는 연산자
+     */
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * 메모리에 유지되는 가격 통계 (평균/합계/최솟값/최댓값)
+     */
+    private final ProductPriceStats productPriceStats;
+
+    /**
+     * 메모리에 유지되는 (가격, ID) 정렬 인덱스
+     */
+    private final ProductPriceIndex productPriceIndex;
+
+    /**
+     * 상품 변경 이벤트 발행기
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 키워드 검색이 반환하는 최대 결과 수
+     */
+    @Value("${shop.search.max-results:1000}")
+    private int maxSearchResults;
+
+    /**
+     * 상품명/설명 부분 문자열 검색이 반환하는 최대 결과 수 (JpaProductSearchEngine과 같은 설정)
+     */
+    @Value("${shop.search.max-substring-results:10000}")
+    private int maxSubstringResults;
+
+    /**
+     * 한 번의 대량 요청으로 처리할 수 있는 최대 상품 수
+     */
+    @Value("${shop.bulk.max-items:10000}")
+    private int maxBulkItems;
+
+    /**
+     * 생성자를 통한 의존성 주입
+     *
+     * @param reactiveProductRepository R2DBC 상품 리포지토리
+     * @param transactionalOperator R2DBC 트랜잭션 연산자
+     * @param productPriceStats 가격 통계
+     * @param productPriceIndex 가격 인덱스
+     * @param eventPublisher 이벤트 발행기
+     */
+    @Autowired
+    public ReactiveProductService(ReactiveProductRepository reactiveProductRepository,
+                                  TransactionalOperator transactionalOperator,
+                                  ProductPriceStats productPriceStats,
+                                  ProductPriceIndex productPriceIndex,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.reactiveProductRepository = reactiveProductRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.productPriceStats = productPriceStats;
+        this.productPriceIndex = productPriceIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // =====================================================
+    // 기본 CRUD 작업
+    // =====================================================
+
+    /**
+     * 새로운 상품을 생성하는 메서드
+     *
+     * 상품명 중복은 미리 조회하지 않고 INSERT 시 유일 제약(uk_products_name)으로 확인합니다.
+     *
+     * @param product 생성할 상품 정보
+     * @return 저장된 상품 정보 (ID가 할당됨)
+     */
+    public Mono<Product> createProduct(Product product) {
+        return Mono.fromRunnable(() -> ProductValidator.validateProduct(product))
+                .then(Mono.defer(() -> reactiveProductRepository.insert(product, LocalDateTime.now())))
+                .onErrorMap(DataIntegrityViolationException.class, e -> translateIntegrityViolation(e, product.getName()))
+                .as(transactionalOperator::transactional)
+                .flatMap(saved -> publishChange(ProductChangedEvent.Type.CREATED, saved.getId(), null, saved.getPrice())
+                        .thenReturn(saved));
+    }
+
+    /**
+     * 여러 상품을 한 번에 생성하는 메서드
+     *
+     * ProductService.createProducts와 같은 규칙으로 항목별 결과를 만들며,
+     * 통과한 상품은 INSERT 문 하나로 저장합니다.
+     *
+     * @param products 생성할 상품 목록
+     * @return 요청 순서대로의 항목별 처리 결과
+     */
+    public Mono<BulkCreateResponse> createProducts(List<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("생성할 상품 목록이 비어 있습니다."));
+        }
+        if (products.size() > maxBulkItems) {
+            return Mono.error(new IllegalArgumentException("한 번에 생성할 수 있는 상품은 최대 " + maxBulkItems + "개입니다."));
+        }
+
+        BulkItemResult[] results = new BulkItemResult[products.size()];
+
+        // 1. 항목별 입력 검증 및 요청 안에서의 상품명 중복 확인 (상품명 → 요청 위치)
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            try {
+                ProductValidator.validateProduct(product);
+            } catch (IllegalArgumentException e) {
+                results[i] = BulkItemResult.rejected(i, e.getMessage());
+                continue;
+            }
+            if (candidates.putIfAbsent(product.getName(), i) != null) {
+                results[i] = BulkItemResult.rejected(i, "요청 안에 중복된 상품명입니다: " + product.getName());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Mono.just(new BulkCreateResponse(Arrays.asList(results)));
+        }
+
+        // 2. 이미 존재하는 상품명 확인 → 3. 나머지를 한 번에 INSERT
+        Mono<List<Product>> created = reactiveProductRepository.findExistingNames(candidates.keySet())
+                .collectList()
+                .flatMapMany(existingNames -> {
+                    for (String name : existingNames) {
+                        int index = candidates.remove(name);
+                        results[index] = BulkItemResult.rejected(index, "이미 존재하는 상품명입니다: " + name);
+                    }
+                    if (candidates.isEmpty()) {
+                        return Flux.<Product>empty();
+                    }
+                    List<Product> accepted = new ArrayList<>(candidates.size());
+                    for (int index : candidates.values()) {
+                        accepted.add(products.get(index));
+                    }
+                    return reactiveProductRepository.insertAll(accepted, LocalDateTime.now());
+                })
+                .onErrorMap(DataIntegrityViolationException.class, e -> translateIntegrityViolation(e, null))
+                .collectList()
+                .as(transactionalOperator::transactional);
+
+        return created.flatMap(saved -> {
+            for (Product product : saved) {
+                int index = candidates.get(product.getName());
+                results[index] = BulkItemResult.created(index, product.getId());
+            }
+            return publishCreated(saved)
+                    .then(Mono.fromSupplier(() -> new BulkCreateResponse(Arrays.asList(results))));
+        });
+    }
+
+    /**
+     * 모든 상품을 조회하는 메서드
+     *
+     * @return ID 순으로 흘려보내는 전체 상품
+     */
+    public Flux<Product> getAllProducts() {
+        return reactiveProductRepository.findAll();
+    }
+
+    /**
+     * ID로 특정 상품을 조회하는 메서드
+     *
+     * @param id 조회할 상품의 ID
+     * @return 상품 정보 (없으면 빈 Mono)
+     */
+    public Mono<Product> getProductById(Long id) {
+        return reactiveProductRepository.findById(id);
+    }
+
+    /**
+     * 상품 정보를 수정하는 메서드
+     *
+     * @param id 수정할 상품의 ID
+     * @param updatedProduct 수정된 상품 정보
+     * @return 수정된 상품 정보
+     */
+    public Mono<Product> updateProduct(Long id, Product updatedProduct) {
+        return Mono.fromRunnable(() -> ProductValidator.validateProduct(updatedProduct))
+                .then(Mono.defer(() -> reactiveProductRepository.update(id, updatedProduct, LocalDateTime.now())))
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + id)))
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> translateIntegrityViolation(e, updatedProduct.getName()))
+                .as(transactionalOperator::transactional)
+                .flatMap(result -> publishChange(ProductChangedEvent.Type.UPDATED, id,
+                        result.getOldPrice(), result.getProduct().getPrice())
+                        .thenReturn(result.getProduct()));
+    }
+
+    /**
+     * 상품을 삭제하는 메서드
+     *
+     * @param id 삭제할 상품의 ID
+     * @return 완료 신호 (상품이 없으면 IllegalArgumentException)
+     */
+    public Mono<Void> deleteProduct(Long id) {
+        return reactiveProductRepository.deleteById(id)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + id)))
+                .as(transactionalOperator::transactional)
+                .flatMap(oldPrice -> publishChange(ProductChangedEvent.Type.DELETED, id, oldPrice, null));
+    }
+
+    // =====================================================
+    // 검색 및 필터링
+    // =====================================================
+
+    public Flux<Product> searchProductsByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return getAllProducts();
+        }
+        return reactiveProductRepository.searchByNameLike(ProductRepository.toContainsPattern(name.trim()),
+                maxSubstringResults);
+    }
+
+    public Flux<Product> searchProductsByDescription(String description) {
+        if (description == null || description.trim().isEmpty()) {
+            return getAllProducts();
+        }
+        return reactiveProductRepository.searchByDescriptionLike(
+                ProductRepository.toContainsPattern(description.trim()), maxSubstringResults);
+    }
+
+    public Flux<Product> searchProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        return Mono.fromRunnable(() -> ProductValidator.validatePriceRange(minPrice, maxPrice))
+                .thenMany(Flux.defer(() -> reactiveProductRepository.findByPriceBetween(minPrice, maxPrice)));
+    }
+
+    /**
+     * 상품명 또는 설명으로 상품을 검색하는 메서드
+     *
+     * 검색 엔진 설정(shop.search.engine)과 관계없이 PostgreSQL 전문 검색을 사용합니다.
+     *
+     * @param keyword 검색할 키워드 (없으면 전체 상품)
+     * @param limit 최대 결과 수 (null이면 shop.search.max-results, 그보다 크면 그 값으로 제한)
+     * @return 관련도 순 검색 결과
+     */
+    public Flux<Product> searchProducts(String keyword, Integer limit) {
+        if (limit != null && limit < 1) {
+            return Flux.error(new IllegalArgumentException("limit은 1 이상이어야 합니다."));
+        }
+        int maxResults = limit == null ? maxSearchResults : Math.min(limit, maxSearchResults);
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return limit == null ? getAllProducts() : getAllProducts().take(maxResults);
+        }
+        return reactiveProductRepository.searchByFullText(keyword.trim(), maxResults);
+    }
+
+    // =====================================================
+    // 통계 및 분석
+    // =====================================================
+
+    public Mono<Long> getTotalProductCount() {
+        return reactiveProductRepository.count();
+    }
+
+    /**
+     * 특정 가격 이상의 상품 개수를 조회하는 메서드
+     *
+     * 가격 인덱스가 준비되어 있으면 DB를 조회하지 않습니다.
+     *
+     * @param price 기준 가격
+     * @return 기준 가격 이상의 상품 개수
+     */
+    public Mono<Long> getProductCountByPriceGreaterThanEqual(BigDecimal price) {
+        if (price == null || price.compareTo(BigDecimal.ZERO) < 0) {
+            return Mono.error(new IllegalArgumentException("가격은 0 이상이어야 합니다."));
+        }
+        if (productPriceIndex.isReady()) {
+            return Mono.fromSupplier(() -> productPriceIndex.countAtLeast(price));
+        }
+        return reactiveProductRepository.countByPriceGreaterThanEqual(price);
+    }
+
+    /**
+     * 평균 가격보다 높은 상품들을 조회하는 메서드
+     *
+     * @return 평균 가격보다 높은 상품
+     */
+    public Flux<Product> getProductsAboveAveragePrice() {
+        if (!productPriceStats.isReady()) {
+            return reactiveProductRepository.findProductsAboveAveragePrice();
+        }
+        return Mono.justOrEmpty(productPriceStats.getAveragePrice())
+                .flatMapMany(reactiveProductRepository::findByPriceGreaterThan);
+    }
+
+    public Mono<Map<String, Object>> getPriceStats() {
+        return Mono.fromSupplier(productPriceStats::getStats);
+    }
+
+    // =====================================================
+    // 상태 확인
+    // =====================================================
+
+    public Mono<Boolean> productExists(Long id) {
+        return reactiveProductRepository.existsById(id);
+    }
+
+    public Mono<Boolean> productExistsByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return Mono.just(false);
+        }
+        return reactiveProductRepository.existsByName(name.trim());
+    }
+
+    // =====================================================
+    // 유틸리티 메서드
+    // =====================================================
+
+    /**
+     * 저장 중 발생한 무결성 제약 위반을 응답할 예외로 바꾸는 메서드
+     *
+     * ProductService와 같이 상품명 유일 제약(uk_products_name) 위반이면 상품명 중복 오류(400)로 바꾸고,
+     * 그 밖의 제약 위반은 그대로 전달합니다.
+     *
+     * @param e 발생한 예외
+     * @param name 저장하려던 상품명 (대량 생성처럼 특정할 수 없으면 null)
+     * @return 변환된 예외
+     */
+    private static Throwable translateIntegrityViolation(DataIntegrityViolationException e, String name) {
+        if (!ProductValidator.isDuplicateName(e)) {
+            return e;
+        }
+        return new IllegalArgumentException(name != null
+                ? "이미 존재하는 상품명입니다: " + name
+                : "이미 존재하는 상품명이 포함되어 있습니다.");
+    }
+
+    /**
+     * 상품 변경 이벤트를 발행하는 메서드
+     *
+     * 트랜잭션이 커밋된 뒤에 호출되며, 리스너 중 일부(Lucene 재색인 등)는 블로킹 작업을 하므로
+     * 이벤트 루프 대신 boundedElastic 스케줄러에서 발행합니다.
+     *
+     * @param type 변경 유형
+     * @param id 변경된 상품의 ID
+     * @param oldPrice 변경 전 가격 (생성이면 null)
+     * @param newPrice 변경 후 가격 (삭제면 null)
+     * @return 발행 완료 신호
+     */
+    private Mono<Void> publishChange(ProductChangedEvent.Type type, Long id, BigDecimal oldPrice, BigDecimal newPrice) {
+        return Mono.<Void>fromRunnable(() -> eventPublisher.publishEvent(new ProductChangedEvent(type, id, oldPrice, newPrice)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 대량 생성된 상품들의 생성 이벤트를 한 번의 스케줄링으로 발행하는 메서드
+     *
+     * @param created 생성된 상품 목록
+     * @return 발행 완료 신호
+     */
+    private Mono<Void> publishCreated(List<Product> created) {
+        return Mono.<Void>fromRunnable(() -> {
+                    for (Product product : created) {
+                        eventPublisher.publishEvent(new ProductChangedEvent(
+                                ProductChangedEvent.Type.CREATED, product.getId(), null, product.getPrice()));
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,43 @@
+package com.shop.sql;
+
+/**
+ * 요청 하나에서 실행된 SQL 통계
+ *
+ * 요청을 처리하는 스레드에서만 갱신되므로 동기화하지 않습니다.
+ */
+public class RequestSqlStats {
+
+    private int statementCount;
+    private long totalNanos;
+    private String slowestSql;
+    private long slowestNanos;
+
+    void add(String sql, long nanos) {
+        statementCount++;
+        totalNanos += nanos;
+        if (nanos > slowestNanos) {
+            slowestNanos = nanos;
+            slowestSql = sql;
+        }
+    }
+
+    // =====================================================
+    // Getter 메서드
+    // =====================================================
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public String getSlowestSql() {
+        return slowestSql;
+    }
+
+    public long getSlowestNanos() {
+        return slowestNanos;
+    }
+}
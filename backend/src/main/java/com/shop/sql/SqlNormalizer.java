@@ -0,0 +1,39 @@
+package com.shop.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문을 집계용으로 정규화하는 클래스
+ *
+ * 값만 다른 SQL이 같은 항목으로 집계되도록 다음을 바꿉니다.
+ * - 주석 제거, 연속된 공백을 하나로
+ * - 문자열 / 숫자 리터럴 → ?
+ * - IN (?, ?, ...) 처럼 길이가 다른 목록 → IN (?...)
+ */
+final class SqlNormalizer {
+
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * 집계 키의 최대 길이 (긴 SQL은 잘라서 보관)
+     */
+    private static final int MAX_LENGTH = 2000;
+
+    private SqlNormalizer() {
+    }
+
+    static String normalize(String sql) {
+        String normalized = BLOCK_COMMENT.matcher(sql).replaceAll(" ");
+        normalized = LINE_COMMENT.matcher(normalized).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) + "..." : normalized;
+    }
+}
@@ -0,0 +1,37 @@
+package com.shop.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+/**
+ * 정규화된 SQL별 실행 통계를 보여주는 Actuator 엔드포인트
+ *
+ * GET    /actuator/sqlstats?limit=20&sortBy=max : 상위 N개 SQL (기본: 최대 실행 시간 순 20개)
+ * DELETE /actuator/sqlstats                     : 누적 통계 초기화
+ */
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlStatsRecorder recorder;
+
+    public SqlStatsEndpoint(SqlStatsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> top(@Nullable Integer limit, @Nullable String sortBy) {
+        int size = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+        return recorder.top(size, sortBy != null ? sortBy : "max");
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+}
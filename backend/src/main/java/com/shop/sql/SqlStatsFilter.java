@@ -0,0 +1,76 @@
+package com.shop.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 통계를 수집하는 서블릿 필터
+ *
+ * 요청마다 실행된 SQL 수와 총 DB 시간을 메트릭으로 기록합니다 (uri, method 태그).
+ * - shop.sql.request.statements: 요청당 SQL 수
+ * - shop.sql.request.time: 요청당 총 DB 시간
+ * com.shop.sql.requests 로거를 DEBUG로 설정하면 요청마다 가장 느린 SQL을 함께 출력합니다.
+ */
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger requestLog = LoggerFactory.getLogger("com.shop.sql.requests");
+
+    private final SqlStatsRecorder recorder;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatsFilter(SqlStatsRecorder recorder, MeterRegistry meterRegistry) {
+        this.recorder = recorder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        recorder.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats stats = recorder.endRequest();
+            if (stats != null && stats.getStatementCount() > 0) {
+                report(request, stats);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestSqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("shop.sql.request.statements")
+                .description("요청당 실행된 SQL 수")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("shop.sql.request.time")
+                .description("요청당 총 DB 시간")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getTotalNanos(), TimeUnit.NANOSECONDS);
+
+        if (requestLog.isDebugEnabled()) {
+            requestLog.debug("{} {} - SQL {}건, DB {}ms, 가장 느린 SQL {}ms: {}",
+                    method, uri, stats.getStatementCount(),
+                    String.format("%.1f", stats.getTotalNanos() / 1e6),
+                    String.format("%.1f", stats.getSlowestNanos() / 1e6),
+                    stats.getSlowestSql());
+        }
+    }
+}
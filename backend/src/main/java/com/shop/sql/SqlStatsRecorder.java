@@ -0,0 +1,221 @@
+package com.shop.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 실행 통계를 모으는 클래스
+ *
+ * SqlStatsDataSource가 SQL을 실행할 때마다 record를 호출하며, 다음을 기록합니다.
+ * - 정규화된 SQL별 누적 통계 (실행 횟수, 총/최대 실행 시간, 느린 실행 횟수): /actuator/sqlstats 에서 조회
+ * - 요청별 통계 (SQL 수, 총 DB 시간, 가장 느린 SQL): SqlStatsFilter가 요청 시작/종료 시 관리
+ * - 기준 시간(slow-threshold)을 넘은 SQL: com.shop.sql.slow 로거로 표본 추출하여 기록
+ *   (logback-spring.xml에서 비동기 appender로 별도 파일에 기록)
+ *
+ * 요청별 통계는 요청 스레드의 ThreadLocal에 쌓이므로,
+ * 스트리밍 응답처럼 다른 스레드에서 실행된 SQL은 누적 통계에만 반영됩니다.
+ */
+public class SqlStatsRecorder {
+
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("com.shop.sql.slow");
+
+    private final long slowThresholdNanos;
+    private final double slowLogSampleRate;
+    private final int maxDistinctQueries;
+
+    /**
+     * 정규화된 SQL → 누적 통계
+     */
+    private final Map<String, QueryStats> queries = new ConcurrentHashMap<>();
+
+    /**
+     * 원본 SQL → 정규화된 SQL (같은 SQL 문을 매번 정규화하지 않도록 보관)
+     */
+    private final Map<String, String> normalizedCache = new ConcurrentHashMap<>();
+
+    /**
+     * 종류 수 제한(max-distinct-queries)을 넘어 집계하지 못한 실행 횟수
+     */
+    private final LongAdder untracked = new LongAdder();
+
+    private final ThreadLocal<RequestSqlStats> currentRequest = new ThreadLocal<>();
+
+    /**
+     * @param slowThreshold 느린 SQL로 기록할 기준 시간
+     * @param slowLogSampleRate 느린 SQL 중 로그로 남길 비율 (0.0 ~ 1.0)
+     * @param maxDistinctQueries 누적 통계를 보관할 정규화된 SQL의 최대 종류 수
+     */
+    public SqlStatsRecorder(Duration slowThreshold, double slowLogSampleRate, int maxDistinctQueries) {
+        if (slowLogSampleRate < 0.0 || slowLogSampleRate > 1.0) {
+            throw new IllegalArgumentException("slow-log-sample-rate는 0.0 이상 1.0 이하여야 합니다: " + slowLogSampleRate);
+        }
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogSampleRate = slowLogSampleRate;
+        this.maxDistinctQueries = maxDistinctQueries;
+    }
+
+    // =====================================================
+    // 기록
+    // =====================================================
+
+    /**
+     * SQL 실행 한 건을 기록합니다.
+     *
+     * @param sql 실행한 SQL (PreparedStatement이면 ? 가 포함된 원본)
+     * @param nanos 실행 시간 (나노초)
+     * @param failed 예외로 끝났는지 여부
+     */
+    public void record(String sql, long nanos, boolean failed) {
+        RequestSqlStats request = currentRequest.get();
+        if (request != null) {
+            request.add(sql, nanos);
+        }
+
+        boolean slow = nanos >= slowThresholdNanos;
+        QueryStats stats = statsFor(normalize(sql));
+        if (stats != null) {
+            stats.record(nanos, slow);
+        } else {
+            untracked.increment();
+        }
+
+        if (slow && (slowLogSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < slowLogSampleRate)) {
+            slowQueryLog.warn("{}ms{} {}", String.format("%.1f", nanos / 1e6), failed ? " (failed)" : "", sql);
+        }
+    }
+
+    /**
+     * 현재 스레드에서 요청별 통계 수집을 시작합니다.
+     */
+    public void beginRequest() {
+        currentRequest.set(new RequestSqlStats());
+    }
+
+    /**
+     * 현재 스레드의 요청별 통계 수집을 끝내고 결과를 반환합니다.
+     *
+     * @return 요청에서 실행된 SQL 통계 (beginRequest를 호출하지 않았으면 null)
+     */
+    public RequestSqlStats endRequest() {
+        RequestSqlStats stats = currentRequest.get();
+        currentRequest.remove();
+        return stats;
+    }
+
+    // =====================================================
+    // 조회
+    // =====================================================
+
+    /**
+     * 정규화된 SQL별 누적 통계를 정렬하여 상위 limit개를 반환합니다.
+     *
+     * @param limit 반환할 최대 개수
+     * @param sortBy 정렬 기준 (max: 최대 실행 시간, total: 총 실행 시간, average: 평균 실행 시간, count: 실행 횟수)
+     * @return 기준 시간, 집계 중인 SQL 종류 수, 상위 SQL 목록
+     */
+    public Map<String, Object> top(int limit, String sortBy) {
+        Comparator<Map.Entry<String, QueryStats>> order = switch (sortBy) {
+            case "max" -> Comparator.comparingLong(entry -> entry.getValue().maxNanos.get());
+            case "total" -> Comparator.comparingLong(entry -> entry.getValue().totalNanos.sum());
+            case "average" -> Comparator.comparingDouble(entry -> entry.getValue().averageNanos());
+            case "count" -> Comparator.comparingLong(entry -> entry.getValue().count.sum());
+            default -> throw new IllegalArgumentException("sortBy는 max, total, average, count 중 하나여야 합니다: " + sortBy);
+        };
+
+        List<Map<String, Object>> top = new ArrayList<>();
+        queries.entrySet().stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .forEach(entry -> top.add(entry.getValue().toMap(entry.getKey())));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("slowThresholdMillis", slowThresholdNanos / 1e6);
+        result.put("distinctQueries", queries.size());
+        result.put("untrackedExecutions", untracked.sum());
+        result.put("sortBy", sortBy);
+        result.put("queries", top);
+        return result;
+    }
+
+    /**
+     * 누적 통계를 모두 지웁니다.
+     */
+    public void reset() {
+        queries.clear();
+        untracked.reset();
+    }
+
+    // =====================================================
+    // 내부 헬퍼 메서드
+    // =====================================================
+
+    private String normalize(String sql) {
+        String normalized = normalizedCache.get(sql);
+        if (normalized == null) {
+            normalized = SqlNormalizer.normalize(sql);
+            // IN 목록 길이마다 원본 SQL이 달라지므로 캐시 크기도 제한합니다.
+            if (normalizedCache.size() < maxDistinctQueries * 4) {
+                normalizedCache.put(sql, normalized);
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * 정규화된 SQL의 통계 객체를 반환합니다. 종류 수 제한에 걸리면 null을 반환합니다.
+     */
+    private QueryStats statsFor(String normalized) {
+        QueryStats stats = queries.get(normalized);
+        if (stats != null || queries.size() >= maxDistinctQueries) {
+            return stats;
+        }
+        return queries.computeIfAbsent(normalized, key -> new QueryStats());
+    }
+
+    /**
+     * 정규화된 SQL 하나의 누적 통계
+     */
+    private static final class QueryStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos, boolean slow) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            if (slow) {
+                slowCount.increment();
+            }
+        }
+
+        double averageNanos() {
+            long executions = count.sum();
+            return executions == 0 ? 0.0 : (double) totalNanos.sum() / executions;
+        }
+
+        Map<String, Object> toMap(String sql) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("sql", sql);
+            result.put("count", count.sum());
+            result.put("slowCount", slowCount.sum());
+            result.put("totalMillis", totalNanos.sum() / 1e6);
+            result.put("averageMillis", averageNanos() / 1e6);
+            result.put("maxMillis", maxNanos.get() / 1e6);
+            return result;
+        }
+    }
+}
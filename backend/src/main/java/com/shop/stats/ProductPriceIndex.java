@@ -0,0 +1,547 @@
+package com.shop.stats;
+
+import com.shop.event.ProductChangedEvent;
+import com.shop.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 모든 상품의 (가격, ID) 쌍을 정렬된 상태로 메모리에 유지하는 가격 인덱스
+ *
+ * 가격 필터 위젯이 자주 호출하는 가격 이상 개수 조회(/count/price)와
+ * 가격 범위 검색(/search/price)을 DB 조회 없이 처리하기 위해 사용합니다.
+ *
+ * 가격은 BigDecimal 대신 센트 단위 long(가격 × 100)으로 저장하며,
+ * (가격, ID) 순으로 정렬된 항목을 최대 BLOCK_CAPACITY개씩 primitive 배열 블록에 나누어 담습니다.
+ * 블록별 항목 수는 Fenwick 트리로 관리하므로 특정 위치 앞의 항목 수를 O(log n)에 구할 수 있고,
+ * 삽입/삭제는 블록 하나 안에서만 배열을 이동시키면 됩니다.
+ *
+ * 애플리케이션 시작 시 DB에서 만들고, 이후에는 ProductChangedEvent로 갱신합니다.
+ * 만들어지기 전에는 isReady()가 false이며, 호출자는 DB 조회로 대체해야 합니다.
+ *
+ * 이벤트 누락이나 커밋 순서와 다른 이벤트 처리 순서로 생길 수 있는 오차는
+ * 주기적으로 DB에서 다시 만들어 바로잡습니다 (shop.stats.price-index-rebuild-interval-ms).
+ * 이벤트 반영 중 예외가 나면 인덱스를 사용 중지(DB 조회로 대체)하고 곧바로 다시 만듭니다.
+ */
+@Component
+public class ProductPriceIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPriceIndex.class);
+
+    /**
+     * 블록 하나의 최대 항목 수 (가득 차면 절반으로 나눔)
+     */
+    private static final int BLOCK_CAPACITY = 1024;
+
+    /**
+     * DB에 저장되는 가격의 소수점 자릿수 (products.price numeric(10, 2))
+     */
+    private static final int PRICE_SCALE = 2;
+
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private final ProductRepository productRepository;
+
+    /**
+     * 인덱스 생성 시 DB 스트리밍에 사용할 읽기 전용 트랜잭션
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 모두 lock으로 보호합니다.
+
+    /**
+     * (가격, ID) 순으로 정렬된 블록 목록
+     */
+    private List<Block> blocks = new ArrayList<>();
+
+    /**
+     * 블록별 항목 수의 Fenwick 트리 (1부터 시작)
+     */
+    private long[] fenwick = new long[1];
+
+    private long size;
+
+    /**
+     * 인덱스 생성 중에 커밋된 변경 이벤트 (생성 중이 아니면 null)
+     * 생성이 끝난 뒤 다시 적용합니다. 삽입/삭제가 멱등이므로 이미 반영된 변경을 다시 적용해도 됩니다.
+     */
+    private List<ProductChangedEvent> changedDuringBuild;
+
+    /**
+     * DB로부터 인덱스를 만들었는지 여부
+     */
+    private volatile boolean ready = false;
+
+    /**
+     * 인덱스를 만드는 중인지 여부 (주기 재생성과 실패 후 재생성이 겹치지 않도록 함)
+     */
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    @Autowired
+    public ProductPriceIndex(ProductRepository productRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * (가격, ID) 항목을 담는 정렬된 블록
+     */
+    private static final class Block {
+        final long[] prices = new long[BLOCK_CAPACITY];
+        final long[] ids = new long[BLOCK_CAPACITY];
+        int size;
+
+        long lastPrice() {
+            return prices[size - 1];
+        }
+
+        long lastId() {
+            return ids[size - 1];
+        }
+
+        /**
+         * (price, id) 이상인 첫 항목의 위치를 찾습니다.
+         */
+        int lowerBound(long price, long id) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(prices[mid], ids[mid], price, id) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    // =====================================================
+    // 인덱스 생성
+    // =====================================================
+
+    /**
+     * 애플리케이션이 준비되면 백그라운드 스레드에서 인덱스를 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        buildInBackground();
+    }
+
+    /**
+     * 주기적으로 인덱스를 DB에서 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${shop.stats.price-index-rebuild-interval-ms:600000}",
+            initialDelayString = "${shop.stats.price-index-rebuild-interval-ms:600000}")
+    public void rebuild() {
+        build();
+    }
+
+    private void buildInBackground() {
+        Thread thread = new Thread(this::build, "price-index-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * DB의 전체 상품 가격으로 인덱스를 새로 만듭니다.
+     *
+     * DB를 읽는 동안에도 기존 인덱스로 조회와 갱신이 계속되며,
+     * 다 읽은 뒤 새 인덱스로 교체하고 그 사이의 변경 이벤트를 다시 적용합니다.
+     * 이미 만드는 중이면 아무것도 하지 않습니다.
+     */
+    public void build() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buildFromDatabase();
+        } finally {
+            building.set(false);
+        }
+    }
+
+    private void buildFromDatabase() {
+        lock.writeLock().lock();
+        try {
+            changedDuringBuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        List<Block> built = new ArrayList<>();
+        long[] count = {0};
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = productRepository.streamPriceIndexEntries()) {
+                    rows.forEach(row -> {
+                        // 삽입할 여유 공간을 남기기 위해 블록을 절반까지만 채웁니다.
+                        Block block = built.isEmpty() ? null : built.get(built.size() - 1);
+                        if (block == null || block.size == BLOCK_CAPACITY / 2) {
+                            block = new Block();
+                            built.add(block);
+                        }
+                        block.prices[block.size] = toCents((BigDecimal) row[0]);
+                        block.ids[block.size] = ((Number) row[1]).longValue();
+                        block.size++;
+                        count[0]++;
+                    });
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("가격 인덱스 생성 실패 - 가격 조회는 DB를 계속 사용합니다.", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            blocks = built;
+            size = count[0];
+            rebuildFenwick();
+            for (ProductChangedEvent event : changedDuringBuild) {
+                apply(event);
+            }
+            changedDuringBuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("가격 인덱스 생성 완료: {}건, {}ms", count[0], System.currentTimeMillis() - startedAt);
+    }
+
+    // =====================================================
+    // 인덱스 갱신
+    // =====================================================
+
+    /**
+     * 상품 변경 이벤트를 받아 인덱스에 반영합니다.
+     *
+     * 트랜잭션 커밋 이후에 실행되므로 롤백된 변경은 반영되지 않습니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            if (changedDuringBuild != null) {
+                changedDuringBuild.add(event);
+            }
+        } catch (RuntimeException e) {
+            // 일부만 반영되었을 수 있으므로 다시 만들 때까지 DB 조회로 대체합니다.
+            ready = false;
+            log.error("가격 인덱스 갱신 실패 - 인덱스를 다시 만듭니다. 이벤트: {}", event, e);
+            buildInBackground();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 이벤트 하나를 인덱스에 반영합니다.
+     */
+    private void apply(ProductChangedEvent event) {
+        long id = event.getProductId();
+        if (event.getOldPrice() != null) {
+            remove(toCents(event.getOldPrice()), id);
+        }
+        if (event.getNewPrice() != null) {
+            insert(toCents(event.getNewPrice()), id);
+        }
+    }
+
+    /**
+     * 항목을 삽입합니다. 이미 있으면 아무것도 하지 않습니다.
+     */
+    private void insert(long price, long id) {
+        if (blocks.isEmpty()) {
+            blocks.add(new Block());
+            rebuildFenwick();
+        }
+        int b = findBlock(price, id);
+        if (b == blocks.size()) {
+            // 모든 항목보다 크면 마지막 블록 끝에 붙입니다.
+            b = blocks.size() - 1;
+        }
+        Block block = blocks.get(b);
+        int pos = block.lowerBound(price, id);
+        if (pos < block.size && block.prices[pos] == price && block.ids[pos] == id) {
+            return;
+        }
+
+        System.arraycopy(block.prices, pos, block.prices, pos + 1, block.size - pos);
+        System.arraycopy(block.ids, pos, block.ids, pos + 1, block.size - pos);
+        block.prices[pos] = price;
+        block.ids[pos] = id;
+        block.size++;
+        size++;
+
+        if (block.size == BLOCK_CAPACITY) {
+            Block upper = new Block();
+            int half = BLOCK_CAPACITY / 2;
+            System.arraycopy(block.prices, half, upper.prices, 0, BLOCK_CAPACITY - half);
+            System.arraycopy(block.ids, half, upper.ids, 0, BLOCK_CAPACITY - half);
+            upper.size = BLOCK_CAPACITY - half;
+            block.size = half;
+            blocks.add(b + 1, upper);
+            rebuildFenwick();
+        } else {
+            fenwickAdd(b, 1);
+        }
+    }
+
+    /**
+     * 항목을 삭제합니다. 없으면 아무것도 하지 않습니다.
+     */
+    private void remove(long price, long id) {
+        int b = findBlock(price, id);
+        if (b == blocks.size()) {
+            return;
+        }
+        Block block = blocks.get(b);
+        int pos = block.lowerBound(price, id);
+        if (pos == block.size || block.prices[pos] != price || block.ids[pos] != id) {
+            return;
+        }
+
+        System.arraycopy(block.prices, pos + 1, block.prices, pos, block.size - pos - 1);
+        System.arraycopy(block.ids, pos + 1, block.ids, pos, block.size - pos - 1);
+        block.size--;
+        size--;
+
+        if (block.size == 0) {
+            blocks.remove(b);
+            rebuildFenwick();
+        } else {
+            fenwickAdd(b, -1);
+        }
+    }
+
+    // =====================================================
+    // 조회
+    // =====================================================
+
+    /**
+     * 인덱스를 사용할 수 있는지 확인합니다.
+     *
+     * @return DB로부터 인덱스를 만들었으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 기준 가격 이상인 상품 수를 반환합니다.
+     *
+     * @param price 기준 가격
+     * @return 기준 가격 이상인 상품 수
+     */
+    public long countAtLeast(BigDecimal price) {
+        long lowerCents = toCentsCeiling(price);
+        lock.readLock().lock();
+        try {
+            return size - rank(lowerCents, Long.MIN_VALUE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가격 범위에 속하면서 (afterPrice, afterId) 다음에 오는 상품 ID를 (가격, ID) 순으로 반환합니다.
+     *
+     * 커서 기반 페이지 조회와 같은 규칙으로, 가격이 afterPrice보다 크거나
+     * 가격이 같고 ID가 afterId보다 큰 항목부터 반환합니다.
+     *
+     * @param minPrice 최소 가격
+     * @param maxPrice 최대 가격
+     * @param afterPrice 이전 페이지 마지막 상품의 가격
+     * @param afterId 이전 페이지 마지막 상품의 ID
+     * @param limit 최대 반환 개수
+     * @return 상품 ID 배열
+     */
+    public long[] findIds(BigDecimal minPrice, BigDecimal maxPrice,
+                          BigDecimal afterPrice, long afterId, int limit) {
+        long lowerCents = toCentsCeiling(minPrice);
+        long upperCents = toLongClamped(maxPrice.movePointRight(PRICE_SCALE), RoundingMode.FLOOR);
+
+        // 커서 가격에 소수점 셋째 자리 이하가 있으면 같은 가격의 항목이 없으므로 ID 조건은 의미가 없습니다.
+        BigDecimal afterScaled = afterPrice.movePointRight(PRICE_SCALE);
+        long startPrice;
+        long startIdExclusive;
+        if (afterScaled.stripTrailingZeros().scale() <= 0) {
+            startPrice = toLongClamped(afterScaled, RoundingMode.UNNECESSARY);
+            startIdExclusive = afterId;
+        } else {
+            startPrice = toLongClamped(afterScaled, RoundingMode.CEILING);
+            startIdExclusive = Long.MIN_VALUE;
+        }
+        if (startPrice < lowerCents) {
+            startPrice = lowerCents;
+            startIdExclusive = Long.MIN_VALUE;
+        }
+
+        lock.readLock().lock();
+        try {
+            long[] result = new long[(int) Math.min(limit, Math.min(size, 1024))];
+            int count = 0;
+            int b = findBlock(startPrice, startIdExclusive);
+            int pos = b < blocks.size() ? blocks.get(b).lowerBound(startPrice, startIdExclusive) : 0;
+            for (; b < blocks.size() && count < limit; b++, pos = 0) {
+                Block block = blocks.get(b);
+                for (; pos < block.size && count < limit; pos++) {
+                    long price = block.prices[pos];
+                    if (price > upperCents) {
+                        return Arrays.copyOf(result, count);
+                    }
+                    if (price == startPrice && block.ids[pos] <= startIdExclusive) {
+                        continue;
+                    }
+                    if (count == result.length) {
+                        result = Arrays.copyOf(result, Math.max(16, result.length * 2));
+                    }
+                    result[count++] = block.ids[pos];
+                }
+            }
+            return Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * (price, id)보다 작은 항목 수를 반환합니다.
+     */
+    private long rank(long price, long id) {
+        int b = findBlock(price, id);
+        if (b == blocks.size()) {
+            return size;
+        }
+        return fenwickPrefix(b) + blocks.get(b).lowerBound(price, id);
+    }
+
+    /**
+     * 마지막 항목이 (price, id) 이상인 첫 블록의 위치를 찾습니다.
+     *
+     * @return 블록 위치 (모든 항목이 (price, id)보다 작으면 blocks.size())
+     */
+    private int findBlock(long price, long id) {
+        int low = 0;
+        int high = blocks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Block block = blocks.get(mid);
+            if (block.size == 0 || compare(block.lastPrice(), block.lastId(), price, id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // =====================================================
+    // Fenwick 트리 (블록별 항목 수)
+    // =====================================================
+
+    private void rebuildFenwick() {
+        fenwick = new long[blocks.size() + 1];
+        for (int i = 0; i < blocks.size(); i++) {
+            int node = i + 1;
+            fenwick[node] += blocks.get(i).size;
+            int parent = node + (node & -node);
+            if (parent < fenwick.length) {
+                fenwick[parent] += fenwick[node];
+            }
+        }
+    }
+
+    private void fenwickAdd(int blockIndex, long delta) {
+        for (int node = blockIndex + 1; node < fenwick.length; node += node & -node) {
+            fenwick[node] += delta;
+        }
+    }
+
+    /**
+     * blockIndex 앞에 있는 블록들의 항목 수 합계를 반환합니다.
+     */
+    private long fenwickPrefix(int blockIndex) {
+        long sum = 0;
+        for (int node = blockIndex; node > 0; node -= node & -node) {
+            sum += fenwick[node];
+        }
+        return sum;
+    }
+
+    // =====================================================
+    // 유틸리티 메서드
+    // =====================================================
+
+    private static int compare(long price1, long id1, long price2, long id2) {
+        int result = Long.compare(price1, price2);
+        return result != 0 ? result : Long.compare(id1, id2);
+    }
+
+    /**
+     * 저장된 가격을 센트 단위로 변환합니다 (DB와 같은 방식으로 소수점 2자리 반올림).
+     */
+    private static long toCents(BigDecimal price) {
+        return toLongClamped(price.movePointRight(PRICE_SCALE), RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 조회 조건의 가격을 센트 단위로 올림 변환합니다 (price 이상 ⇔ 센트 값이 결과 이상).
+     */
+    private static long toCentsCeiling(BigDecimal price) {
+        return toLongClamped(price.movePointRight(PRICE_SCALE), RoundingMode.CEILING);
+    }
+
+    /**
+     * 정수로 반올림한 값을 long 범위로 제한하여 반환합니다.
+     *
+     * 조회 조건과 커서의 가격은 사용자가 보낸 값이므로 저장 가능한 가격(numeric(10, 2))보다 훨씬 클 수 있습니다.
+     * 범위를 벗어난 값은 모든 저장된 가격보다 크거나 작다는 점만 중요하므로 long의 최댓값/최솟값으로 바꿉니다.
+     * (아주 큰 지수의 값을 먼저 반올림하면 거대한 정수를 만들게 되므로 범위부터 확인합니다.)
+     */
+    private static long toLongClamped(BigDecimal value, RoundingMode roundingMode) {
+        if (value.compareTo(LONG_MAX) >= 0) {
+            return Long.MAX_VALUE;
+        }
+        if (value.compareTo(LONG_MIN) <= 0) {
+            return Long.MIN_VALUE;
+        }
+        return value.setScale(0, roundingMode).longValueExact();
+    }
+}
@@ -0,0 +1,311 @@
+package com.shop.stats;
+
+import com.shop.event.ProductChangedEvent;
+import com.shop.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 전체 상품의 가격 통계(개수, 합계, 최솟값, 최댓값)를 메모리에 유지하는 컴포넌트
+ *
+ * 매 요청마다 테이블 전체에 AVG/MIN/MAX를 계산하지 않도록,
+ * ProductChangedEvent의 변경 전후 가격으로 통계를 증분 갱신합니다.
+ * 이벤트 누락 등으로 생길 수 있는 오차는 주기적으로 DB와 비교하여 보정합니다
+ * (shop.stats.reconcile-interval-ms, 애플리케이션 시작 직후 한 번 실행).
+ */
+@Component
+public class ProductPriceStats {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPriceStats.class);
+
+    /**
+     * 평균 가격 계산 시 사용하는 소수점 자릿수
+     * 가격은 소수점 2자리이므로 이 정도면 "평균보다 큰 가격" 비교 결과가 정확한 평균과 같습니다.
+     */
+    private static final int AVERAGE_SCALE = 20;
+
+    /**
+     * DB에 저장되는 가격의 소수점 자릿수 (products.price numeric(10, 2))
+     */
+    private static final int PRICE_SCALE = 2;
+
+    /**
+     * 보정 중 변경된 상품의 가격을 읽을 때 IN 쿼리 한 번에 넣을 최대 ID 수
+     */
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+
+    /**
+     * 보정 시 가격 분포와 변경된 상품의 가격을 같은 스냅숏에서 읽기 위한 읽기 전용 REPEATABLE READ 트랜잭션
+     */
+    private final TransactionTemplate snapshotTransaction;
+
+    // 아래 필드는 모두 this로 동기화합니다.
+
+    /**
+     * 가격별 상품 수 (최솟값/최댓값 계산용)
+     */
+    private final TreeMap<BigDecimal, Long> countByPrice = new TreeMap<>();
+
+    private BigDecimal sum = BigDecimal.ZERO;
+
+    private long count;
+
+    /**
+     * DB에서 한 번이라도 통계를 읽어왔는지 여부
+     */
+    private boolean ready;
+
+    private LocalDateTime lastReconciledAt;
+
+    /**
+     * 보정 중에 받은 변경 이벤트 (보정 중이 아니면 null)
+     * 스냅숏으로 교체한 뒤 스냅숏에 빠진 변경만 다시 반영합니다.
+     */
+    private List<ProductChangedEvent> changedDuringReconcile;
+
+    @Autowired
+    public ProductPriceStats(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * 한 트랜잭션에서 읽은 가격 분포와, 그 사이 변경된 상품들의 같은 시점 가격
+     */
+    private static final class Snapshot {
+        final List<Object[]> countByPrice;
+        final Set<Long> checkedIds;
+        final Map<Long, BigDecimal> priceById;
+
+        Snapshot(List<Object[]> countByPrice, Set<Long> checkedIds, Map<Long, BigDecimal> priceById) {
+            this.countByPrice = countByPrice;
+            this.checkedIds = checkedIds;
+            this.priceById = priceById;
+        }
+    }
+
+    // =====================================================
+    // 증분 갱신 및 보정
+    // =====================================================
+
+    /**
+     * 상품 변경 이벤트를 받아 통계를 갱신합니다.
+     *
+     * 커밋된 변경만 반영하도록 트랜잭션 커밋 이후에 실행됩니다.
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        apply(event);
+        if (changedDuringReconcile != null) {
+            changedDuringReconcile.add(event);
+        }
+    }
+
+    /**
+     * DB의 가격 분포를 다시 읽어 통계를 보정합니다.
+     *
+     * DB 조회 중에는 잠금을 잡지 않으므로 통계 조회와 이벤트 처리는 계속됩니다.
+     * 조회 중에 커밋된 변경은 스냅숏에 들어 있을 수도, 빠져 있을 수도 있으므로
+     * 같은 REPEATABLE READ 트랜잭션에서 그 상품들의 가격을 다시 읽어 스냅숏에 들어 있는 가격을 확인하고,
+     * 통계를 스냅숏으로 교체한 뒤 그 가격을 이벤트로 알게 된 최신 가격으로 바꿉니다.
+     * 가격을 확인한 뒤에 도착한 이벤트는 스냅숏 이후에 커밋된 것이므로 그대로 다시 적용합니다.
+     */
+    @Scheduled(fixedDelayString = "${shop.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (this) {
+            changedDuringReconcile = new ArrayList<>();
+        }
+
+        Snapshot snapshot;
+        try {
+            snapshot = snapshotTransaction.execute(status -> readSnapshot());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringReconcile = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            long previousCount = count;
+            BigDecimal previousSum = sum;
+
+            countByPrice.clear();
+            sum = BigDecimal.ZERO;
+            count = 0;
+            for (Object[] row : snapshot.countByPrice) {
+                BigDecimal price = (BigDecimal) row[0];
+                long priceCount = ((Number) row[1]).longValue();
+                countByPrice.put(price, priceCount);
+                sum = sum.add(price.multiply(BigDecimal.valueOf(priceCount)));
+                count += priceCount;
+            }
+            replayChangesMissingFrom(snapshot);
+            changedDuringReconcile = null;
+
+            if (ready && (previousCount != count || previousSum.compareTo(sum) != 0)) {
+                log.warn("가격 통계 보정: count {} -> {}, sum {} -> {}", previousCount, count, previousSum, sum);
+            }
+            ready = true;
+            lastReconciledAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 가격 분포를 읽고, 그동안 이벤트가 도착한 상품들의 가격을 같은 스냅숏에서 읽습니다.
+     */
+    private Snapshot readSnapshot() {
+        List<Object[]> rows = productRepository.countGroupByPrice();
+
+        Set<Long> checkedIds = new LinkedHashSet<>();
+        synchronized (this) {
+            for (ProductChangedEvent event : changedDuringReconcile) {
+                checkedIds.add(event.getProductId());
+            }
+        }
+        Map<Long, BigDecimal> priceById = new HashMap<>();
+        List<Long> ids = new ArrayList<>(checkedIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size());
+            for (Object[] row : productRepository.findPricesByIdIn(ids.subList(from, to))) {
+                priceById.put(((Number) row[0]).longValue(), (BigDecimal) row[1]);
+            }
+        }
+        return new Snapshot(rows, checkedIds, priceById);
+    }
+
+    /**
+     * 스냅숏으로 교체한 통계에 보정 중 받은 변경 중 스냅숏에 빠진 부분을 반영합니다.
+     *
+     * 스냅숏에서 가격을 확인한 상품은 스냅숏의 가격을 마지막 이벤트의 가격으로 바꾸고 (삭제되었으면 빼기만 함),
+     * 확인한 뒤에 처음 이벤트가 도착한 상품은 이벤트를 순서대로 다시 적용합니다.
+     */
+    private void replayChangesMissingFrom(Snapshot snapshot) {
+        Map<Long, ProductChangedEvent> latestChecked = new LinkedHashMap<>();
+        for (ProductChangedEvent event : changedDuringReconcile) {
+            if (snapshot.checkedIds.contains(event.getProductId())) {
+                latestChecked.put(event.getProductId(), event);
+            } else {
+                apply(event);
+            }
+        }
+        for (ProductChangedEvent event : latestChecked.values()) {
+            BigDecimal snapshotPrice = snapshot.priceById.get(event.getProductId());
+            if (snapshotPrice != null) {
+                remove(toStoredPrice(snapshotPrice));
+            }
+            if (event.getNewPrice() != null) {
+                add(toStoredPrice(event.getNewPrice()));
+            }
+        }
+    }
+
+    /**
+     * 변경 이벤트 하나를 통계에 반영합니다.
+     */
+    private void apply(ProductChangedEvent event) {
+        if (event.getOldPrice() != null) {
+            remove(toStoredPrice(event.getOldPrice()));
+        }
+        if (event.getNewPrice() != null) {
+            add(toStoredPrice(event.getNewPrice()));
+        }
+    }
+
+    /**
+     * 요청으로 받은 가격을 DB에 저장된 값과 같게 반올림합니다.
+     */
+    private BigDecimal toStoredPrice(BigDecimal price) {
+        return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private void add(BigDecimal price) {
+        countByPrice.merge(price, 1L, Long::sum);
+        sum = sum.add(price);
+        count++;
+    }
+
+    private void remove(BigDecimal price) {
+        Long priceCount = countByPrice.get(price);
+        if (priceCount == null) {
+            // 통계에 없는 가격이면 이미 어긋난 상태이므로 다음 보정에 맡깁니다.
+            return;
+        }
+        if (priceCount == 1) {
+            countByPrice.remove(price);
+        } else {
+            countByPrice.put(price, priceCount - 1);
+        }
+        sum = sum.subtract(price);
+        count--;
+    }
+
+    // =====================================================
+    // 조회
+    // =====================================================
+
+    /**
+     * DB에서 통계를 읽어온 적이 있는지 확인합니다.
+     *
+     * @return 통계를 사용할 수 있으면 true
+     */
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 상품의 평균 가격을 반환합니다.
+     *
+     * @return 평균 가격 (통계가 준비되지 않았거나 상품이 없으면 Optional.empty)
+     */
+    public synchronized Optional<BigDecimal> getAveragePrice() {
+        if (!ready || count == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(sum.divide(BigDecimal.valueOf(count), AVERAGE_SCALE, RoundingMode.FLOOR));
+    }
+
+    /**
+     * 가격 통계를 반환합니다.
+     *
+     * @return 통계 정보 (상품 수, 합계, 평균, 최솟값, 최댓값, 마지막 보정 시간)
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("ready", ready);
+        result.put("count", count);
+        result.put("sum", sum);
+        result.put("average", count == 0 ? null : sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP));
+        result.put("minPrice", countByPrice.isEmpty() ? null : countByPrice.firstKey());
+        result.put("maxPrice", countByPrice.isEmpty() ? null : countByPrice.lastKey());
+        result.put("lastReconciledAt", lastReconciledAt);
+        return result;
+    }
+}
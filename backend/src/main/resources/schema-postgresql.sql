@@ -0,0 +1,36 @@
+-- =====================================================
+-- Simple Shop Backend - PostgreSQL 전용 스키마 보완 스크립트
+-- =====================================================
+-- Hibernate(ddl-auto)가 products 테이블을 만든 뒤 Spring의 SQL 초기화 기능이 실행합니다.
+-- (spring.jpa.defer-datasource-initialization: true, spring.sql.init.platform: postgresql)
+-- JPA 어노테이션으로 표현할 수 없는 PostgreSQL 전용 컬럼과 인덱스를 정의하며,
+-- 애플리케이션이 시작될 때마다 실행되므로 모든 문장은 여러 번 실행해도 안전해야 합니다.
+
+-- =====================================================
+-- 1. 전문 검색 (Full-Text Search)
+-- =====================================================
+-- 상품명(가중치 A)과 설명(가중치 B)으로 만든 tsvector를 생성 컬럼으로 저장합니다.
+-- 생성 컬럼이므로 name / description이 바뀌면 PostgreSQL이 자동으로 다시 계산합니다.
+-- 한국어 형태소 사전이 없으므로 공백 단위로 토큰을 나누는 'simple' 설정을 사용합니다.
+ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- websearch_to_tsquery 검색(@@)을 처리하는 GIN 인덱스
+CREATE INDEX IF NOT EXISTS idx_products_search_vector ON products USING GIN (search_vector);
+
+-- =====================================================
+-- 2. 부분 문자열 검색 (Trigram)
+-- =====================================================
+-- 상품명/설명 검색(/search/name, /search/description)은 정확한 부분 문자열 일치가 필요하므로
+-- pg_trgm GIN 인덱스로 ILIKE '%검색어%'를 처리합니다. (B-tree 인덱스로는 처리할 수 없음)
+-- pg_trgm은 PostgreSQL 13부터 신뢰(trusted) 확장이므로 DB에 CREATE 권한이 있는 사용자가 설치할 수 있습니다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 상품명 부분 문자열 검색용 trigram 인덱스 (ILIKE에도 사용되어 대소문자 구분 없이 검색 가능)
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING GIN (name gin_trgm_ops);
+
+-- 설명 부분 문자열 검색용 trigram 인덱스
+CREATE INDEX IF NOT EXISTS idx_products_description_trgm ON products USING GIN (description gin_trgm_ops);
@@ -0,0 +1,31 @@
+package com.shop.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogVersion 단위 테스트 (약한 ETag 생성과 If-Match 버전 파싱)
+ */
+class CatalogVersionTest {
+
+    @Test
+    void etagsAreWeak() {
+        assertThat(CatalogVersion.productETag(42L, 3L)).isEqualTo("W/\"42-3\"");
+        assertThat(new CatalogVersion().etag()).startsWith("W/\"").endsWith("-0\"");
+    }
+
+    @Test
+    void ifMatchVersionIsParsedWithOrWithoutWeakPrefix() {
+        assertThat(CatalogVersion.versionFromProductETag(42L, CatalogVersion.productETag(42L, 3L))).contains(3L);
+        assertThat(CatalogVersion.versionFromProductETag(42L, " \"42-3\" ")).contains(3L);
+    }
+
+    @Test
+    void ifMatchOfOtherProductOrMalformedTagIsNotRecognized() {
+        assertThat(CatalogVersion.versionFromProductETag(42L, "W/\"7-3\"")).isEmpty();
+        assertThat(CatalogVersion.versionFromProductETag(42L, "W/\"42-\"")).isEmpty();
+        assertThat(CatalogVersion.versionFromProductETag(42L, "\"42-x\"")).isEmpty();
+        assertThat(CatalogVersion.versionFromProductETag(42L, "\"42-3\", \"42-4\"")).isEmpty();
+    }
+}
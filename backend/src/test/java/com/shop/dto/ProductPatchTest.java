@@ -0,0 +1,90 @@
+package com.shop.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ProductPatch.fromMergePatch 단위 테스트 (JSON Merge Patch 필드 처리)
+ */
+class ProductPatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void onlyFieldsInBodyAreChanged() throws Exception {
+        ProductPatch patch = ProductPatch.fromMergePatch(json("{\"price\": 12.5}"));
+
+        assertThat(patch.hasPrice()).isTrue();
+        assertThat(patch.getPrice()).isEqualByComparingTo("12.5");
+        assertThat(patch.hasName()).isFalse();
+        assertThat(patch.hasDescription()).isFalse();
+        assertThat(patch.isEmpty()).isFalse();
+    }
+
+    @Test
+    void nullValueMeansRemoveField() throws Exception {
+        ProductPatch patch = ProductPatch.fromMergePatch(json("{\"description\": null}"));
+
+        assertThat(patch.hasDescription()).isTrue();
+        assertThat(patch.getDescription()).isNull();
+        assertThat(patch.isEmpty()).isFalse();
+    }
+
+    @Test
+    void nullRequiredFieldsAreKeptForValidation() throws Exception {
+        ProductPatch patch = ProductPatch.fromMergePatch(json("{\"name\": null, \"price\": null}"));
+
+        assertThat(patch.hasName()).isTrue();
+        assertThat(patch.getName()).isNull();
+        assertThat(patch.hasPrice()).isTrue();
+        assertThat(patch.getPrice()).isNull();
+    }
+
+    @Test
+    void versionIsConditionNotChange() throws Exception {
+        ProductPatch patch = ProductPatch.fromMergePatch(json("{\"version\": 3}"));
+
+        assertThat(patch.isEmpty()).isTrue();
+        assertThat(patch.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void numericStringPriceIsAccepted() throws Exception {
+        ProductPatch patch = ProductPatch.fromMergePatch(json("{\"price\": \" 9.90 \"}"));
+
+        assertThat(patch.getPrice()).isEqualByComparingTo("9.90");
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        assertThatThrownBy(() -> ProductPatch.fromMergePatch(json("{\"id\": 1}")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("수정할 수 없는 필드입니다: id");
+    }
+
+    @Test
+    void wrongTypesAreRejected() {
+        assertThatThrownBy(() -> ProductPatch.fromMergePatch(json("{\"name\": 1}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductPatch.fromMergePatch(json("{\"price\": \"free\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductPatch.fromMergePatch(json("{\"version\": 1.5}")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bodyMustBeObject() {
+        assertThatThrownBy(() -> ProductPatch.fromMergePatch(json("[]")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductPatch.fromMergePatch(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private JsonNode json(String body) throws Exception {
+        return objectMapper.readTree(body);
+    }
+}
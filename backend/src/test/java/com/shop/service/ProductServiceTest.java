@@ -0,0 +1,275 @@
+package com.shop.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.cache.ProductCache;
+import com.shop.dto.ProductPatch;
+import com.shop.dto.ProductUpdateResult;
+import com.shop.entity.Product;
+import com.shop.event.ProductChangedEvent;
+import com.shop.repository.ProductRepository;
+import com.shop.search.ProductSearchEngine;
+import com.shop.stats.ProductPriceIndex;
+import com.shop.stats.ProductPriceStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * ProductService 단위 테스트
+ *
+ * 리포지토리를 목(mock)으로 바꾸어, SQL 한 문장으로 처리하는 쓰기 경로가
+ * 결과 행 유무에 따라 어떤 예외와 변경 이벤트를 만드는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+    private static final Long ID = 7L;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private ProductSearchEngine productSearchEngine;
+
+    @Mock
+    private ProductPriceStats productPriceStats;
+
+    @Mock
+    private ProductPriceIndex productPriceIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        productService = new ProductService(productRepository, productCache, productSearchEngine,
+                productPriceStats, productPriceIndex, eventPublisher);
+    }
+
+    // =====================================================
+    // 조건부 수정 (404 / 412 구분)
+    // =====================================================
+
+    @Test
+    void updatePublishesChangeWithOldPrice() {
+        Product saved = product("노트북", "12.50", 3L);
+        when(productRepository.updateIfMatches(eq(ID), any(ProductPatch.class), eq(2L), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new ProductUpdateResult(saved, new BigDecimal("10.00"))));
+
+        Product result = productService.updateProduct(ID, product("노트북", "12.50", null), 2L);
+
+        assertThat(result).isSameAs(saved);
+        ProductChangedEvent event = publishedEvent();
+        assertThat(event.getType()).isEqualTo(ProductChangedEvent.Type.UPDATED);
+        assertThat(event.getProductId()).isEqualTo(ID);
+        assertThat(event.getOldPrice()).isEqualByComparingTo("10.00");
+        assertThat(event.getNewPrice()).isEqualByComparingTo("12.50");
+    }
+
+    @Test
+    void updateOfMissingProductIsNotFound() {
+        when(productRepository.updateIfMatches(eq(ID), any(ProductPatch.class), eq(2L), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(productRepository.findVersionById(ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> productService.updateProduct(ID, product("노트북", "12.50", null), 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("상품을 찾을 수 없습니다");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateWithStaleVersionIsPreconditionFailed() {
+        when(productRepository.updateIfMatches(eq(ID), any(ProductPatch.class), eq(2L), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(productRepository.findVersionById(ID)).thenReturn(Optional.of(3L));
+
+        assertThatThrownBy(() -> productService.updateProduct(ID, product("노트북", "12.50", null), 2L))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("현재 버전: 3");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateWithoutVersionOfMissingProductIsNotFound() {
+        when(productRepository.updateIfMatches(eq(ID), any(ProductPatch.class), isNull(), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+        when(productRepository.findVersionById(ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> productService.updateProduct(ID, product("노트북", "12.50", null), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("상품을 찾을 수 없습니다");
+    }
+
+    // =====================================================
+    // 부분 수정 (JSON Merge Patch)
+    // =====================================================
+
+    @Test
+    void patchPassesRemovedDescriptionToUpdate() throws Exception {
+        ProductPatch changes = patch("{\"description\": null}");
+        Product saved = product("노트북", "12.50", 4L);
+        saved.setDescription(null);
+        when(productRepository.updateIfMatches(eq(ID), any(ProductPatch.class), isNull(), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new ProductUpdateResult(saved, new BigDecimal("12.50"))));
+
+        Product result = productService.patchProduct(ID, changes, null);
+
+        assertThat(result.getDescription()).isNull();
+        ArgumentCaptor<ProductPatch> captor = ArgumentCaptor.forClass(ProductPatch.class);
+        verify(productRepository).updateIfMatches(eq(ID), captor.capture(), isNull(), any(LocalDateTime.class));
+        assertThat(captor.getValue().hasDescription()).isTrue();
+        assertThat(captor.getValue().hasName()).isFalse();
+        assertThat(captor.getValue().hasPrice()).isFalse();
+    }
+
+    @Test
+    void patchRemovingRequiredFieldIsRejectedBeforeUpdate() throws Exception {
+        assertThatThrownBy(() -> productService.patchProduct(ID, patch("{\"name\": null}"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("상품명은 필수입니다.");
+        assertThatThrownBy(() -> productService.patchProduct(ID, patch("{\"price\": null}"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("가격은 필수입니다.");
+        verifyNoInteractions(productRepository, eventPublisher);
+    }
+
+    @Test
+    void emptyPatchReturnsCurrentStateWithoutUpdate() throws Exception {
+        Product current = product("노트북", "12.50", 4L);
+        when(productRepository.findById(ID)).thenReturn(Optional.of(current));
+
+        assertThat(productService.patchProduct(ID, patch("{}"), 4L)).isSameAs(current);
+        assertThatThrownBy(() -> productService.patchProduct(ID, patch("{}"), 3L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verify(productRepository, never()).updateIfMatches(any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void emptyPatchOfMissingProductIsNotFound() throws Exception {
+        when(productRepository.findById(ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> productService.patchProduct(ID, patch("{}"), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("상품을 찾을 수 없습니다");
+    }
+
+    // =====================================================
+    // 상품명 중복 (유일 제약 위반 변환)
+    // =====================================================
+
+    @Test
+    void createWithDuplicateNameIsTranslated() {
+        when(productRepository.saveAndFlush(any(Product.class))).thenThrow(duplicateNameViolation());
+
+        assertThatThrownBy(() -> productService.createProduct(product("노트북", "12.50", null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 존재하는 상품명입니다: 노트북");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateWithDuplicateNameIsTranslated() {
+        when(productRepository.updateIfMatches(eq(ID), any(ProductPatch.class), isNull(), any(LocalDateTime.class)))
+                .thenThrow(duplicateNameViolation());
+
+        assertThatThrownBy(() -> productService.updateProduct(ID, product("노트북", "12.50", null), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 존재하는 상품명입니다: 노트북");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void otherIntegrityViolationIsRethrown() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: value too long for type character varying(100)"));
+        when(productRepository.saveAndFlush(any(Product.class))).thenThrow(violation);
+
+        assertThatThrownBy(() -> productService.createProduct(product("노트북", "12.50", null)))
+                .isSameAs(violation);
+    }
+
+    // =====================================================
+    // 삭제 (DELETE ... RETURNING)
+    // =====================================================
+
+    @Test
+    void deletePublishesChangeWithDeletedPrice() {
+        when(productRepository.deleteReturningPrice(ID)).thenReturn(Optional.of(new BigDecimal("12.50")));
+
+        productService.deleteProduct(ID);
+
+        ProductChangedEvent event = publishedEvent();
+        assertThat(event.getType()).isEqualTo(ProductChangedEvent.Type.DELETED);
+        assertThat(event.getProductId()).isEqualTo(ID);
+        assertThat(event.getOldPrice()).isEqualByComparingTo("12.50");
+        assertThat(event.getNewPrice()).isNull();
+    }
+
+    @Test
+    void deleteOfMissingProductIsNotFoundWithoutEvent() {
+        when(productRepository.deleteReturningPrice(ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> productService.deleteProduct(ID))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("상품을 찾을 수 없습니다");
+        verifyNoInteractions(eventPublisher, productCache, productPriceStats, productPriceIndex);
+    }
+
+    // =====================================================
+    // 테스트 헬퍼
+    // =====================================================
+
+    private static Product product(String name, String price, Long version) {
+        Product product = new Product(name, "테스트 상품", new BigDecimal(price));
+        product.setId(ID);
+        product.setVersion(version);
+        return product;
+    }
+
+    private static ProductPatch patch(String body) throws Exception {
+        return ProductPatch.fromMergePatch(new ObjectMapper().readTree(body));
+    }
+
+    /**
+     * PostgreSQL 드라이버가 유일 제약 위반 시 던지는 예외와 같은 구조 (제약 이름은 원인 예외의 메시지에 있음)
+     */
+    private static DataIntegrityViolationException duplicateNameViolation() {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: duplicate key value violates unique constraint \"" + Product.NAME_UNIQUE_CONSTRAINT
+                        + "\"\n  Detail: Key (name)=(노트북) already exists.", "23505"));
+    }
+
+    private ProductChangedEvent publishedEvent() {
+        ArgumentCaptor<ProductChangedEvent> captor = ArgumentCaptor.forClass(ProductChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,168 @@
+package com.shop.stats;
+
+import com.shop.event.ProductChangedEvent;
+import com.shop.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * ProductPriceIndex 단위 테스트 (DB 스냅숏으로 생성, 이벤트 반영과 생성 중 이벤트 재적용)
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductPriceIndexTest {
+
+    private static final BigDecimal MIN = BigDecimal.ZERO;
+    private static final BigDecimal MAX = new BigDecimal("100000000");
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductPriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        index = new ProductPriceIndex(productRepository, transactionManager);
+    }
+
+    @Test
+    void buildAnswersCountAndRangeQueries() {
+        givenSnapshot(entry("10.00", 1), entry("20.00", 2), entry("20.00", 3), entry("30.00", 4));
+
+        assertThat(index.isReady()).isFalse();
+        index.build();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.countAtLeast(new BigDecimal("20"))).isEqualTo(3);
+        assertThat(index.countAtLeast(new BigDecimal("20.001"))).isEqualTo(1);
+        assertThat(index.findIds(new BigDecimal("15"), new BigDecimal("30"), new BigDecimal("15"), 0L, 10))
+                .containsExactly(2, 3, 4);
+        // 커서 (20.00, 2) 다음부터
+        assertThat(index.findIds(new BigDecimal("15"), new BigDecimal("30"), new BigDecimal("20.00"), 2L, 10))
+                .containsExactly(3, 4);
+    }
+
+    @Test
+    void outOfRangeBoundsAreClampedInsteadOfFailing() {
+        givenSnapshot(entry("10.00", 1), entry("99999999.99", 2));
+        index.build();
+
+        BigDecimal huge = new BigDecimal("1e20");
+        BigDecimal hugeNegative = new BigDecimal("-1e20");
+        assertThat(index.countAtLeast(huge)).isZero();
+        assertThat(index.countAtLeast(hugeNegative)).isEqualTo(2);
+        assertThat(index.countAtLeast(new BigDecimal("1e999999999"))).isZero();
+        assertThat(index.findIds(MIN, huge, MIN, 0L, 10)).containsExactly(1, 2);
+        assertThat(index.findIds(huge, huge, huge, 0L, 10)).isEmpty();
+        // 범위를 벗어난 커서 가격 (정수/소수)
+        assertThat(index.findIds(MIN, huge, huge, 5L, 10)).isEmpty();
+        assertThat(index.findIds(MIN, huge, new BigDecimal("12345678901234567890.123"), 5L, 10)).isEmpty();
+        assertThat(index.findIds(MIN, huge, hugeNegative, 5L, 10)).containsExactly(1, 2);
+    }
+
+    @Test
+    void eventsDuringBuildAreReplayedIdempotently() {
+        // 스냅숏을 읽는 동안 커밋된 변경: 5번 생성과 1번 가격 변경은 스냅숏에 이미 반영되어 있고,
+        // 6번 생성은 스냅숏보다 늦게 커밋되어 빠져 있는 경우
+        when(productRepository.streamPriceIndexEntries()).thenAnswer(invocation -> {
+            index.onProductChanged(created(5L, "50.00"));
+            index.onProductChanged(updated(1L, "10.00", "15.00"));
+            index.onProductChanged(created(6L, "60.00"));
+            return Arrays.stream(new Object[][] { entry("15.00", 1), entry("20.00", 2), entry("50.00", 5) });
+        });
+
+        index.build();
+
+        assertThat(index.countAtLeast(MIN)).isEqualTo(4);
+        assertThat(index.countAtLeast(new BigDecimal("16"))).isEqualTo(3);
+        assertThat(index.findIds(MIN, MAX, MIN, 0L, 10)).containsExactly(1, 2, 5, 6);
+    }
+
+    @Test
+    void duplicateEventsDoNotChangeIndex() {
+        givenSnapshot(entry("10.00", 1));
+        index.build();
+
+        index.onProductChanged(created(2L, "20.00"));
+        index.onProductChanged(created(2L, "20.00"));
+        assertThat(index.countAtLeast(MIN)).isEqualTo(2);
+
+        index.onProductChanged(deleted(1L, "10.00"));
+        index.onProductChanged(deleted(1L, "10.00"));
+        assertThat(index.countAtLeast(MIN)).isEqualTo(1);
+        assertThat(index.findIds(MIN, MAX, MIN, 0L, 10)).containsExactly(2);
+    }
+
+    @Test
+    void rebuildReplacesIndexWithSnapshot() {
+        when(productRepository.streamPriceIndexEntries())
+                .thenAnswer(invocation -> Arrays.stream(new Object[][] { entry("10.00", 1) }))
+                .thenAnswer(invocation -> Arrays.stream(new Object[][] { entry("10.00", 1), entry("25.00", 7) }));
+        index.build();
+
+        // 인덱스에 없는 항목의 삭제는 무시되고, 다시 만들 때 DB 값으로 바로잡힙니다.
+        index.onProductChanged(deleted(9L, "99.00"));
+        index.rebuild();
+
+        assertThat(index.countAtLeast(MIN)).isEqualTo(2);
+        assertThat(index.findIds(MIN, MAX, MIN, 0L, 10)).containsExactly(1, 7);
+    }
+
+    @Test
+    void manyInsertsSplitBlocksAndKeepOrder() {
+        givenSnapshot();
+        index.build();
+
+        // 블록 크기(1024)보다 많이 넣어 블록 분할과 Fenwick 트리 재계산을 거치게 합니다.
+        int products = 5000;
+        for (long id = products; id >= 1; id--) {
+            index.onProductChanged(created(id, BigDecimal.valueOf(id % 100, 0).toPlainString()));
+        }
+
+        assertThat(index.countAtLeast(MIN)).isEqualTo(products);
+        assertThat(index.countAtLeast(new BigDecimal("50"))).isEqualTo(products / 2);
+        long[] ids = index.findIds(new BigDecimal("99"), new BigDecimal("99"), new BigDecimal("99"), 0L, products);
+        assertThat(ids).hasSize(products / 100).isSorted();
+        assertThat(ids[0]).isEqualTo(99);
+    }
+
+    // =====================================================
+    // 테스트 헬퍼
+    // =====================================================
+
+    private void givenSnapshot(Object[]... entries) {
+        when(productRepository.streamPriceIndexEntries()).thenAnswer(invocation -> Arrays.stream(entries));
+    }
+
+    private static Object[] entry(String price, long id) {
+        return new Object[] { new BigDecimal(price), id };
+    }
+
+    private static ProductChangedEvent created(long id, String price) {
+        return new ProductChangedEvent(ProductChangedEvent.Type.CREATED, id, null, new BigDecimal(price));
+    }
+
+    private static ProductChangedEvent updated(long id, String oldPrice, String newPrice) {
+        return new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, id,
+                new BigDecimal(oldPrice), new BigDecimal(newPrice));
+    }
+
+    private static ProductChangedEvent deleted(long id, String price) {
+        return new ProductChangedEvent(ProductChangedEvent.Type.DELETED, id, new BigDecimal(price), null);
+    }
+}
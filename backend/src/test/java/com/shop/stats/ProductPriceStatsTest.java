@@ -0,0 +1,153 @@
+package com.shop.stats;
+
+import com.shop.event.ProductChangedEvent;
+import com.shop.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * ProductPriceStats 단위 테스트 (이벤트 증분 갱신과 DB 스냅숏 보정)
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductPriceStatsTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductPriceStats stats;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        stats = new ProductPriceStats(productRepository, transactionManager);
+    }
+
+    @Test
+    void notReadyBeforeFirstReconcile() {
+        assertThat(stats.isReady()).isFalse();
+        assertThat(stats.getAveragePrice()).isEmpty();
+    }
+
+    @Test
+    void eventsUpdateStatsIncrementally() {
+        when(productRepository.countGroupByPrice()).thenReturn(rows(row("10.00", 2), row("30.00", 1)));
+        stats.reconcile();
+
+        stats.onProductChanged(updated(1L, "10.00", "20.00"));
+        stats.onProductChanged(created(4L, "40"));
+        stats.onProductChanged(deleted(3L, "30.00"));
+
+        Map<String, Object> result = stats.getStats();
+        assertThat(result.get("count")).isEqualTo(3L);
+        assertThat((BigDecimal) result.get("sum")).isEqualByComparingTo("70.00");
+        assertThat((BigDecimal) result.get("minPrice")).isEqualByComparingTo("10.00");
+        assertThat((BigDecimal) result.get("maxPrice")).isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    void eventCommittedDuringReconcileIsNotCountedTwice() {
+        // 스냅숏을 읽는 동안 생성 이벤트가 도착하고, 그 상품은 스냅숏에도 이미 들어 있는 경우
+        when(productRepository.countGroupByPrice()).thenAnswer(invocation -> {
+            stats.onProductChanged(created(4L, "40.00"));
+            return rows(row("10.00", 2), row("40.00", 1));
+        });
+        when(productRepository.findPricesByIdIn(anyCollection())).thenReturn(rows(price(4L, "40.00")));
+
+        stats.reconcile();
+
+        Map<String, Object> result = stats.getStats();
+        assertThat(result.get("count")).isEqualTo(3L);
+        assertThat((BigDecimal) result.get("sum")).isEqualByComparingTo("60.00");
+    }
+
+    @Test
+    void eventsMissingFromSnapshotAreReplayed() {
+        // 상품 1, 2, 3 (10.00, 10.00, 30.00)이 있고 스냅숏을 읽는 동안 세 변경이 커밋된 경우:
+        // 1번 가격 변경은 스냅숏에 들어 있고, 4번 생성과 3번 삭제는 스냅숏보다 늦게 커밋되어 빠져 있음
+        when(productRepository.countGroupByPrice()).thenAnswer(invocation -> {
+            stats.onProductChanged(updated(1L, "10.00", "20.00"));
+            stats.onProductChanged(created(4L, "40.00"));
+            stats.onProductChanged(deleted(3L, "30.00"));
+            return rows(row("10.00", 1), row("20.00", 1), row("30.00", 1));
+        });
+        when(productRepository.findPricesByIdIn(anyCollection()))
+                .thenReturn(rows(price(1L, "20.00"), price(3L, "30.00")));
+
+        stats.reconcile();
+
+        Map<String, Object> result = stats.getStats();
+        assertThat(result.get("count")).isEqualTo(3L);
+        assertThat((BigDecimal) result.get("sum")).isEqualByComparingTo("70.00");
+        assertThat((BigDecimal) result.get("maxPrice")).isEqualByComparingTo("40.00");
+
+        // 보정이 끝난 뒤의 이벤트는 평소처럼 증분 반영됩니다.
+        stats.onProductChanged(deleted(4L, "40.00"));
+        assertThat(stats.getStats().get("count")).isEqualTo(2L);
+    }
+
+    @Test
+    void reconcileReplacesDriftedStats() {
+        when(productRepository.countGroupByPrice())
+                .thenReturn(rows(row("10.00", 1)))
+                .thenReturn(rows(row("10.00", 1), row("25.00", 1)));
+        stats.reconcile();
+
+        // 통계에 없는 가격의 삭제는 무시되고, 다음 보정에서 DB 값으로 바로잡힙니다.
+        stats.onProductChanged(deleted(9L, "99.00"));
+        stats.reconcile();
+
+        Map<String, Object> result = stats.getStats();
+        assertThat(result.get("count")).isEqualTo(2L);
+        assertThat((BigDecimal) result.get("sum")).isEqualByComparingTo("35.00");
+        assertThat(stats.getAveragePrice()).hasValueSatisfying(
+                average -> assertThat(average).isEqualByComparingTo("17.50"));
+    }
+
+    // =====================================================
+    // 테스트 헬퍼
+    // =====================================================
+
+    private static Object[] row(String price, long count) {
+        return new Object[] { new BigDecimal(price), count };
+    }
+
+    private static Object[] price(long id, String price) {
+        return new Object[] { id, new BigDecimal(price) };
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return Arrays.asList(rows);
+    }
+
+    private static ProductChangedEvent created(long id, String price) {
+        return new ProductChangedEvent(ProductChangedEvent.Type.CREATED, id, null, new BigDecimal(price));
+    }
+
+    private static ProductChangedEvent updated(long id, String oldPrice, String newPrice) {
+        return new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, id,
+                new BigDecimal(oldPrice), new BigDecimal(newPrice));
+    }
+
+    private static ProductChangedEvent deleted(long id, String price) {
+        return new ProductChangedEvent(ProductChangedEvent.Type.DELETED, id, new BigDecimal(price), null);
+    }
+}
@@ -120,7 +120,9 @@ const ProductForm = ({ product, onSave, onCancel, mode = 'create' }) => {
         result = await updateProduct(product.id, {
           name: formData.name.trim(),
           description: formData.description.trim(),
-          price: parseFloat(formData.price)
+          price: parseFloat(formData.price),
+          // 편집을 시작한 시점의 버전 (그 사이 다른 곳에서 수정되었으면 서버가 412로 거부)
+          version: product.version
         });
       } else {
         // 새 상품 생성